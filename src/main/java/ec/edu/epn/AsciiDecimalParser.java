@@ -0,0 +1,117 @@
+package ec.edu.epn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Convierte números decimales ASCII directamente desde bytes, sin crear {@code String}.
+ *
+ * La ruta rápida cubre mantisas de hasta 15 dígitos significativos con exponente
+ * decimal de hasta 22: en ese rango tanto la mantisa como la potencia de diez son
+ * exactas en {@code double}, así que una sola multiplicación o división da el
+ * resultado correctamente redondeado, igual que {@link Double#parseDouble(String)}.
+ * Los casos restantes, poco frecuentes, se delegan en {@code Double.parseDouble}.
+ */
+final class AsciiDecimalParser {
+
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private AsciiDecimalParser() {
+    }
+
+    /**
+     * Interpreta {@code [from, to)} como un número con signo opcional, parte entera,
+     * fracción y exponente ({@code -12.5e3}).
+     *
+     * @return El valor leído, o {@link Double#NaN} si el texto no es un número válido.
+     */
+    static double parse(ByteBuffer buffer, int from, int to) {
+        int position = from;
+        boolean negative = false;
+        if (position < to && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+            negative = buffer.get(position) == '-';
+            position++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenPoint = false;
+        for (; position < to; position++) {
+            int b = buffer.get(position);
+            if (b >= '0' && b <= '9') {
+                digits++;
+                if (mantissa == 0 && b == '0') {
+                    if (seenPoint) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                significantDigits++;
+                if (significantDigits <= MAX_FAST_DIGITS) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (seenPoint) {
+                        exponent--;
+                    }
+                } else if (!seenPoint) {
+                    exponent++;
+                }
+            } else if (b == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+
+        if (position < to && (buffer.get(position) == 'e' || buffer.get(position) == 'E')) {
+            position++;
+            boolean negativeExponent = false;
+            if (position < to && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+                negativeExponent = buffer.get(position) == '-';
+                position++;
+            }
+            int exponentStart = position;
+            int explicitExponent = 0;
+            for (; position < to; position++) {
+                int b = buffer.get(position);
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                explicitExponent = Math.min(explicitExponent * 10 + (b - '0'), 100_000);
+            }
+            if (position == exponentStart) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (position != to) {
+            return Double.NaN;
+        }
+
+        if (significantDigits > MAX_FAST_DIGITS || exponent < -22 || exponent > 22) {
+            return slowParse(buffer, from, to);
+        }
+        double value = exponent >= 0
+            ? mantissa * POWERS_OF_TEN[exponent]
+            : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    private static double slowParse(ByteBuffer buffer, int from, int to) {
+        byte[] text = new byte[to - from];
+        buffer.get(from, text);
+        return Double.parseDouble(new String(text, StandardCharsets.US_ASCII));
+    }
+}
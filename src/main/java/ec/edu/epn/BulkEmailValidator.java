@@ -0,0 +1,153 @@
+package ec.edu.epn;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Valida listas de emails de cientos de millones de líneas, una dirección por línea.
+ *
+ * El archivo se proyecta en memoria con {@link FileChannel#map}, se divide en
+ * fragmentos que terminan en fin de línea y cada fragmento se valida en paralelo
+ * directamente sobre los bytes, sin crear un {@code String} por línea. Cada línea
+ * se evalúa igual que {@link EmailValidator#isValidEmail(String)} o, en modo
+ * estricto, que {@link EmailValidator#isValidEmailStrict(String)}; un {@code '\r'}
+ * final se descarta.
+ *
+ * Opcionalmente escribe las líneas válidas y las inválidas en dos archivos, en el
+ * orden de la entrada. Cada fragmento escribe en su propio archivo parcial a través
+ * de un {@link FileChannel} y los parciales se concatenan al final.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class BulkEmailValidator {
+
+    private final boolean strict;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un validador con las reglas básicas que usa el pool común.
+     */
+    public BulkEmailValidator() {
+        this(false, MappedFileChunks.DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un validador configurado.
+     *
+     * @param strict    true para usar la gramática estricta de RFC 5321 / RFC 5322.
+     * @param chunkSize El tamaño aproximado en bytes de cada fragmento paralelo.
+     * @param pool      El pool donde se procesan los fragmentos.
+     * @throws IllegalArgumentException Si el tamaño de fragmento no es positivo.
+     */
+    public BulkEmailValidator(boolean strict, int chunkSize, ForkJoinPool pool) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de fragmento debe ser positivo.");
+        }
+        this.strict = strict;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Cuenta las líneas válidas e inválidas de un archivo.
+     *
+     * @param input El archivo de entrada.
+     * @return El resumen de la validación.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public EmailValidationSummary validate(Path input) throws IOException {
+        return validate(input, null, null);
+    }
+
+    /**
+     * Valida un archivo y escribe las líneas válidas e inválidas, cada una terminada
+     * en {@code '\n'}, en los archivos indicados.
+     *
+     * @param input         El archivo de entrada.
+     * @param validOutput   El archivo para las líneas válidas, o null para no escribirlas.
+     * @param invalidOutput El archivo para las líneas inválidas, o null para no escribirlas.
+     * @return El resumen de la validación.
+     * @throws IOException Si algún archivo no se puede leer o escribir.
+     */
+    public EmailValidationSummary validate(Path input, Path validOutput, Path invalidOutput) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long[] bounds = MappedFileChunks.split(channel, chunkSize);
+            int chunks = bounds.length - 1;
+            List<ChunkResult> results = MappedFileChunks.invokeWithParts(pool, chunks,
+                new Path[] {validOutput, invalidOutput},
+                (chunk, parts) -> () -> validateChunk(
+                    MappedFileChunks.map(channel, bounds[chunk], bounds[chunk + 1]), parts[0], parts[1]),
+                "Error al validar el archivo de emails.", "Validación interrumpida.");
+
+            long lines = 0;
+            long valid = 0;
+            for (ChunkResult result : results) {
+                lines += result.lines;
+                valid += result.valid;
+            }
+            return new EmailValidationSummary(lines, valid);
+        }
+    }
+
+    private ChunkResult validateChunk(MappedByteBuffer chunk, Path validPart, Path invalidPart) throws IOException {
+        ChunkResult result = new ChunkResult();
+        LineWriter validWriter = validPart == null ? null : new LineWriter(validPart);
+        LineWriter invalidWriter = invalidPart == null ? null : new LineWriter(invalidPart);
+        try {
+            int limit = chunk.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                // En modo básico el autómata de EmailValidator avanza mientras se busca el fin de línea.
+                int state = EmailValidator.NONE_SEEN;
+                int lineEnd = lineStart;
+                byte b;
+                while (lineEnd < limit && (b = chunk.get(lineEnd)) != '\n') {
+                    state = EmailValidator.nextState(state, b);
+                    lineEnd++;
+                }
+                int next = lineEnd + 1;
+                if (lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+
+                boolean valid = strict
+                    ? StrictEmailGrammar.matches(chunk, lineStart, lineEnd)
+                    : state == EmailValidator.BOTH_SEEN;
+                result.lines++;
+                if (valid) {
+                    result.valid++;
+                }
+                LineWriter writer = valid ? validWriter : invalidWriter;
+                if (writer != null) {
+                    writer.write(chunk, lineStart, lineEnd);
+                }
+                lineStart = next;
+            }
+        } finally {
+            try {
+                if (validWriter != null) {
+                    validWriter.close();
+                }
+            } finally {
+                if (invalidWriter != null) {
+                    invalidWriter.close();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Contadores parciales de un fragmento; solo los usa el hilo que lo procesa.
+     */
+    private static final class ChunkResult {
+        long lines;
+        long valid;
+    }
+}
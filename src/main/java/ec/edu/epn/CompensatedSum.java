@@ -0,0 +1,43 @@
+package ec.edu.epn;
+
+/**
+ * Acumulador de suma compensada de Neumaier (variante de Kahan).
+ *
+ * Conserva en {@code compensation} el error de redondeo de cada suma, de modo que
+ * el resultado de {@link #sum()} es casi independiente del orden y la magnitud de
+ * los sumandos. No es seguro para uso concurrente.
+ */
+final class CompensatedSum {
+
+    private double sum;
+    private double compensation;
+
+    void add(double value) {
+        double next = sum + value;
+        compensation += roundingError(sum, value, next);
+        sum = next;
+    }
+
+    /**
+     * Combina otro acumulador parcial, conservando también su compensación.
+     */
+    void add(CompensatedSum other) {
+        add(other.sum);
+        compensation += other.compensation;
+    }
+
+    double sum() {
+        return sum + compensation;
+    }
+
+    /**
+     * Paso de compensación de Neumaier para quien guarda sumas y compensaciones en
+     * arreglos propios.
+     *
+     * @param next El valor redondeado de {@code sum + value}.
+     * @return El error de redondeo de {@code next}, que se acumula en la compensación.
+     */
+    static double roundingError(double sum, double value, double next) {
+        return Math.abs(sum) >= Math.abs(value) ? (sum - next) + value : (value - next) + sum;
+    }
+}
@@ -0,0 +1,107 @@
+package ec.edu.epn;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Suma paralela reproducible de arreglos de resultados de impuestos.
+ *
+ * El arreglo se reduce con un árbol de forma fija: se divide por bloques de
+ * {@value #BLOCK_SIZE} elementos y cada nodo parte su rango por la mitad de sus
+ * bloques. La forma del árbol depende solo de la longitud del rango, nunca del
+ * número de hilos ni del orden en que terminan las tareas, y cada hoja y cada
+ * combinación usan suma compensada de Neumaier. Por eso el resultado es idéntico
+ * bit a bit con cualquier paralelismo, mientras que el trabajo sí se reparte entre
+ * los núcleos disponibles.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class DeterministicSummation {
+
+    /** Elementos por hoja del árbol de reducción. */
+    public static final int BLOCK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un sumador que usa el pool común.
+     */
+    public DeterministicSummation() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un sumador que usa el pool indicado.
+     *
+     * @param pool El pool donde se ejecutan las tareas de reducción.
+     */
+    public DeterministicSummation(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Suma todos los elementos de un arreglo.
+     *
+     * @param values Los valores a sumar, por ejemplo totales de
+     *               {@link TaxCalculator#calculateTotalsWithTax(double[], double, double[], double[], long[])}.
+     * @return La suma compensada, idéntica en cualquier ejecución.
+     */
+    public double sum(double[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    /**
+     * Suma los elementos del rango {@code [from, to)} de un arreglo.
+     *
+     * @param values Los valores a sumar.
+     * @param from   Índice inicial, inclusivo.
+     * @param to     Índice final, exclusivo.
+     * @return La suma compensada, idéntica en cualquier ejecución.
+     * @throws IndexOutOfBoundsException Si el rango no es válido.
+     */
+    public double sum(double[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        if (to - from <= BLOCK_SIZE) {
+            return sumBlock(values, from, to).sum();
+        }
+        return pool.invoke(new SumTask(values, from, to)).sum();
+    }
+
+    private static CompensatedSum sumBlock(double[] values, int from, int to) {
+        CompensatedSum block = new CompensatedSum();
+        for (int i = from; i < to; i++) {
+            block.add(values[i]);
+        }
+        return block;
+    }
+
+    private static final class SumTask extends RecursiveTask<CompensatedSum> {
+
+        private final double[] values;
+        private final int from;
+        private final int to;
+
+        SumTask(double[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected CompensatedSum compute() {
+            int length = to - from;
+            if (length <= BLOCK_SIZE) {
+                return sumBlock(values, from, to);
+            }
+            int blocks = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            int middle = from + (blocks / 2) * BLOCK_SIZE;
+            SumTask right = new SumTask(values, middle, to);
+            right.fork();
+            CompensatedSum left = new SumTask(values, from, middle).compute();
+            // Siempre izquierda + derecha, sin importar qué mitad terminó primero.
+            left.add(right.join());
+            return left;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package ec.edu.epn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lista compacta de dominios bloqueados (desechables, spam, etc.) almacenada fuera
+ * del heap.
+ *
+ * Un dominio está bloqueado si él o alguno de sus dominios padre está en la lista:
+ * si se bloquea {@code mailinator.com}, también se bloquea {@code eu.mailinator.com}.
+ * Los dominios se comparan sin distinguir mayúsculas ASCII.
+ *
+ * Todo el índice vive en un único {@link ByteBuffer} directo o proyectado en memoria:
+ * - Un filtro de Bloom por bloques (unos 10 bits por dominio) descarta casi todas
+ *   las consultas de dominios que no están en la lista sin tocar el resto del
+ *   índice. Los bits de cada dominio caen en un mismo bloque de 64 bytes, así que
+ *   cada consulta al filtro lee una sola línea de caché.
+ * - Los dominios, escritos al revés ({@code moc.rotanliam}) y ordenados, se guardan
+ *   concatenados junto a una tabla de posiciones y se buscan por búsqueda binaria.
+ *   Al estar invertidos, los dominios padre de un dominio son prefijos de su forma
+ *   invertida, así que un solo recorrido del dominio consultado, del final al
+ *   principio, evalúa todos los candidatos.
+ *
+ * Las consultas no crean objetos. El índice se construye desde un archivo de texto
+ * con un dominio por línea y se puede guardar como binario para proyectarlo luego
+ * con {@link #load(Path)} sin reconstruirlo.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class DomainBlocklist {
+
+    private static final int MAGIC = 0x44424C31;
+    private static final int HEADER_SIZE = 64;
+    private static final int WORDS_PER_BLOCK = 8;
+    private static final int BITS_PER_DOMAIN = 10;
+    private static final int HASH_COUNT = 7;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final ByteBuffer index;
+    private final int count;
+    private final int blockMask;
+    private final int offsetsBase;
+    private final int keysBase;
+
+    private DomainBlocklist(ByteBuffer index) throws IOException {
+        this.index = index.order(ByteOrder.LITTLE_ENDIAN);
+        if (index.capacity() < HEADER_SIZE || index.getInt(0) != MAGIC) {
+            throw new IOException("El archivo no es un índice de dominios bloqueados.");
+        }
+        this.count = index.getInt(4);
+        int bloomWords = index.getInt(8);
+        int keyBytes = index.getInt(16);
+        this.blockMask = bloomWords / WORDS_PER_BLOCK - 1;
+        this.offsetsBase = HEADER_SIZE + bloomWords * Long.BYTES;
+        this.keysBase = offsetsBase + (count + 1) * Integer.BYTES;
+        if (count < 0 || bloomWords < WORDS_PER_BLOCK || Integer.bitCount(bloomWords) != 1
+                || index.getInt(12) != HASH_COUNT
+                || (long) keysBase + keyBytes != index.capacity()) {
+            throw new IOException("El índice de dominios bloqueados está dañado.");
+        }
+    }
+
+    /**
+     * Construye el índice desde un archivo de texto UTF-8 con un dominio por línea.
+     *
+     * Se ignoran las líneas vacías y las que empiezan con {@code '#'}, los espacios
+     * alrededor, un prefijo {@code "*."} o {@code "."} y un punto final. Los dominios
+     * internacionalizados deben estar en su forma ASCII (punycode).
+     *
+     * @param domainsFile El archivo de texto.
+     * @return El índice en un buffer directo.
+     * @throws IOException              Si el archivo no se puede leer.
+     * @throws IllegalArgumentException Si alguna línea contiene caracteres no ASCII.
+     */
+    public static DomainBlocklist build(Path domainsFile) throws IOException {
+        KeyBuffer keys = new KeyBuffer();
+        try (FileChannel channel = FileChannel.open(domainsFile, StandardOpenOption.READ)) {
+            long[] bounds = MappedFileChunks.split(channel, MappedFileChunks.DEFAULT_CHUNK_SIZE);
+            long line = 0;
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                line = readChunk(MappedFileChunks.map(channel, bounds[i], bounds[i + 1]), keys, line);
+            }
+        }
+        return keys.toBlocklist();
+    }
+
+    /**
+     * Proyecta en memoria un índice guardado con {@link #save(Path)}.
+     *
+     * @param indexFile El archivo binario del índice.
+     * @return El índice, respaldado por el archivo proyectado.
+     * @throws IOException Si el archivo no se puede leer o no es un índice válido.
+     */
+    public static DomainBlocklist load(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("El índice de dominios bloqueados está dañado.");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new DomainBlocklist(mapped);
+        }
+    }
+
+    /**
+     * Guarda el índice como binario para proyectarlo luego con {@link #load(Path)}.
+     *
+     * @param indexFile El archivo de destino; se reemplaza si existe.
+     * @throws IOException Si el archivo no se puede escribir.
+     */
+    public void save(Path indexFile) throws IOException {
+        try (FileChannel out = FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer contents = index.duplicate().clear();
+            while (contents.hasRemaining()) {
+                out.write(contents);
+            }
+        }
+    }
+
+    /**
+     * @return El número de dominios distintos de la lista.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Verifica si un dominio o alguno de sus dominios padre está en la lista.
+     *
+     * @param domain El dominio, por ejemplo {@code "eu.mailinator.com"}.
+     * @return true si el dominio está bloqueado.
+     */
+    public boolean isBlocked(CharSequence domain) {
+        return isBlocked(domain, 0, domain.length());
+    }
+
+    /**
+     * Igual que {@link #isBlocked(CharSequence)} para el dominio {@code text[from, to)}.
+     */
+    boolean isBlocked(CharSequence text, int from, int to) {
+        long state = FNV_OFFSET;
+        for (int i = to - 1; i >= from; i--) {
+            char c = toLowerAscii(text.charAt(i));
+            if (c >= 0x80) {
+                // Ningún dominio de la lista contiene este carácter ni, por tanto, los candidatos restantes.
+                return false;
+            }
+            state = (state ^ c) * FNV_PRIME;
+            if ((i == from || text.charAt(i - 1) == '.') && mightContain(mix(state)) && contains(text, i, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mightContain(long hash) {
+        int base = HEADER_SIZE + ((int) hash & blockMask) * WORDS_PER_BLOCK * Long.BYTES;
+        long positions = mix(hash);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int position = (int) (positions >>> (i * 9)) & 511;
+            if ((index.getLong(base + (position >>> 6) * Long.BYTES) & (1L << position)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Búsqueda binaria del candidato {@code text[from, to)} entre las claves invertidas.
+     */
+    private boolean contains(CharSequence text, int from, int to) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareKey(middle, text, from, to);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compara la clave {@code key} con la forma invertida de {@code text[from, to)}.
+     */
+    private int compareKey(int key, CharSequence text, int from, int to) {
+        int start = index.getInt(offsetsBase + key * Integer.BYTES);
+        int keyLength = index.getInt(offsetsBase + (key + 1) * Integer.BYTES) - start;
+        int length = to - from;
+        int common = Math.min(keyLength, length);
+        for (int j = 0; j < common; j++) {
+            int difference = index.get(keysBase + start + j) - toLowerAscii(text.charAt(to - 1 - j));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return keyLength - length;
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Mezcla final de MurmurHash3 sobre el estado FNV-1a del candidato.
+     */
+    private static long mix(long state) {
+        long h = state;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Lee las líneas de un fragmento y agrega cada dominio, invertido y en minúsculas.
+     *
+     * @return El número de la última línea leída.
+     */
+    private static long readChunk(ByteBuffer chunk, KeyBuffer keys, long line) {
+        int limit = chunk.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            line++;
+            int from = lineStart;
+            int to = lineEnd;
+            while (from < to && (chunk.get(from) & 0xFF) <= ' ') {
+                from++;
+            }
+            while (to > from && (chunk.get(to - 1) & 0xFF) <= ' ') {
+                to--;
+            }
+            boolean comment = from < to && chunk.get(from) == '#';
+            if (to > from && chunk.get(from) == '*') {
+                from++;
+            }
+            while (from < to && chunk.get(from) == '.') {
+                from++;
+            }
+            while (to > from && chunk.get(to - 1) == '.') {
+                to--;
+            }
+            if (from < to && !comment) {
+                keys.add(chunk, from, to, line);
+            }
+            lineStart = next;
+        }
+        return line;
+    }
+
+    /**
+     * Claves invertidas durante la construcción; se ordenan, se eliminan duplicados y
+     * se copian al buffer directo final.
+     */
+    private static final class KeyBuffer {
+
+        private byte[] bytes = new byte[1 << 16];
+        private int[] starts = new int[1 << 12];
+        private int size;
+        private int length;
+
+        void add(ByteBuffer source, int from, int to, long line) {
+            int keyLength = to - from;
+            if (length + keyLength > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + keyLength));
+            }
+            if (size + 2 > starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            for (int i = 0; i < keyLength; i++) {
+                byte b = source.get(to - 1 - i);
+                if (b < 0) {
+                    throw new IllegalArgumentException("Dominio no ASCII en la línea " + line + ".");
+                }
+                bytes[length + i] = (byte) toLowerAscii((char) b);
+            }
+            starts[size++] = length;
+            length += keyLength;
+            starts[size] = length;
+        }
+
+        DomainBlocklist toBlocklist() throws IOException {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            sort(order, 0, size - 1);
+            int distinct = 0;
+            int keyBytes = 0;
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || compare(order[i - 1], order[i]) != 0) {
+                    order[distinct++] = order[i];
+                    keyBytes += keyLength(order[i]);
+                }
+            }
+
+            int blocks = Integer.highestOneBit(Math.max(1, distinct * BITS_PER_DOMAIN / 512)) << 1;
+            int bloomWords = blocks * WORDS_PER_BLOCK;
+            long capacity = HEADER_SIZE + (long) bloomWords * Long.BYTES
+                + (long) (distinct + 1) * Integer.BYTES + keyBytes;
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("La lista de dominios excede el tamaño máximo del índice.");
+            }
+            ByteBuffer index = ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.LITTLE_ENDIAN);
+            index.putInt(0, MAGIC).putInt(4, distinct).putInt(8, bloomWords)
+                .putInt(12, HASH_COUNT).putInt(16, keyBytes);
+
+            int offsetsBase = HEADER_SIZE + bloomWords * Long.BYTES;
+            int keysBase = offsetsBase + (distinct + 1) * Integer.BYTES;
+            int position = 0;
+            for (int k = 0; k < distinct; k++) {
+                int key = order[k];
+                index.putInt(offsetsBase + k * Integer.BYTES, position);
+                index.put(keysBase + position, bytes, starts[key], keyLength(key));
+                position += keyLength(key);
+
+                long state = FNV_OFFSET;
+                for (int j = starts[key]; j < starts[key + 1]; j++) {
+                    state = (state ^ bytes[j]) * FNV_PRIME;
+                }
+                long hash = mix(state);
+                int base = HEADER_SIZE + ((int) hash & (blocks - 1)) * WORDS_PER_BLOCK * Long.BYTES;
+                long positions = mix(hash);
+                for (int i = 0; i < HASH_COUNT; i++) {
+                    int bit = (int) (positions >>> (i * 9)) & 511;
+                    int word = base + (bit >>> 6) * Long.BYTES;
+                    index.putLong(word, index.getLong(word) | (1L << bit));
+                }
+            }
+            index.putInt(offsetsBase + distinct * Integer.BYTES, position);
+            return new DomainBlocklist(index);
+        }
+
+        private int keyLength(int key) {
+            return starts[key + 1] - starts[key];
+        }
+
+        private int compare(int a, int b) {
+            return Arrays.compareUnsigned(bytes, starts[a], starts[a + 1], bytes, starts[b], starts[b + 1]);
+        }
+
+        /**
+         * Quicksort de índices (mediana de tres, inserción en rangos pequeños) que
+         * ordena las claves sin crear un objeto por dominio.
+         */
+        private void sort(int[] order, int low, int high) {
+            while (high - low > 16) {
+                int middle = (low + high) >>> 1;
+                if (compare(order[middle], order[low]) < 0) {
+                    swap(order, middle, low);
+                }
+                if (compare(order[high], order[low]) < 0) {
+                    swap(order, high, low);
+                }
+                if (compare(order[high], order[middle]) < 0) {
+                    swap(order, high, middle);
+                }
+                int pivot = order[middle];
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (compare(order[i], pivot) < 0) {
+                        i++;
+                    }
+                    while (compare(order[j], pivot) > 0) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(order, i++, j--);
+                    }
+                }
+                // Recursión sobre la parte más corta para acotar la profundidad de la pila.
+                if (j - low < high - i) {
+                    sort(order, low, j);
+                    low = i;
+                } else {
+                    sort(order, i, high);
+                    high = j;
+                }
+            }
+            for (int i = low + 1; i <= high; i++) {
+                int key = order[i];
+                int j = i - 1;
+                while (j >= low && compare(order[j], key) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = key;
+            }
+        }
+
+        private static void swap(int[] order, int i, int j) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+    }
+}
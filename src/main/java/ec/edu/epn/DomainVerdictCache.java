@@ -0,0 +1,533 @@
+package ec.edu.epn;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché concurrente y acotada del veredicto (válido o inválido) de cada dominio de
+ * email, para no repetir en cada llamada la validación de los dominios frecuentes.
+ *
+ * La caché se divide en segmentos independientes, cada uno con su propio monitor,
+ * de modo que los hilos que consultan dominios distintos rara vez compiten. Cada
+ * segmento aplica la política W-TinyLFU:
+ * - Las entradas nuevas entran a una ventana LRU pequeña (1% del presupuesto).
+ * - Al salir de la ventana, una entrada solo se admite en la región principal
+ *   (LRU segmentada: prueba y protegida) si su frecuencia estimada supera la de la
+ *   víctima que desplazaría. Las frecuencias se estiman con un Count-Min Sketch de
+ *   contadores de 4 bits que se reducen a la mitad periódicamente, así que los
+ *   dominios que dejan de consultarse pierden peso.
+ *
+ * El tamaño se limita en bytes estimados: cada entrada pesa {@value #ENTRY_OVERHEAD}
+ * bytes más un byte por carácter del dominio. Opcionalmente, las entradas caducan
+ * tras un tiempo de vida; las caducadas se descartan al consultarlas o al ser
+ * desalojadas. Los dominios se comparan sin distinguir mayúsculas ASCII.
+ *
+ * Las consultas que aciertan no crean objetos.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class DomainVerdictCache {
+
+    /** Peso estimado en bytes de una entrada, sin contar los caracteres del dominio. */
+    static final int ENTRY_OVERHEAD = 96;
+
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    // Lista LRU a la que pertenece cada entrada.
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Crea una caché sin caducidad.
+     *
+     * @param maximumBytes El tamaño máximo estimado de la caché, en bytes.
+     * @throws IllegalArgumentException Si el tamaño máximo no es positivo.
+     */
+    public DomainVerdictCache(long maximumBytes) {
+        this(maximumBytes, null);
+    }
+
+    /**
+     * Crea una caché cuyas entradas caducan tras un tiempo de vida.
+     *
+     * @param maximumBytes El tamaño máximo estimado de la caché, en bytes.
+     * @param timeToLive   El tiempo de vida de cada entrada, o null para no caducar.
+     * @throws IllegalArgumentException Si el tamaño máximo no es positivo o el tiempo de vida no es positivo.
+     */
+    public DomainVerdictCache(long maximumBytes, Duration timeToLive) {
+        this(maximumBytes, toNanos(timeToLive), DEFAULT_SEGMENTS, System::nanoTime);
+    }
+
+    DomainVerdictCache(long maximumBytes, long timeToLiveNanos, int segmentCount, LongSupplier ticker) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser positivo.");
+        }
+        if (segmentCount <= 0 || Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("El número de segmentos debe ser una potencia de dos.");
+        }
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(Math.max(1, maximumBytes / segmentCount));
+        }
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Obtiene el veredicto guardado de un dominio.
+     *
+     * @param domain El dominio, por ejemplo {@code "epn.edu.ec"}.
+     * @return {@link Boolean#TRUE} o {@link Boolean#FALSE}, o null si no está en la caché.
+     */
+    public Boolean getIfPresent(CharSequence domain) {
+        return getIfPresent(domain, 0, domain.length());
+    }
+
+    /**
+     * Obtiene el veredicto del dominio {@code text[from, to)} sin crear un String.
+     */
+    Boolean getIfPresent(CharSequence text, int from, int to) {
+        int hash = hash(text, from, to);
+        Boolean verdict = segmentFor(hash).get(text, from, to, hash, ticker.getAsLong());
+        if (verdict == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return verdict;
+    }
+
+    /**
+     * Guarda o reemplaza el veredicto de un dominio.
+     *
+     * @param domain  El dominio.
+     * @param verdict true si el dominio es válido.
+     */
+    public void put(CharSequence domain, boolean verdict) {
+        put(domain, 0, domain.length(), verdict);
+    }
+
+    /**
+     * Guarda el veredicto del dominio {@code text[from, to)}.
+     */
+    void put(CharSequence text, int from, int to, boolean verdict) {
+        int hash = hash(text, from, to);
+        long now = ticker.getAsLong();
+        long expiresAt = timeToLiveNanos == 0 ? Long.MAX_VALUE : now + timeToLiveNanos;
+        segmentFor(hash).put(text, from, to, hash, verdict, now, expiresAt);
+    }
+
+    /**
+     * Elimina todas las entradas. Las estadísticas no se reinician.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return El número de entradas en la caché, incluidas las caducadas aún no descartadas.
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return El tamaño estimado en bytes de las entradas en la caché.
+     */
+    public long weightedSize() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            weight += segment.weight();
+        }
+        return weight;
+    }
+
+    /**
+     * @return El número de consultas que encontraron un veredicto vigente.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return El número de consultas que no encontraron un veredicto vigente.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return El número de entradas desalojadas por tamaño o descartadas por caducidad.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    /**
+     * Hash del dominio con las mayúsculas ASCII convertidas a minúsculas.
+     */
+    static int hash(CharSequence text, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + toLowerAscii(text.charAt(i));
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static long toNanos(Duration timeToLive) {
+        if (timeToLive == null) {
+            return 0;
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("El tiempo de vida debe ser positivo.");
+        }
+        return timeToLive.toNanos();
+    }
+
+    /**
+     * Entrada de la caché. Pertenece a una cadena de la tabla hash y a una de las
+     * tres listas LRU del segmento.
+     */
+    private static final class Node {
+        final String key;
+        final int hash;
+        final int weight;
+        boolean verdict;
+        long expiresAt;
+        int queue;
+        Node chain;
+        Node previous;
+        Node next;
+
+        Node(String key, int hash, boolean verdict, long expiresAt) {
+            this.key = key;
+            this.hash = hash;
+            this.weight = ENTRY_OVERHEAD + key.length();
+            this.verdict = verdict;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Lista doblemente enlazada en orden LRU: la cabeza es la entrada menos reciente.
+     */
+    private static final class AccessOrder {
+        Node head;
+        Node tail;
+        long weight;
+
+        void addLast(Node node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        void remove(Node node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            weight = 0;
+        }
+    }
+
+    /**
+     * Un segmento W-TinyLFU con su tabla hash, sus listas y su sketch de frecuencias.
+     * Todos los métodos se ejecutan con el monitor del segmento.
+     */
+    private final class Segment {
+
+        private final long windowMaximum;
+        private final long mainMaximum;
+        private final long protectedMaximum;
+        private final AccessOrder window = new AccessOrder();
+        private final AccessOrder probation = new AccessOrder();
+        private final AccessOrder protectedOrder = new AccessOrder();
+        private final FrequencySketch sketch;
+        private Node[] table = new Node[16];
+        private int size;
+
+        Segment(long maximumBytes) {
+            windowMaximum = Math.max(1, maximumBytes / 100);
+            mainMaximum = Math.max(1, maximumBytes - windowMaximum);
+            protectedMaximum = mainMaximum * 4 / 5;
+            sketch = new FrequencySketch((int) Math.min(1 << 24, Math.max(16, maximumBytes / ENTRY_OVERHEAD)));
+        }
+
+        synchronized Boolean get(CharSequence text, int from, int to, int hash, long now) {
+            Node node = find(text, from, to, hash);
+            if (node == null) {
+                return null;
+            }
+            if (now - node.expiresAt >= 0) {
+                unlink(node);
+                evictions.increment();
+                return null;
+            }
+            sketch.increment(hash);
+            onAccess(node);
+            return node.verdict ? Boolean.TRUE : Boolean.FALSE;
+        }
+
+        synchronized void put(CharSequence text, int from, int to, int hash, boolean verdict, long now,
+                              long expiresAt) {
+            sketch.increment(hash);
+            Node node = find(text, from, to, hash);
+            if (node != null) {
+                node.verdict = verdict;
+                node.expiresAt = expiresAt;
+                onAccess(node);
+                return;
+            }
+            char[] key = new char[to - from];
+            for (int i = from; i < to; i++) {
+                key[i - from] = toLowerAscii(text.charAt(i));
+            }
+            node = new Node(new String(key), hash, verdict, expiresAt);
+            int index = hash & (table.length - 1);
+            node.chain = table[index];
+            table[index] = node;
+            if (++size > table.length * 3 / 4) {
+                resize();
+            }
+            node.queue = WINDOW;
+            window.addLast(node);
+            evict(now);
+        }
+
+        synchronized void clear() {
+            Arrays.fill(table, null);
+            size = 0;
+            window.clear();
+            probation.clear();
+            protectedOrder.clear();
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long weight() {
+            return window.weight + probation.weight + protectedOrder.weight;
+        }
+
+        private void onAccess(Node node) {
+            switch (node.queue) {
+                case WINDOW -> {
+                    window.remove(node);
+                    window.addLast(node);
+                }
+                case PROBATION -> {
+                    probation.remove(node);
+                    node.queue = PROTECTED;
+                    protectedOrder.addLast(node);
+                    while (protectedOrder.weight > protectedMaximum) {
+                        Node demoted = protectedOrder.head;
+                        protectedOrder.remove(demoted);
+                        demoted.queue = PROBATION;
+                        probation.addLast(demoted);
+                    }
+                }
+                default -> {
+                    protectedOrder.remove(node);
+                    protectedOrder.addLast(node);
+                }
+            }
+        }
+
+        /**
+         * Pasa las entradas que desbordan la ventana a la región de prueba y, mientras
+         * la región principal exceda su presupuesto, enfrenta al candidato con la
+         * víctima LRU de prueba y desaloja al de menor frecuencia.
+         */
+        private void evict(long now) {
+            while (window.weight > windowMaximum) {
+                Node candidate = window.head;
+                window.remove(candidate);
+                candidate.queue = PROBATION;
+                probation.addLast(candidate);
+
+                while (probation.weight + protectedOrder.weight > mainMaximum) {
+                    Node victim = probation.head != null ? probation.head : protectedOrder.head;
+                    if (candidate == null || victim == candidate || now - victim.expiresAt >= 0) {
+                        evictNode(victim);
+                    } else if (now - candidate.expiresAt >= 0
+                            || sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                        evictNode(candidate);
+                        candidate = null;
+                    } else {
+                        evictNode(victim);
+                    }
+                }
+            }
+        }
+
+        private void evictNode(Node node) {
+            unlink(node);
+            evictions.increment();
+        }
+
+        private void unlink(Node node) {
+            switch (node.queue) {
+                case WINDOW -> window.remove(node);
+                case PROBATION -> probation.remove(node);
+                default -> protectedOrder.remove(node);
+            }
+            int index = node.hash & (table.length - 1);
+            Node current = table[index];
+            if (current == node) {
+                table[index] = node.chain;
+            } else {
+                while (current.chain != node) {
+                    current = current.chain;
+                }
+                current.chain = node.chain;
+            }
+            node.chain = null;
+            size--;
+        }
+
+        private Node find(CharSequence text, int from, int to, int hash) {
+            for (Node node = table[hash & (table.length - 1)]; node != null; node = node.chain) {
+                if (node.hash == hash && keyEquals(node.key, text, from, to)) {
+                    return node;
+                }
+            }
+            return null;
+        }
+
+        private void resize() {
+            Node[] old = table;
+            Node[] resized = new Node[old.length * 2];
+            for (Node head : old) {
+                Node node = head;
+                while (node != null) {
+                    Node next = node.chain;
+                    int index = node.hash & (resized.length - 1);
+                    node.chain = resized[index];
+                    resized[index] = node;
+                    node = next;
+                }
+            }
+            table = resized;
+        }
+
+        private boolean keyEquals(String key, CharSequence text, int from, int to) {
+            if (key.length() != to - from) {
+                return false;
+            }
+            for (int i = from; i < to; i++) {
+                if (key.charAt(i - from) != toLowerAscii(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Count-Min Sketch de 4 filas con contadores de 4 bits (16 por {@code long}).
+     * Cuando el número de incrementos alcanza diez veces el ancho, todos los
+     * contadores se reducen a la mitad para olvidar la popularidad antigua.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+            0x97CB3127L, 0xB0F8F4BBL, 0x9E3779B97F4A7C15L, 0xC6A4A7935BD1E995L
+        };
+        private static final long HALF_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.max(16, expectedEntries) - 1) << 1;
+            table = new long[width];
+            sampleSize = 10 * width;
+        }
+
+        int frequency(int hash) {
+            int frequency = Integer.MAX_VALUE;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, (int) ((table[index(hash, row)] >>> shift(hash, row)) & 0xF));
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(hash, row);
+                int shift = shift(hash, row);
+                if (((table[index] >>> shift) & 0xF) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & HALF_MASK;
+                }
+                additions >>>= 1;
+            }
+        }
+
+        private int index(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            h += h >>> 32;
+            return (int) h & (table.length - 1);
+        }
+
+        private static int shift(int hash, int row) {
+            return ((hash >>> (row << 3)) & 0xF) << 2;
+        }
+    }
+}
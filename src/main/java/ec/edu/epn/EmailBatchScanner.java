@@ -0,0 +1,241 @@
+package ec.edu.epn;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Validación básica de lotes de emails empaquetados en un único arreglo de bytes.
+ *
+ * Aplica las mismas reglas que {@link EmailValidator#isValidEmailUtf8(byte[], int, int)}
+ * a muchos registros a la vez. La ruta SIMD recorre los datos en bloques de 64 bytes
+ * y obtiene, con pocas instrucciones por bloque, mapas de bits de las posiciones de
+ * {@code '@'}, {@code '.'} y {@code '\n'}; cada registro se resuelve luego con
+ * operaciones de bits sobre los bloques que cubre. Si la JVM no se inició con
+ * {@code --add-modules jdk.incubator.vector}, se usa la ruta escalar.
+ *
+ * Los registros inválidos se marcan en una máscara con un bit por registro
+ * ({@code invalidMask[i >>> 6]}, bit {@code i & 63}).
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class EmailBatchScanner {
+
+    private static final int BLOCK_SIZE = Long.SIZE;
+
+    private final boolean vectorized;
+
+    /**
+     * Crea un escáner que usa SIMD cuando el módulo incubado está disponible.
+     */
+    public EmailBatchScanner() {
+        this(VectorSupport.AVAILABLE);
+    }
+
+    EmailBatchScanner(boolean vectorized) {
+        if (vectorized && !VectorSupport.AVAILABLE) {
+            throw new IllegalStateException("El módulo jdk.incubator.vector no está disponible.");
+        }
+        this.vectorized = vectorized;
+    }
+
+    /**
+     * Indica si este escáner ejecuta la ruta SIMD.
+     *
+     * @return true si se usa la Vector API, false si se usa la ruta escalar.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Valida {@code count} registros; el registro {@code i} ocupa
+     * {@code data[offsets[i], offsets[i + 1])}, por lo que los registros son
+     * contiguos y cada bloque de 64 bytes se clasifica una sola vez.
+     *
+     * @param data        Los bytes UTF-8 de los registros.
+     * @param offsets     Los límites de los registros; debe tener al menos {@code count + 1} elementos.
+     * @param count       El número de registros.
+     * @param invalidMask Salida: máscara de registros inválidos, de al menos {@code (count + 63) / 64} elementos.
+     * @return El número de registros inválidos.
+     * @throws IllegalArgumentException  Si count es negativo o los arreglos son demasiado cortos.
+     * @throws IndexOutOfBoundsException Si algún registro queda fuera de {@code data}.
+     */
+    public int validate(byte[] data, int[] offsets, int count, long[] invalidMask) {
+        if (count < 0 || offsets.length < count + 1) {
+            throw new IllegalArgumentException("El arreglo de límites debe tener count + 1 elementos.");
+        }
+        checkMask(count, invalidMask);
+        long[] words = new long[3];
+        int cachedBlock = -1;
+        int invalid = 0;
+        for (int record = 0; record < count; record++) {
+            int from = offsets[record];
+            int to = offsets[record + 1];
+            Objects.checkFromToIndex(from, to, data.length);
+            int state = EmailValidator.NONE_SEEN;
+            if (vectorized) {
+                for (int block = from >>> 6; block << 6 < to && state != EmailValidator.BOTH_SEEN; block++) {
+                    if (block != cachedBlock) {
+                        classify(data, block << 6, Math.min((block << 6) + BLOCK_SIZE, data.length), words);
+                        cachedBlock = block;
+                    }
+                    long range = rangeMask(from - (block << 6), to - (block << 6));
+                    state |= ((words[0] & range) != 0 ? EmailValidator.AT_SEEN : 0)
+                        | ((words[1] & range) != 0 ? EmailValidator.DOT_SEEN : 0);
+                }
+            } else {
+                for (int i = from; i < to && state != EmailValidator.BOTH_SEEN; i++) {
+                    state = EmailValidator.nextState(state, data[i]);
+                }
+            }
+            if (state != EmailValidator.BOTH_SEEN) {
+                invalidMask[record >>> 6] |= 1L << record;
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Separa {@code data[from, to)} en líneas terminadas en {@code '\n'} y las valida
+     * en la misma pasada. Cada registro incluye su terminador ({@code '\n'} y
+     * {@code '\r'} no afectan a la validación básica); un resto final sin
+     * terminador también es un registro.
+     *
+     * Procesa como máximo {@code offsets.length - 1} líneas. Si el arreglo se llena
+     * antes de {@code to}, la llamada termina y el proceso continúa llamando de nuevo
+     * con {@code from = offsets[n]}, donde {@code n} es el valor retornado.
+     *
+     * @param data        Los bytes UTF-8 de las líneas.
+     * @param from        La posición inicial, inclusiva.
+     * @param to          La posición final, exclusiva.
+     * @param offsets     Salida: límites de las líneas, {@code offsets[0] = from}.
+     * @param invalidMask Salida: máscara de líneas inválidas, de al menos
+     *                    {@code (offsets.length - 1 + 63) / 64} elementos.
+     * @return El número de líneas procesadas.
+     * @throws IllegalArgumentException  Si los arreglos de salida son demasiado cortos.
+     * @throws IndexOutOfBoundsException Si el rango queda fuera de {@code data}.
+     */
+    public int validateLines(byte[] data, int from, int to, int[] offsets, long[] invalidMask) {
+        Objects.checkFromToIndex(from, to, data.length);
+        if (offsets.length < 2) {
+            throw new IllegalArgumentException("El arreglo de límites debe tener al menos dos elementos.");
+        }
+        int capacity = offsets.length - 1;
+        checkMask(capacity, invalidMask);
+        offsets[0] = from;
+        if (!vectorized) {
+            return validateLinesScalar(data, from, to, offsets, capacity, invalidMask);
+        }
+
+        long[] words = new long[3];
+        int count = 0;
+        int state = EmailValidator.NONE_SEEN;
+        for (int base = from; base < to; base += BLOCK_SIZE) {
+            int end = Math.min(base + BLOCK_SIZE, to);
+            classify(data, base, end, words);
+            long newlines = words[2];
+            int segmentStart = 0;
+            while (newlines != 0) {
+                int bit = Long.numberOfTrailingZeros(newlines);
+                long segment = (-1L << segmentStart) & (-1L >>> (63 - bit));
+                state |= ((words[0] & segment) != 0 ? EmailValidator.AT_SEEN : 0)
+                    | ((words[1] & segment) != 0 ? EmailValidator.DOT_SEEN : 0);
+                count = endRecord(state, count, base + bit + 1, offsets, invalidMask);
+                if (count == capacity) {
+                    return count;
+                }
+                state = EmailValidator.NONE_SEEN;
+                segmentStart = bit + 1;
+                newlines &= newlines - 1;
+            }
+            if (segmentStart < BLOCK_SIZE) {
+                long segment = (-1L << segmentStart) & rangeMask(0, end - base);
+                state |= ((words[0] & segment) != 0 ? EmailValidator.AT_SEEN : 0)
+                    | ((words[1] & segment) != 0 ? EmailValidator.DOT_SEEN : 0);
+            }
+        }
+        if (offsets[count] < to) {
+            count = endRecord(state, count, to, offsets, invalidMask);
+        }
+        return count;
+    }
+
+    private static int validateLinesScalar(byte[] data, int from, int to, int[] offsets, int capacity,
+                                           long[] invalidMask) {
+        int count = 0;
+        int state = EmailValidator.NONE_SEEN;
+        for (int i = from; i < to; i++) {
+            byte b = data[i];
+            if (b == '\n') {
+                count = endRecord(state, count, i + 1, offsets, invalidMask);
+                if (count == capacity) {
+                    return count;
+                }
+                state = EmailValidator.NONE_SEEN;
+            } else {
+                state = EmailValidator.nextState(state, b);
+            }
+        }
+        if (offsets[count] < to) {
+            count = endRecord(state, count, to, offsets, invalidMask);
+        }
+        return count;
+    }
+
+    /**
+     * Cierra el registro {@code count} en {@code end} y lo marca si es inválido.
+     *
+     * @return El nuevo número de registros.
+     */
+    private static int endRecord(int state, int count, int end, int[] offsets, long[] invalidMask) {
+        if (state != EmailValidator.BOTH_SEEN) {
+            invalidMask[count >>> 6] |= 1L << count;
+        }
+        offsets[count + 1] = end;
+        return count + 1;
+    }
+
+    /**
+     * Clasifica {@code data[base, end)}, con {@code end - base <= 64}; los bloques
+     * incompletos del final se resuelven en escalar.
+     */
+    private void classify(byte[] data, int base, int end, long[] words) {
+        if (vectorized && end - base == BLOCK_SIZE) {
+            VectorEmailKernel.classifyBlock(data, base, words);
+            return;
+        }
+        long at = 0;
+        long dot = 0;
+        long newline = 0;
+        for (int i = base; i < end; i++) {
+            byte b = data[i];
+            long bit = 1L << (i - base);
+            at |= b == '@' ? bit : 0;
+            dot |= b == '.' ? bit : 0;
+            newline |= b == '\n' ? bit : 0;
+        }
+        words[0] = at;
+        words[1] = dot;
+        words[2] = newline;
+    }
+
+    /**
+     * @return Los bits {@code [from, to)} de un bloque, recortados a {@code [0, 64)}.
+     */
+    static long rangeMask(int from, int to) {
+        if (to <= 0 || from >= BLOCK_SIZE || from >= to) {
+            return 0;
+        }
+        long high = to >= BLOCK_SIZE ? -1L : (1L << to) - 1;
+        return high & (-1L << Math.max(from, 0));
+    }
+
+    private static void checkMask(int count, long[] invalidMask) {
+        int words = (count + 63) >>> 6;
+        if (invalidMask.length < words) {
+            throw new IllegalArgumentException("La máscara de inválidos es demasiado corta.");
+        }
+        Arrays.fill(invalidMask, 0, words, 0L);
+    }
+}
@@ -0,0 +1,48 @@
+package ec.edu.epn;
+
+/**
+ * Resumen inmutable de la normalización y eliminación de duplicados de un archivo
+ * de emails.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class EmailDeduplicationSummary {
+
+    private final long addressCount;
+    private final long uniqueCount;
+    private final int spilledPartitionCount;
+
+    EmailDeduplicationSummary(long addressCount, long uniqueCount, int spilledPartitionCount) {
+        this.addressCount = addressCount;
+        this.uniqueCount = uniqueCount;
+        this.spilledPartitionCount = spilledPartitionCount;
+    }
+
+    /**
+     * @return El número de direcciones leídas; no incluye las líneas en blanco.
+     */
+    public long getAddressCount() {
+        return addressCount;
+    }
+
+    /**
+     * @return El número de direcciones distintas después de normalizarlas.
+     */
+    public long getUniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * @return El número de direcciones descartadas por repetir una anterior.
+     */
+    public long getDuplicateCount() {
+        return addressCount - uniqueCount;
+    }
+
+    /**
+     * @return El número de particiones que se escribieron a disco por exceder la memoria.
+     */
+    public int getSpilledPartitionCount() {
+        return spilledPartitionCount;
+    }
+}
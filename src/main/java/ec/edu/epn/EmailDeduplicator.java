@@ -0,0 +1,625 @@
+package ec.edu.epn;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Normaliza y elimina los duplicados de listas de emails de cientos de millones de
+ * líneas, una dirección por línea, antes de validarlas.
+ *
+ * La forma canónica de una dirección ({@link #canonicalize(CharSequence)}) se obtiene
+ * al quitar los espacios alrededor y pasar el dominio a minúsculas; para los
+ * proveedores conocidos se aplican además sus reglas propias (Gmail ignora los
+ * puntos y el sufijo {@code +etiqueta} de la parte local, Outlook ignora el sufijo).
+ *
+ * En lugar de guardar cada dirección como {@code String}, cada forma canónica se
+ * identifica por un hash MurmurHash3 de 128 bits; con 200 millones de direcciones la
+ * probabilidad de una colisión es del orden de 10^-22. El proceso tiene tres fases:
+ * - Los fragmentos del archivo proyectado se leen en paralelo y cada dirección se
+ *   reparte, como {@code (hash, línea)}, en una de 256 particiones según los bits
+ *   altos del hash. Mientras el total en memoria supera el presupuesto, las
+ *   particiones que reciben registros se vuelcan a archivos temporales.
+ * - Cada partición se carga, en paralelo, en un {@link Hash128Set} que conserva
+ *   la primera línea de cada hash; esas líneas se marcan en un mapa de bits.
+ * - Los fragmentos se releen en paralelo y se escriben las formas canónicas de las
+ *   líneas marcadas, en el orden de la entrada.
+ *
+ * El resultado es el mismo que el de un recorrido secuencial que conserva la primera
+ * aparición de cada dirección, para cualquier tamaño de fragmento y de presupuesto.
+ * Las líneas en blanco se ignoran.
+ *
+ * Los archivos temporales de las particiones se crean en un directorio elegido al
+ * construir el eliminador ({@code java.io.tmpdir} por defecto), no junto a la
+ * entrada ni a la salida: los directorios de importación suelen ser de solo lectura
+ * o compartidos, y el volcado solo empieza cuando ya se superó el presupuesto.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class EmailDeduplicator {
+
+    private static final int PARTITION_BITS = 8;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+    private static final int RECORD_LONGS = 3;
+    private static final int RECORD_BYTES = RECORD_LONGS * Long.BYTES;
+    private static final int PENDING_RECORDS = 256;
+    private static final int LINE_BITS = 40;
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+    private static final String FAILURE_MESSAGE = "Error al eliminar los emails duplicados.";
+    private static final String INTERRUPTED_MESSAGE = "Eliminación de duplicados interrumpida.";
+
+    private static final int DROP_DOTS = 1;
+    private static final int STRIP_TAG = 2;
+    private static final byte[][] PROVIDER_DOMAINS = {
+        ascii("gmail.com"), ascii("googlemail.com"), ascii("outlook.com"), ascii("hotmail.com")
+    };
+    private static final byte[][] PROVIDER_CANONICAL = {
+        ascii("gmail.com"), ascii("gmail.com"), ascii("outlook.com"), ascii("hotmail.com")
+    };
+    private static final int[] PROVIDER_RULES = {
+        DROP_DOTS | STRIP_TAG, DROP_DOTS | STRIP_TAG, STRIP_TAG, STRIP_TAG
+    };
+
+    private static final VarHandle LONG_LE =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long C1 = 0x87C37B91114253D5L;
+    private static final long C2 = 0x4CF5AD432745937FL;
+
+    private final long memoryBudget;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+    private final Path spillDirectory;
+
+    /**
+     * Crea un eliminador de duplicados que usa el pool común, un cuarto del heap
+     * máximo como presupuesto de memoria y {@code java.io.tmpdir} para los volcados.
+     */
+    public EmailDeduplicator() {
+        this(Runtime.getRuntime().maxMemory() / 4, MappedFileChunks.DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un eliminador de duplicados configurado que vuelca las particiones en
+     * {@code java.io.tmpdir}.
+     *
+     * @param memoryBudget El máximo de bytes de registros {@code (hash, línea)} que se
+     *                     mantienen en memoria antes de volcar particiones a disco.
+     * @param chunkSize    El tamaño aproximado en bytes de cada fragmento paralelo.
+     * @param pool         El pool donde se procesan los fragmentos y las particiones.
+     * @throws IllegalArgumentException Si el presupuesto es negativo o el tamaño de
+     *                                  fragmento no es positivo.
+     */
+    public EmailDeduplicator(long memoryBudget, int chunkSize, ForkJoinPool pool) {
+        this(memoryBudget, chunkSize, pool, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Crea un eliminador de duplicados configurado.
+     *
+     * @param memoryBudget   El máximo de bytes de registros {@code (hash, línea)} que se
+     *                       mantienen en memoria antes de volcar particiones a disco.
+     * @param chunkSize      El tamaño aproximado en bytes de cada fragmento paralelo.
+     * @param pool           El pool donde se procesan los fragmentos y las particiones.
+     * @param spillDirectory El directorio, con permiso de escritura, donde se crean
+     *                       los archivos temporales de las particiones volcadas.
+     * @throws IllegalArgumentException Si el presupuesto es negativo, el tamaño de
+     *                                  fragmento no es positivo o el directorio es null.
+     */
+    public EmailDeduplicator(long memoryBudget, int chunkSize, ForkJoinPool pool, Path spillDirectory) {
+        if (spillDirectory == null) {
+            throw new IllegalArgumentException("El directorio de volcado no puede ser null.");
+        }
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("El presupuesto de memoria no puede ser negativo.");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de fragmento debe ser positivo.");
+        }
+        this.memoryBudget = memoryBudget;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Obtiene la forma canónica de una dirección.
+     *
+     * @param email La dirección.
+     * @return La forma canónica; vacía si la dirección está en blanco.
+     * @throws IllegalArgumentException Si la dirección es null.
+     */
+    public static String canonicalize(CharSequence email) {
+        if (email == null) {
+            throw new IllegalArgumentException("El email no puede ser null.");
+        }
+        byte[] bytes = email.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] canonical = new byte[bytes.length];
+        int length = canonicalize(ByteBuffer.wrap(bytes), 0, bytes.length, canonical);
+        return new String(canonical, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Cuenta las direcciones y las direcciones distintas de un archivo.
+     *
+     * @param input El archivo de entrada.
+     * @return El resumen del proceso.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public EmailDeduplicationSummary deduplicate(Path input) throws IOException {
+        return deduplicate(input, null);
+    }
+
+    /**
+     * Escribe la forma canónica de la primera aparición de cada dirección, terminada
+     * en {@code '\n'}, en el orden de la entrada.
+     *
+     * @param input  El archivo de entrada.
+     * @param output El archivo de salida, o null para solo contar.
+     * @return El resumen del proceso.
+     * @throws IOException Si algún archivo no se puede leer o escribir.
+     */
+    public EmailDeduplicationSummary deduplicate(Path input, Path output) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+             PartitionStore store = new PartitionStore(memoryBudget, spillDirectory)) {
+            long[] bounds = MappedFileChunks.split(channel, chunkSize);
+            int chunks = bounds.length - 1;
+
+            List<Callable<Long>> scans = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                int chunk = i;
+                scans.add(() -> scanChunk(MappedFileChunks.map(channel, bounds[chunk], bounds[chunk + 1]), chunk, store));
+            }
+            long[] lineBase = new long[chunks + 1];
+            List<Long> lineCounts = MappedFileChunks.invokeAll(pool, scans, FAILURE_MESSAGE, INTERRUPTED_MESSAGE);
+            for (int i = 0; i < chunks; i++) {
+                lineBase[i + 1] = lineBase[i] + lineCounts.get(i);
+            }
+            long lines = lineBase[chunks];
+
+            AtomicLongArray firstLines = new AtomicLongArray((int) ((lines + 63) >>> 6));
+            List<Callable<Long>> merges = new ArrayList<>(PARTITIONS);
+            for (int p = 0; p < PARTITIONS; p++) {
+                int partition = p;
+                merges.add(() -> mergePartition(store, partition, lineBase, firstLines));
+            }
+            long unique = 0;
+            for (long count : MappedFileChunks.invokeAll(pool, merges, FAILURE_MESSAGE, INTERRUPTED_MESSAGE)) {
+                unique += count;
+            }
+
+            if (output != null) {
+                writeUnique(channel, bounds, lineBase, firstLines, output);
+            }
+            return new EmailDeduplicationSummary(lines, unique, store.spilledPartitions());
+        }
+    }
+
+    /**
+     * Primera fase: reparte los hashes de las direcciones de un fragmento entre las
+     * particiones.
+     *
+     * @return El número de direcciones del fragmento.
+     */
+    private static long scanChunk(MappedByteBuffer chunk, int chunkIndex, PartitionStore store) throws IOException {
+        long[][] pending = new long[PARTITIONS][];
+        int[] pendingCount = new int[PARTITIONS];
+        byte[] canonical = new byte[256];
+        long[] hash = new long[2];
+        long line = 0;
+        int limit = chunk.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            if (lineEnd - lineStart > canonical.length) {
+                canonical = new byte[lineEnd - lineStart];
+            }
+            int length = canonicalize(chunk, lineStart, lineEnd, canonical);
+            lineStart = lineEnd + 1;
+            if (length == 0) {
+                continue;
+            }
+
+            murmur3(canonical, length, hash);
+            int partition = (int) (hash[0] >>> (Long.SIZE - PARTITION_BITS));
+            long[] records = pending[partition];
+            if (records == null) {
+                records = pending[partition] = new long[PENDING_RECORDS * RECORD_LONGS];
+            }
+            int offset = pendingCount[partition] * RECORD_LONGS;
+            records[offset] = hash[0];
+            records[offset + 1] = hash[1];
+            records[offset + 2] = ((long) chunkIndex << LINE_BITS) | line;
+            if (++pendingCount[partition] == PENDING_RECORDS) {
+                store.add(partition, records, PENDING_RECORDS);
+                pendingCount[partition] = 0;
+            }
+            line++;
+        }
+        for (int p = 0; p < PARTITIONS; p++) {
+            if (pendingCount[p] > 0) {
+                store.add(p, pending[p], pendingCount[p]);
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Segunda fase: conserva la primera línea de cada hash de una partición y la
+     * marca en el mapa de bits global.
+     *
+     * @return El número de direcciones distintas de la partición.
+     */
+    private static long mergePartition(PartitionStore store, int partition, long[] lineBase,
+                                       AtomicLongArray firstLines) throws IOException {
+        Hash128Set set = new Hash128Set((int) Math.min(store.recordCount(partition), Integer.MAX_VALUE >>> 2));
+        store.forEach(partition, set::putMin);
+        store.release(partition);
+        for (int slot = 0; slot < set.capacity(); slot++) {
+            if (set.isOccupied(slot)) {
+                long packed = set.valueAt(slot);
+                long line = lineBase[(int) (packed >>> LINE_BITS)] + (packed & ((1L << LINE_BITS) - 1));
+                int word = (int) (line >>> 6);
+                long bit = 1L << line;
+                long current;
+                do {
+                    current = firstLines.get(word);
+                } while (!firstLines.compareAndSet(word, current, current | bit));
+            }
+        }
+        return set.size();
+    }
+
+    /**
+     * Tercera fase: escribe en paralelo las direcciones marcadas de cada fragmento y
+     * concatena los archivos parciales.
+     */
+    private void writeUnique(FileChannel channel, long[] bounds, long[] lineBase, AtomicLongArray firstLines,
+                             Path output) throws IOException {
+        MappedFileChunks.invokeWithParts(pool, bounds.length - 1, new Path[] {output},
+            (chunk, parts) -> () -> writeChunk(MappedFileChunks.map(channel, bounds[chunk], bounds[chunk + 1]),
+                lineBase[chunk], firstLines, parts[0]),
+            FAILURE_MESSAGE, INTERRUPTED_MESSAGE);
+    }
+
+    private static long writeChunk(MappedByteBuffer chunk, long base, AtomicLongArray firstLines, Path part)
+            throws IOException {
+        LineWriter writer = new LineWriter(part);
+        byte[] canonical = new byte[256];
+        long line = base;
+        try {
+            int limit = chunk.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                if (lineEnd - lineStart > canonical.length) {
+                    canonical = new byte[lineEnd - lineStart];
+                }
+                int length = canonicalize(chunk, lineStart, lineEnd, canonical);
+                lineStart = lineEnd + 1;
+                if (length == 0) {
+                    continue;
+                }
+                if ((firstLines.get((int) (line >>> 6)) & (1L << line)) != 0) {
+                    writer.write(canonical, 0, length);
+                }
+                line++;
+            }
+        } finally {
+            writer.close();
+        }
+        return line - base;
+    }
+
+    /**
+     * Escribe en {@code out} la forma canónica de {@code source[from, to)}.
+     * {@code out} debe tener al menos {@code to - from} bytes.
+     *
+     * @return La longitud de la forma canónica; 0 si la línea está en blanco.
+     */
+    static int canonicalize(ByteBuffer source, int from, int to, byte[] out) {
+        while (from < to && (source.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (source.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        int at = to - 1;
+        while (at >= from && source.get(at) != '@') {
+            at--;
+        }
+        if (at < from) {
+            source.get(from, out, 0, to - from);
+            return to - from;
+        }
+
+        int provider = provider(source, at + 1, to);
+        int rules = provider < 0 ? 0 : PROVIDER_RULES[provider];
+        int length = 0;
+        for (int i = from; i < at; i++) {
+            byte b = source.get(i);
+            if (b == '+' && (rules & STRIP_TAG) != 0) {
+                break;
+            }
+            if (b != '.' || (rules & DROP_DOTS) == 0) {
+                // Los proveedores conocidos no distinguen mayúsculas en la parte local.
+                out[length++] = provider < 0 ? b : toLowerAscii(b);
+            }
+        }
+        out[length++] = '@';
+        if (provider >= 0) {
+            byte[] domain = PROVIDER_CANONICAL[provider];
+            System.arraycopy(domain, 0, out, length, domain.length);
+            return length + domain.length;
+        }
+        for (int i = at + 1; i < to; i++) {
+            out[length++] = toLowerAscii(source.get(i));
+        }
+        return length;
+    }
+
+    /**
+     * @return El índice del proveedor conocido con el dominio {@code source[from, to)}, o -1.
+     */
+    private static int provider(ByteBuffer source, int from, int to) {
+        for (int p = 0; p < PROVIDER_DOMAINS.length; p++) {
+            byte[] domain = PROVIDER_DOMAINS[p];
+            if (domain.length == to - from) {
+                int i = 0;
+                while (i < domain.length && toLowerAscii(source.get(from + i)) == domain[i]) {
+                    i++;
+                }
+                if (i == domain.length) {
+                    return p;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static byte toLowerAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * MurmurHash3 x64 de 128 bits, semilla 0, de {@code data[0, length)}.
+     */
+    static void murmur3(byte[] data, int length, long[] out) {
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = length >>> 4;
+        for (int i = 0; i < blocks; i++) {
+            long k1 = (long) LONG_LE.get(data, i << 4);
+            long k2 = (long) LONG_LE.get(data, (i << 4) + 8);
+            h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+            h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52DCE729;
+            h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+            h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495AB5;
+        }
+
+        int tail = blocks << 4;
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = length - 1; i >= tail + 8; i--) {
+            k2 = (k2 << 8) | (data[i] & 0xFFL);
+        }
+        for (int i = Math.min(length, tail + 8) - 1; i >= tail; i--) {
+            k1 = (k1 << 8) | (data[i] & 0xFFL);
+        }
+        if (length - tail > 8) {
+            h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+        }
+        if (length > tail) {
+            h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        out[0] = h1;
+        out[1] = h2;
+    }
+
+    private static long fmix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Consumidor de registros {@code (hash alto, hash bajo, línea)}.
+     */
+    @FunctionalInterface
+    private interface RecordConsumer {
+        boolean accept(long high, long low, long line);
+    }
+
+    /**
+     * Registros de las particiones. Cada partición acumula en memoria y, mientras el
+     * total supera el presupuesto, las particiones que reciben registros vuelcan lo
+     * acumulado a su archivo temporal. Cada partición tiene su propio candado.
+     */
+    private static final class PartitionStore implements AutoCloseable {
+
+        private final long budget;
+        private final Path directory;
+        private final AtomicLong bufferedBytes = new AtomicLong();
+        private final long[][] memory = new long[PARTITIONS][];
+        private final int[] memoryRecords = new int[PARTITIONS];
+        private final long[] fileRecords = new long[PARTITIONS];
+        private final FileChannel[] files = new FileChannel[PARTITIONS];
+        private final boolean[] spilled = new boolean[PARTITIONS];
+        private final Object[] locks = new Object[PARTITIONS];
+        private Path spillDirectory;
+
+        PartitionStore(long budget, Path directory) {
+            this.budget = budget;
+            this.directory = directory;
+            for (int p = 0; p < PARTITIONS; p++) {
+                locks[p] = new Object();
+            }
+        }
+
+        void add(int partition, long[] records, int count) throws IOException {
+            synchronized (locks[partition]) {
+                long[] buffer = memory[partition];
+                int used = memoryRecords[partition] * RECORD_LONGS;
+                int needed = used + count * RECORD_LONGS;
+                if (buffer == null) {
+                    buffer = memory[partition] = new long[needed];
+                } else if (needed > buffer.length) {
+                    buffer = memory[partition] = Arrays.copyOf(buffer, Math.max(needed, buffer.length * 2));
+                }
+                System.arraycopy(records, 0, buffer, used, count * RECORD_LONGS);
+                memoryRecords[partition] += count;
+                if (bufferedBytes.addAndGet((long) count * RECORD_BYTES) > budget) {
+                    spill(partition);
+                }
+            }
+        }
+
+        /**
+         * Vuelca a disco los registros en memoria de una partición; se llama con su candado.
+         */
+        private void spill(int partition) throws IOException {
+            FileChannel file = files[partition];
+            if (file == null) {
+                file = files[partition] = FileChannel.open(spillFile(partition), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+            }
+            long[] buffer = memory[partition];
+            int count = memoryRecords[partition];
+            ByteBuffer out = ByteBuffer.allocate(SPILL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < count * RECORD_LONGS; i++) {
+                if (!out.hasRemaining()) {
+                    writeFully(file, out);
+                }
+                out.putLong(buffer[i]);
+            }
+            writeFully(file, out);
+            fileRecords[partition] += count;
+            spilled[partition] = true;
+            memory[partition] = null;
+            memoryRecords[partition] = 0;
+            bufferedBytes.addAndGet(-(long) count * RECORD_BYTES);
+        }
+
+        private Path spillFile(int partition) throws IOException {
+            synchronized (this) {
+                if (spillDirectory == null) {
+                    spillDirectory = Files.createTempDirectory(directory, ".dedupe-");
+                }
+            }
+            return spillDirectory.resolve("particion-" + partition + ".bin");
+        }
+
+        long recordCount(int partition) {
+            synchronized (locks[partition]) {
+                return fileRecords[partition] + memoryRecords[partition];
+            }
+        }
+
+        void forEach(int partition, RecordConsumer consumer) throws IOException {
+            synchronized (locks[partition]) {
+                FileChannel file = files[partition];
+                if (file != null) {
+                    ByteBuffer in = ByteBuffer.allocate(SPILL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                    long position = 0;
+                    long end = fileRecords[partition] * RECORD_BYTES;
+                    while (position < end) {
+                        in.clear();
+                        int read = file.read(in, position);
+                        if (read < 0) {
+                            throw new IOException("Archivo de partición truncado.");
+                        }
+                        position += read;
+                        in.flip();
+                        while (in.remaining() >= RECORD_BYTES) {
+                            consumer.accept(in.getLong(), in.getLong(), in.getLong());
+                        }
+                        // Un registro partido entre dos lecturas se vuelve a leer completo.
+                        position -= in.remaining();
+                    }
+                }
+                long[] buffer = memory[partition];
+                for (int i = 0; i < memoryRecords[partition] * RECORD_LONGS; i += RECORD_LONGS) {
+                    consumer.accept(buffer[i], buffer[i + 1], buffer[i + 2]);
+                }
+            }
+        }
+
+        void release(int partition) throws IOException {
+            synchronized (locks[partition]) {
+                bufferedBytes.addAndGet(-(long) memoryRecords[partition] * RECORD_BYTES);
+                memory[partition] = null;
+                memoryRecords[partition] = 0;
+                fileRecords[partition] = 0;
+                if (files[partition] != null) {
+                    files[partition].close();
+                    files[partition] = null;
+                }
+            }
+        }
+
+        int spilledPartitions() {
+            int count = 0;
+            for (int p = 0; p < PARTITIONS; p++) {
+                synchronized (locks[p]) {
+                    if (spilled[p]) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (int p = 0; p < PARTITIONS; p++) {
+                release(p);
+            }
+            if (spillDirectory != null) {
+                Files.deleteIfExists(spillDirectory);
+            }
+        }
+
+        private static void writeFully(FileChannel file, ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                file.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ec.edu.epn;
+
+/**
+ * Estado incremental de un email que se escribe carácter por carácter, por ejemplo
+ * en un formulario que valida en cada pulsación.
+ *
+ * Solo guarda tres contadores, así que agregar o borrar un carácter cuesta O(1) y
+ * {@link #isValid()} no vuelve a recorrer el texto. El veredicto es siempre el mismo
+ * que daría {@link EmailValidator#isValidEmail(String)} sobre el texto completo: con
+ * las reglas básicas, un email es válido si contiene al menos un {@code '@'} y al
+ * menos un {@code '.'}, y eso ya implica que no está en blanco.
+ *
+ * El estado no guarda el texto: al borrar, quien lo usa indica qué carácter se
+ * eliminó. No es seguro para hilos; se espera un estado por sesión.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class EmailInputState {
+
+    private int length;
+    private int atCount;
+    private int dotCount;
+
+    /**
+     * Agrega un carácter al final del texto.
+     *
+     * @param c El carácter escrito.
+     * @return Este estado.
+     */
+    public EmailInputState append(char c) {
+        length++;
+        if (c == '@') {
+            atCount++;
+        } else if (c == '.') {
+            dotCount++;
+        }
+        return this;
+    }
+
+    /**
+     * Agrega varios caracteres al final del texto, por ejemplo al pegar.
+     *
+     * @param text Los caracteres agregados.
+     * @return Este estado.
+     * @throws IllegalArgumentException Si el texto es null.
+     */
+    public EmailInputState append(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("El texto no puede ser null.");
+        }
+        for (int i = 0; i < text.length(); i++) {
+            append(text.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Quita un carácter del texto, en cualquier posición.
+     *
+     * @param removed El carácter que se borró.
+     * @return Este estado.
+     * @throws IllegalStateException Si el texto está vacío o no contiene ese carácter.
+     */
+    public EmailInputState backspace(char removed) {
+        if (length == 0
+                || (removed == '@' && atCount == 0)
+                || (removed == '.' && dotCount == 0)
+                || (removed != '@' && removed != '.' && length == atCount + dotCount)) {
+            throw new IllegalStateException("El texto no contiene el carácter borrado.");
+        }
+        length--;
+        if (removed == '@') {
+            atCount--;
+        } else if (removed == '.') {
+            dotCount--;
+        }
+        return this;
+    }
+
+    /**
+     * Vacía el estado para reutilizarlo en otra sesión.
+     */
+    public void reset() {
+        length = 0;
+        atCount = 0;
+        dotCount = 0;
+    }
+
+    /**
+     * @return true si el texto actual es un email válido según las reglas básicas.
+     */
+    public boolean isValid() {
+        return atCount > 0 && dotCount > 0;
+    }
+
+    /**
+     * @return El número de caracteres del texto actual.
+     */
+    public int length() {
+        return length;
+    }
+}
@@ -0,0 +1,38 @@
+package ec.edu.epn;
+
+/**
+ * Resumen inmutable de la validación masiva de un archivo de emails.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class EmailValidationSummary {
+
+    private final long lineCount;
+    private final long validCount;
+
+    EmailValidationSummary(long lineCount, long validCount) {
+        this.lineCount = lineCount;
+        this.validCount = validCount;
+    }
+
+    /**
+     * @return El número de líneas leídas, incluidas las vacías.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @return El número de líneas que son emails válidos.
+     */
+    public long getValidCount() {
+        return validCount;
+    }
+
+    /**
+     * @return El número de líneas que no son emails válidos.
+     */
+    public long getInvalidCount() {
+        return lineCount - validCount;
+    }
+}
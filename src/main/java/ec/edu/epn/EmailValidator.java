@@ -1,5 +1,8 @@
 package ec.edu.epn;
 
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
 /**
  * Clase responsable de validar direcciones de correo electrónico.
  *
@@ -16,6 +19,45 @@ package ec.edu.epn;
  */
 public class EmailValidator {
 
+    // Estados del autómata de isValidEmail: bit 0 = '@' visto, bit 1 = '.' visto.
+    static final int NONE_SEEN = 0;
+    static final int AT_SEEN = 1;
+    static final int DOT_SEEN = 2;
+    static final int BOTH_SEEN = AT_SEEN | DOT_SEEN;
+
+    private final DomainVerdictCache domainCache;
+    private final DomainBlocklist blocklist;
+
+    /**
+     * Crea un validador sin caché de dominios.
+     */
+    public EmailValidator() {
+        this(null, null);
+    }
+
+    /**
+     * Crea un validador que guarda en una caché el veredicto del dominio de cada email
+     * validado en modo estricto, para no volver a validar los dominios frecuentes.
+     *
+     * @param domainCache La caché de veredictos de dominio, o null para no usar caché.
+     */
+    public EmailValidator(DomainVerdictCache domainCache) {
+        this(domainCache, null);
+    }
+
+    /**
+     * Crea un validador cuya validación estricta, además de la gramática, rechaza los
+     * dominios de una lista de bloqueo (y sus subdominios). Si hay caché, el veredicto
+     * guardado para cada dominio ya incluye la consulta a la lista.
+     *
+     * @param domainCache La caché de veredictos de dominio, o null para no usar caché.
+     * @param blocklist   La lista de dominios bloqueados, o null para no usar lista.
+     */
+    public EmailValidator(DomainVerdictCache domainCache, DomainBlocklist blocklist) {
+        this.domainCache = domainCache;
+        this.blocklist = blocklist;
+    }
+
     /**
      * Valida si un string cumple con los requisitos básicos de un email.
      *
@@ -34,22 +76,182 @@ public class EmailValidator {
             return false;
         }
 
-        // Validación 2: No debe estar vacío ni contener solo espacios
-        if (email.trim().isEmpty()) {
+        // Validaciones 2, 3 y 4 en una sola pasada: '@' y '.' no son espacios en blanco,
+        // así que si ambos aparecen el email tampoco está vacío. El autómata avanza
+        // hasta el primero de los dos caracteres y, desde ahí, solo busca el que falta
+        // (indexOf es intrínseco en la JVM); ningún carácter se lee dos veces.
+        for (int i = 0, length = email.length(); i < length; i++) {
+            int state = nextState(NONE_SEEN, email.charAt(i));
+            if (state == AT_SEEN) {
+                return email.indexOf('.', i + 1) >= 0;
+            }
+            if (state == DOT_SEEN) {
+                return email.indexOf('@', i + 1) >= 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Valida un email con la gramática estricta de RFC 5321 / RFC 5322.
+     *
+     * Además de lo que exige {@link #isValidEmail(String)}, un email estricto debe:
+     * 1. Tener como máximo 254 caracteres, con una parte local de hasta 64
+     * 2. Tener una parte local dot-atom ({@code nombre.apellido+etiqueta}) o entre
+     *    comillas ({@code "juan perez"})
+     * 3. Tener un dominio con al menos dos etiquetas alfanuméricas de hasta 63
+     *    caracteres, que pueden contener '-' pero no empezar ni terminar con él
+     *
+     * No se aceptan espacios alrededor, comentarios, literales de IP ni caracteres
+     * no ASCII. La validación recorre el texto una sola vez sobre una tabla de
+     * transiciones precalculada, sin expresiones regulares ni retroceso. Si el
+     * validador tiene lista de bloqueo, el dominio tampoco debe estar en ella; si tiene
+     * caché de dominios, el veredicto del dominio se toma de ella.
+     *
+     * @param email El string a validar como email.
+     * @return true si el email es válido según la gramática estricta, false en caso contrario.
+     */
+    public boolean isValidEmailStrict(String email) {
+        if (email == null) {
             return false;
         }
+        if (domainCache == null && blocklist == null) {
+            return StrictEmailGrammar.matches(email);
+        }
+        return matchesStrictWithDomainChecks(email);
+    }
 
-        // Validación 3: Debe contener '@'
-        if (!email.contains("@")) {
+    /**
+     * Igual que {@link #isValidEmail(String)} para cualquier secuencia de caracteres
+     * ({@link StringBuilder}, {@link java.nio.CharBuffer}, etc.), sin convertirla a String.
+     *
+     * @param email La secuencia a validar como email.
+     * @return true si el email es válido, false en caso contrario.
+     */
+    public boolean isValidEmail(CharSequence email) {
+        if (email == null) {
             return false;
         }
+        int state = NONE_SEEN;
+        for (int i = 0, length = email.length(); i < length; i++) {
+            state = nextState(state, email.charAt(i));
+            if (state == BOTH_SEEN) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        // Validación 4: Debe contener '.'
-        if (!email.contains(".")) {
+    /**
+     * Igual que {@link #isValidEmail(String)} sobre un email codificado en UTF-8,
+     * validado en su lugar sin decodificarlo.
+     *
+     * Los bytes de un carácter no ASCII en UTF-8 son siempre mayores que 0x7F, por lo
+     * que nunca se confunden con '@' o '.' y el resultado coincide con el de validar
+     * el String decodificado.
+     *
+     * @param bytes  El arreglo que contiene el email.
+     * @param offset La posición del primer byte del email.
+     * @param length El número de bytes del email.
+     * @return true si el email es válido, false en caso contrario o si bytes es null.
+     * @throws IndexOutOfBoundsException Si el rango no está dentro del arreglo.
+     */
+    public boolean isValidEmailUtf8(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
             return false;
         }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int state = NONE_SEEN;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            state = nextState(state, bytes[i]);
+            if (state == BOTH_SEEN) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return true;
+    /**
+     * Igual que {@link #isValidEmailUtf8(byte[], int, int)} sobre los bytes restantes
+     * de un buffer (de heap o directo), entre su posición y su límite. La posición
+     * del buffer no se modifica.
+     *
+     * @param buffer El buffer que contiene el email.
+     * @return true si el email es válido, false en caso contrario o si buffer es null.
+     */
+    public boolean isValidEmailUtf8(ByteBuffer buffer) {
+        if (buffer == null) {
+            return false;
+        }
+        if (buffer.hasArray()) {
+            return isValidEmailUtf8(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        int state = NONE_SEEN;
+        for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+            state = nextState(state, buffer.get(i));
+            if (state == BOTH_SEEN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Igual que {@link #isValidEmailStrict(String)} para cualquier secuencia de caracteres.
+     *
+     * @param email La secuencia a validar como email.
+     * @return true si el email es válido según la gramática estricta, false en caso contrario.
+     */
+    public boolean isValidEmailStrict(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        if (domainCache == null && blocklist == null) {
+            return StrictEmailGrammar.matches(email);
+        }
+        return matchesStrictWithDomainChecks(email);
+    }
+
+    /**
+     * Igual que {@link #isValidEmailStrict(String)} sobre un email codificado en UTF-8.
+     * La gramática estricta solo admite ASCII, así que cualquier byte mayor que 0x7F
+     * rechaza el email, igual que el carácter decodificado.
+     *
+     * @param bytes  El arreglo que contiene el email.
+     * @param offset La posición del primer byte del email.
+     * @param length El número de bytes del email.
+     * @return true si el email es válido según la gramática estricta, false en caso contrario.
+     * @throws IndexOutOfBoundsException Si el rango no está dentro del arreglo.
+     */
+    public boolean isValidEmailStrictUtf8(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (domainCache == null && blocklist == null) {
+            return StrictEmailGrammar.matches(bytes, offset, offset + length);
+        }
+        return matchesStrictWithDomainChecks(new AsciiView(bytes, null, offset, length));
+    }
+
+    /**
+     * Igual que {@link #isValidEmailStrictUtf8(byte[], int, int)} sobre los bytes
+     * restantes de un buffer. La posición del buffer no se modifica.
+     *
+     * @param buffer El buffer que contiene el email.
+     * @return true si el email es válido según la gramática estricta, false en caso contrario.
+     */
+    public boolean isValidEmailStrictUtf8(ByteBuffer buffer) {
+        if (buffer == null) {
+            return false;
+        }
+        if (buffer.hasArray()) {
+            return isValidEmailStrictUtf8(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        if (domainCache == null && blocklist == null) {
+            return StrictEmailGrammar.matches(buffer, buffer.position(), buffer.limit());
+        }
+        return matchesStrictWithDomainChecks(new AsciiView(null, buffer, buffer.position(), buffer.remaining()));
     }
 
     /**
@@ -70,7 +272,16 @@ public class EmailValidator {
      * @return true si no está vacío, false si está vacío o es null.
      */
     public boolean isNotEmpty(String email) {
-        return email != null && !email.trim().isEmpty();
+        if (email == null) {
+            return false;
+        }
+        // Igual que !email.trim().isEmpty(), sin crear un String recortado.
+        for (int i = 0, length = email.length(); i < length; i++) {
+            if (email.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -80,7 +291,7 @@ public class EmailValidator {
      * @return true si contiene '@', false en caso contrario o si es null.
      */
     public boolean containsAtSymbol(String email) {
-        return email != null && email.contains("@");
+        return email != null && email.indexOf('@') >= 0;
     }
 
     /**
@@ -90,6 +301,90 @@ public class EmailValidator {
      * @return true si contiene '.', false en caso contrario o si es null.
      */
     public boolean containsDot(String email) {
-        return email != null && email.contains(".");
+        return email != null && email.indexOf('.') >= 0;
+    }
+
+    /**
+     * Validación estricta que valida la parte local y obtiene el veredicto del dominio
+     * de la caché o, si no está, de la gramática y la lista de bloqueo.
+     */
+    private boolean matchesStrictWithDomainChecks(CharSequence email) {
+        int length = email.length();
+        if (length > StrictEmailGrammar.MAX_ADDRESS_LENGTH) {
+            return false;
+        }
+        int at = StrictEmailGrammar.localPartEnd(email);
+        if (at < 0) {
+            return false;
+        }
+        if (domainCache == null) {
+            return isAllowedDomain(email, at + 1, length);
+        }
+        Boolean cached = domainCache.getIfPresent(email, at + 1, length);
+        if (cached != null) {
+            return cached;
+        }
+        boolean verdict = isAllowedDomain(email, at + 1, length);
+        domainCache.put(email, at + 1, length, verdict);
+        return verdict;
+    }
+
+    private boolean isAllowedDomain(CharSequence email, int from, int to) {
+        return StrictEmailGrammar.matchesDomain(email, from)
+            && (blocklist == null || !blocklist.isBlocked(email, from, to));
+    }
+
+    /**
+     * Transición del autómata de validación básica.
+     *
+     * @param state El estado actual (combinación de {@link #AT_SEEN} y {@link #DOT_SEEN}).
+     * @param c     El siguiente carácter o byte.
+     * @return El nuevo estado.
+     */
+    static int nextState(int state, int c) {
+        return state | (c == '@' ? AT_SEEN : c == '.' ? DOT_SEEN : NONE_SEEN);
+    }
+
+    /**
+     * Vista de caracteres sobre bytes, un carácter por byte, para aplicar la caché y la
+     * lista de bloqueo a los emails UTF-8 sin decodificarlos. Los bytes no ASCII se
+     * ven como caracteres mayores que 0x7F, que la gramática estricta rechaza igual
+     * que el carácter decodificado.
+     */
+    private static final class AsciiView implements CharSequence {
+
+        private final byte[] array;
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        AsciiView(byte[] array, ByteBuffer buffer, int offset, int length) {
+            this.array = array;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            byte b = array != null ? array[offset + index] : buffer.get(offset + index);
+            return (char) (b & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new AsciiView(array, buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuilder(this).toString();
+        }
     }
 }
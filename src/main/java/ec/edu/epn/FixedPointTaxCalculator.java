@@ -0,0 +1,196 @@
+package ec.edu.epn;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Cálculo de impuestos en aritmética de punto fijo.
+ *
+ * Los montos se expresan en unidades menores ({@code long}, por ejemplo centavos)
+ * y las tasas en puntos básicos ({@code int}, 1% = 100 pb), de modo que los
+ * resultados son exactos al centavo sin asignar {@code BigDecimal}.
+ *
+ * Fórmula: impuesto = redondeo(monto × pb / 10000), total = monto + impuesto
+ *
+ * Todas las operaciones verifican desbordamiento. Solo se admiten los modos de
+ * redondeo {@link RoundingMode#HALF_EVEN} y {@link RoundingMode#HALF_UP}.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class FixedPointTaxCalculator {
+
+    /** Puntos básicos que equivalen al 100%. */
+    public static final int BASIS_POINTS_PER_UNIT = 10_000;
+
+    private static final long HALF = BASIS_POINTS_PER_UNIT / 2;
+
+    private final RoundingMode roundingMode;
+    private final boolean halfEven;
+
+    /**
+     * Crea una calculadora que redondea con {@link RoundingMode#HALF_EVEN} (redondeo bancario).
+     */
+    public FixedPointTaxCalculator() {
+        this(RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Crea una calculadora con el modo de redondeo indicado.
+     *
+     * @param roundingMode {@link RoundingMode#HALF_EVEN} o {@link RoundingMode#HALF_UP}.
+     * @throws IllegalArgumentException Si el modo de redondeo no está soportado.
+     */
+    public FixedPointTaxCalculator(RoundingMode roundingMode) {
+        if (roundingMode != RoundingMode.HALF_EVEN && roundingMode != RoundingMode.HALF_UP) {
+            throw new IllegalArgumentException("Modo de redondeo no soportado: " + roundingMode);
+        }
+        this.roundingMode = roundingMode;
+        this.halfEven = roundingMode == RoundingMode.HALF_EVEN;
+    }
+
+    /**
+     * @return El modo de redondeo de esta calculadora.
+     */
+    public RoundingMode getRoundingMode() {
+        return roundingMode;
+    }
+
+    /**
+     * Calcula el total de un monto aplicando una tasa en puntos básicos.
+     *
+     * @param amount          El monto base en unidades menores. Debe ser mayor o igual a cero.
+     * @param rateBasisPoints La tasa en puntos básicos. Debe ser mayor o igual a cero.
+     * @return El total con el impuesto incluido, en unidades menores.
+     * @throws IllegalArgumentException Si el monto o la tasa son negativos.
+     * @throws ArithmeticException      Si el resultado no cabe en un {@code long}.
+     */
+    public long calculateTotalWithTax(long amount, int rateBasisPoints) {
+        return Math.addExact(amount, calculateTaxAmount(amount, rateBasisPoints));
+    }
+
+    /**
+     * Calcula únicamente el valor del impuesto, redondeado a la unidad menor.
+     *
+     * @param amount          El monto base en unidades menores.
+     * @param rateBasisPoints La tasa en puntos básicos.
+     * @return El valor del impuesto en unidades menores.
+     * @throws IllegalArgumentException Si los parámetros son negativos.
+     * @throws ArithmeticException      Si el resultado no cabe en un {@code long}.
+     */
+    public long calculateTaxAmount(long amount, int rateBasisPoints) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("El monto no puede ser negativo.");
+        }
+        if (rateBasisPoints < 0) {
+            throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+        }
+        return round(Math.multiplyExact(amount, (long) rateBasisPoints));
+    }
+
+    /**
+     * Calcula el impuesto y el total de una columna de montos con una única tasa.
+     *
+     * Las filas con monto negativo o cuyo resultado desborda se marcan en
+     * {@code rejectedMask} y sus salidas se escriben como 0, sin lanzar excepción.
+     *
+     * @param amounts         Columna de montos en unidades menores.
+     * @param rateBasisPoints La tasa en puntos básicos. Debe ser mayor o igual a cero.
+     * @param totals          Salida: total con impuesto por fila.
+     * @param taxAmounts      Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask    Salida opcional (puede ser null): máscara de filas rechazadas,
+     *                        de longitud mínima {@link TaxCalculator#rejectedMaskLength(int)}.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si la tasa es negativa o las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTax(long[] amounts, int rateBasisPoints,
+                                      long[] totals, long[] taxAmounts, long[] rejectedMask) {
+        if (rateBasisPoints < 0) {
+            throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+        }
+        int rows = amounts.length;
+        checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            rejected += applyRow(i, amounts[i], rateBasisPoints, totals, taxAmounts, rejectedMask);
+        }
+        return rejected;
+    }
+
+    /**
+     * Calcula el impuesto y el total de una columna de montos con una columna de tasas.
+     *
+     * Una fila se rechaza si su monto o su tasa es negativa, o si su resultado desborda.
+     *
+     * @param amounts          Columna de montos en unidades menores.
+     * @param ratesBasisPoints Columna de tasas en puntos básicos, de la misma longitud que {@code amounts}.
+     * @param totals           Salida: total con impuesto por fila.
+     * @param taxAmounts       Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask     Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si las columnas no tienen la misma longitud
+     *                                  o las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTax(long[] amounts, int[] ratesBasisPoints,
+                                      long[] totals, long[] taxAmounts, long[] rejectedMask) {
+        int rows = amounts.length;
+        if (ratesBasisPoints.length != rows) {
+            throw new IllegalArgumentException("Las columnas de montos y tasas deben tener la misma longitud.");
+        }
+        checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            rejected += applyRow(i, amounts[i], ratesBasisPoints[i], totals, taxAmounts, rejectedMask);
+        }
+        return rejected;
+    }
+
+    private int applyRow(int row, long amount, int rateBasisPoints,
+                         long[] totals, long[] taxAmounts, long[] rejectedMask) {
+        long product = amount * rateBasisPoints;
+        // Con ambos operandos no negativos, el producto desborda si la parte alta
+        // de 128 bits no es cero o si el bit de signo de la parte baja se activa.
+        boolean valid = amount >= 0 && rateBasisPoints >= 0
+            && Math.multiplyHigh(amount, rateBasisPoints) == 0 && product >= 0;
+        long taxAmount = valid ? round(product) : 0;
+        long total = amount + taxAmount;
+        if (!valid || total < 0) {
+            totals[row] = 0;
+            if (taxAmounts != null) {
+                taxAmounts[row] = 0;
+            }
+            if (rejectedMask != null) {
+                rejectedMask[row >>> 6] |= 1L << row;
+            }
+            return 1;
+        }
+        totals[row] = total;
+        if (taxAmounts != null) {
+            taxAmounts[row] = taxAmount;
+        }
+        return 0;
+    }
+
+    /**
+     * Divide un producto no negativo entre {@link #BASIS_POINTS_PER_UNIT} aplicando el modo de redondeo.
+     */
+    private long round(long product) {
+        long quotient = product / BASIS_POINTS_PER_UNIT;
+        long remainder = product - quotient * BASIS_POINTS_PER_UNIT;
+        boolean roundUp = remainder > HALF
+            || (remainder == HALF && (!halfEven || (quotient & 1) != 0));
+        return roundUp ? quotient + 1 : quotient;
+    }
+
+    private static void checkOutputs(int rows, long[] totals, long[] taxAmounts, long[] rejectedMask) {
+        if (totals.length < rows || (taxAmounts != null && taxAmounts.length < rows)) {
+            throw new IllegalArgumentException("Los arreglos de salida son demasiado cortos.");
+        }
+        if (rejectedMask != null) {
+            int words = TaxCalculator.rejectedMaskLength(rows);
+            if (rejectedMask.length < words) {
+                throw new IllegalArgumentException("La máscara de rechazos es demasiado corta.");
+            }
+            Arrays.fill(rejectedMask, 0, words, 0L);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ec.edu.epn;
+
+/**
+ * Conjunto de claves de 128 bits con direccionamiento abierto sobre arreglos
+ * primitivos. Cada clave guarda además el menor valor {@code long} con el que se
+ * insertó.
+ *
+ * Las claves deben ser hashes ya mezclados: la posición inicial son los bits bajos
+ * de la parte alta. La clave {@code (0, 0)} marca una celda vacía, así que se
+ * guarda como {@code (0, 1)}.
+ */
+final class Hash128Set {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private long[] highs;
+    private long[] lows;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * @param expected El número aproximado de claves distintas.
+     */
+    Hash128Set(int expected) {
+        allocate(tableSizeFor(Math.max(expected, 1)));
+    }
+
+    /**
+     * Inserta la clave o, si ya existe, conserva el menor de los dos valores.
+     *
+     * @return true si la clave no estaba en el conjunto.
+     */
+    boolean putMin(long high, long low, long value) {
+        if (high == 0 && low == 0) {
+            low = 1;
+        }
+        int slot = (int) high & mask;
+        while (true) {
+            long h = highs[slot];
+            long l = lows[slot];
+            if (h == 0 && l == 0) {
+                highs[slot] = high;
+                lows[slot] = low;
+                values[slot] = value;
+                if (++size > (mask + 1) - ((mask + 1) >>> 2)) {
+                    grow();
+                }
+                return true;
+            }
+            if (h == high && l == low) {
+                if (value < values[slot]) {
+                    values[slot] = value;
+                }
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    boolean isOccupied(int slot) {
+        return highs[slot] != 0 || lows[slot] != 0;
+    }
+
+    long valueAt(int slot) {
+        return values[slot];
+    }
+
+    private void grow() {
+        if (mask + 1 >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("El conjunto de hashes excede la capacidad máxima.");
+        }
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        long[] oldValues = values;
+        allocate((mask + 1) << 1);
+        for (int i = 0; i < oldHighs.length; i++) {
+            if (oldHighs[i] != 0 || oldLows[i] != 0) {
+                int slot = (int) oldHighs[i] & mask;
+                while (highs[slot] != 0 || lows[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                highs[slot] = oldHighs[i];
+                lows[slot] = oldLows[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        highs = new long[capacity];
+        lows = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * @return La potencia de dos que mantiene la carga por debajo del 50 %.
+     */
+    private static int tableSizeFor(int expected) {
+        long capacity = Long.highestOneBit((long) expected * 2 - 1) << 1;
+        return (int) Math.min(Math.max(capacity, 16), MAXIMUM_CAPACITY);
+    }
+}
@@ -0,0 +1,218 @@
+package ec.edu.epn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Procesa archivos de facturas de varios gigabytes en streaming.
+ *
+ * Cada línea es un registro {@code monto<separador>tasa}; los campos adicionales se
+ * ignoran y los espacios o tabuladores alrededor de los campos se descartan, por lo
+ * que también se admiten columnas alineadas con espacios usando {@code ' '} como
+ * separador. El archivo se proyecta en memoria con {@link FileChannel#map}, se
+ * divide en fragmentos que terminan en fin de línea y cada fragmento se procesa en
+ * paralelo leyendo los números directamente desde los bytes, sin crear {@code String}.
+ *
+ * El uso de memoria del heap no depende del tamaño del archivo: los fragmentos
+ * proyectados viven fuera del heap y los totales se escriben a disco por bloques.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class InvoiceFileProcessor {
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final byte separator;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un procesador de archivos CSV separados por comas que usa el pool común.
+     */
+    public InvoiceFileProcessor() {
+        this((byte) ',', MappedFileChunks.DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un procesador configurado.
+     *
+     * @param separator El byte que separa los campos, por ejemplo {@code ','}, {@code ';'} o {@code ' '}.
+     * @param chunkSize El tamaño aproximado en bytes de cada fragmento paralelo.
+     * @param pool      El pool donde se procesan los fragmentos.
+     * @throws IllegalArgumentException Si el tamaño de fragmento no es positivo.
+     */
+    public InvoiceFileProcessor(byte separator, int chunkSize, ForkJoinPool pool) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de fragmento debe ser positivo.");
+        }
+        this.separator = separator;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Calcula el resumen de un archivo de facturas.
+     *
+     * @param input El archivo de entrada.
+     * @return El resumen de registros y totales.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public InvoiceSummary process(Path input) throws IOException {
+        return process(input, null);
+    }
+
+    /**
+     * Calcula el resumen de un archivo de facturas y escribe el total con impuesto de
+     * cada registro en {@code totalsOutput} como {@code double} binario little-endian,
+     * en el mismo orden que la entrada ({@link Double#NaN} para registros rechazados).
+     *
+     * @param input        El archivo de entrada.
+     * @param totalsOutput El archivo de salida, o null para calcular solo el resumen.
+     * @return El resumen de registros y totales.
+     * @throws IOException Si algún archivo no se puede leer o escribir.
+     */
+    public InvoiceSummary process(Path input, Path totalsOutput) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long[] bounds = MappedFileChunks.split(channel, chunkSize);
+            int chunks = bounds.length - 1;
+            List<ChunkResult> results = MappedFileChunks.invokeWithParts(pool, chunks, new Path[] {totalsOutput},
+                (chunk, parts) -> () -> processChunk(
+                    MappedFileChunks.map(channel, bounds[chunk], bounds[chunk + 1]), parts[0]),
+                "Error al procesar el archivo de facturas.", "Procesamiento interrumpido.");
+
+            long records = 0;
+            long rejected = 0;
+            CompensatedSum amounts = new CompensatedSum();
+            CompensatedSum taxes = new CompensatedSum();
+            CompensatedSum totals = new CompensatedSum();
+            for (ChunkResult result : results) {
+                records += result.records;
+                rejected += result.rejected;
+                amounts.add(result.amounts);
+                taxes.add(result.taxes);
+                totals.add(result.totals);
+            }
+            return new InvoiceSummary(records, rejected, amounts.sum(), taxes.sum(), totals.sum());
+        }
+    }
+
+    private ChunkResult processChunk(MappedByteBuffer chunk, Path part) throws IOException {
+        ChunkResult result = new ChunkResult();
+        FileChannel out = part == null ? null
+            : FileChannel.open(part, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer pending = out == null ? null
+            : ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int limit = chunk.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int next = lineEnd + 1;
+                if (lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                if (skipBlanks(chunk, lineStart, lineEnd) < lineEnd) {
+                    double total = processRecord(chunk, lineStart, lineEnd, result);
+                    if (pending != null) {
+                        if (!pending.hasRemaining()) {
+                            flush(pending, out);
+                        }
+                        pending.putDouble(total);
+                    }
+                }
+                lineStart = next;
+            }
+            if (pending != null) {
+                flush(pending, out);
+            }
+        } finally {
+            if (out != null) {
+                out.close();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return El total con impuesto del registro, o {@link Double#NaN} si se rechaza.
+     */
+    private double processRecord(ByteBuffer line, int from, int to, ChunkResult result) {
+        result.records++;
+        int amountStart = skipBlanks(line, from, to);
+        int amountEnd = fieldEnd(line, amountStart, to);
+        int position = skipBlanks(line, amountEnd, to);
+        if (position < to && line.get(position) == separator) {
+            position = skipBlanks(line, position + 1, to);
+        } else if (!isBlank(separator) || position == amountEnd) {
+            result.rejected++;
+            return Double.NaN;
+        }
+        int rateEnd = fieldEnd(line, position, to);
+
+        double amount = AsciiDecimalParser.parse(line, amountStart, amountEnd);
+        double taxRate = AsciiDecimalParser.parse(line, position, rateEnd);
+        if (!(amount >= 0) || !(taxRate >= 0)) {
+            result.rejected++;
+            return Double.NaN;
+        }
+        double taxAmount = amount * (taxRate / 100);
+        double total = amount + taxAmount;
+        result.amounts.add(amount);
+        result.taxes.add(taxAmount);
+        result.totals.add(total);
+        return total;
+    }
+
+    private int fieldEnd(ByteBuffer line, int from, int to) {
+        int position = from;
+        while (position < to) {
+            byte b = line.get(position);
+            if (b == separator || isBlank(b)) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipBlanks(ByteBuffer line, int from, int to) {
+        int position = from;
+        while (position < to && isBlank(line.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private static void flush(ByteBuffer pending, FileChannel out) throws IOException {
+        pending.flip();
+        while (pending.hasRemaining()) {
+            out.write(pending);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Acumuladores parciales de un fragmento; solo los usa el hilo que lo procesa.
+     */
+    private static final class ChunkResult {
+        long records;
+        long rejected;
+        final CompensatedSum amounts = new CompensatedSum();
+        final CompensatedSum taxes = new CompensatedSum();
+        final CompensatedSum totals = new CompensatedSum();
+    }
+}
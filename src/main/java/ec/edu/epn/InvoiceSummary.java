@@ -0,0 +1,61 @@
+package ec.edu.epn;
+
+/**
+ * Resumen inmutable del procesamiento de un archivo de facturas.
+ *
+ * Las sumas se acumulan con compensación y se combinan en el orden de los
+ * fragmentos del archivo, por lo que no dependen del número de hilos.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class InvoiceSummary {
+
+    private final long recordCount;
+    private final long rejectedCount;
+    private final double amountTotal;
+    private final double taxTotal;
+    private final double grandTotal;
+
+    InvoiceSummary(long recordCount, long rejectedCount, double amountTotal, double taxTotal, double grandTotal) {
+        this.recordCount = recordCount;
+        this.rejectedCount = rejectedCount;
+        this.amountTotal = amountTotal;
+        this.taxTotal = taxTotal;
+        this.grandTotal = grandTotal;
+    }
+
+    /**
+     * @return El número de registros leídos, incluidos los rechazados (sin contar líneas vacías).
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return El número de registros mal formados o con monto o tasa negativos.
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return La suma de los montos base de los registros válidos.
+     */
+    public double getAmountTotal() {
+        return amountTotal;
+    }
+
+    /**
+     * @return La suma de los impuestos de los registros válidos.
+     */
+    public double getTaxTotal() {
+        return taxTotal;
+    }
+
+    /**
+     * @return La suma de los totales con impuesto de los registros válidos.
+     */
+    public double getGrandTotal() {
+        return grandTotal;
+    }
+}
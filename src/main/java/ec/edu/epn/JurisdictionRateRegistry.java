@@ -0,0 +1,307 @@
+package ec.edu.epn;
+
+import java.util.Arrays;
+
+/**
+ * Registro de tasas de impuesto por jurisdicción con lecturas sin bloqueo.
+ *
+ * Las tasas se guardan en una instantánea inmutable (tabla hash de direccionamiento
+ * abierto sobre claves {@code long}) publicada mediante un campo volatile. Los
+ * lectores nunca bloquean: leen la instantánea vigente y consultan sus arreglos.
+ * Los escritores se serializan entre sí, construyen una copia con los cambios y la
+ * publican de forma atómica, por lo que un lector ve todos los cambios de una
+ * actualización o ninguno.
+ *
+ * Cada instantánea guarda además el multiplicador precalculado {@code 1 + tasa / 100}.
+ * Los identificadores {@code int} se amplían a {@code long} sin pérdida.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class JurisdictionRateRegistry {
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Obtiene la tasa de impuesto de una jurisdicción.
+     *
+     * @param jurisdictionId El identificador de la jurisdicción.
+     * @return El porcentaje de impuesto registrado.
+     * @throws IllegalArgumentException Si la jurisdicción no está registrada.
+     */
+    public double getRate(long jurisdictionId) {
+        Snapshot current = snapshot;
+        return current.rates[current.slotOrThrow(jurisdictionId)];
+    }
+
+    /**
+     * Obtiene la tasa de impuesto de una jurisdicción o un valor por defecto.
+     *
+     * @param jurisdictionId El identificador de la jurisdicción.
+     * @param defaultRate    El valor a retornar si la jurisdicción no está registrada.
+     * @return El porcentaje de impuesto registrado o {@code defaultRate}.
+     */
+    public double getRateOrDefault(long jurisdictionId, double defaultRate) {
+        Snapshot current = snapshot;
+        int slot = current.slotOf(jurisdictionId);
+        return slot < 0 ? defaultRate : current.rates[slot];
+    }
+
+    /**
+     * Obtiene el multiplicador precalculado {@code 1 + tasa / 100} de una jurisdicción.
+     *
+     * @param jurisdictionId El identificador de la jurisdicción.
+     * @return El multiplicador que convierte un monto en su total con impuesto.
+     * @throws IllegalArgumentException Si la jurisdicción no está registrada.
+     */
+    public double getMultiplier(long jurisdictionId) {
+        Snapshot current = snapshot;
+        return current.multipliers[current.slotOrThrow(jurisdictionId)];
+    }
+
+    /**
+     * Indica si una jurisdicción está registrada.
+     *
+     * @param jurisdictionId El identificador de la jurisdicción.
+     * @return true si tiene una tasa registrada.
+     */
+    public boolean contains(long jurisdictionId) {
+        return snapshot.slotOf(jurisdictionId) >= 0;
+    }
+
+    /**
+     * Calcula el total de un monto con la tasa de su jurisdicción, usando el
+     * multiplicador precalculado ({@code monto × (1 + tasa / 100)}).
+     *
+     * @param jurisdictionId El identificador de la jurisdicción.
+     * @param amount         El monto base. Debe ser mayor o igual a cero.
+     * @return El total con el impuesto incluido.
+     * @throws IllegalArgumentException Si el monto es negativo o la jurisdicción no está registrada.
+     */
+    public double calculateTotalWithTax(long jurisdictionId, double amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("El monto no puede ser negativo.");
+        }
+        return amount * getMultiplier(jurisdictionId);
+    }
+
+    /**
+     * Resuelve las tasas de una columna de jurisdicciones contra una única instantánea,
+     * de modo que todo el lote ve un estado coherente aunque haya actualizaciones en curso.
+     *
+     * Las jurisdicciones desconocidas se escriben como {@link Double#NaN} y se marcan
+     * en {@code rejectedMask}.
+     *
+     * @param jurisdictionIds Columna de identificadores.
+     * @param rates           Salida: tasa por fila, apta para
+     *                        {@link TaxCalculator#calculateTotalsWithTax(double[], double[], double[], double[], long[])}.
+     * @param rejectedMask    Salida opcional (puede ser null): máscara de filas no resueltas.
+     * @return El número de filas no resueltas.
+     * @throws IllegalArgumentException Si las salidas son demasiado cortas.
+     */
+    public int lookupRates(long[] jurisdictionIds, double[] rates, long[] rejectedMask) {
+        int rows = jurisdictionIds.length;
+        TaxCalculator.checkOutputs(rows, rates, null, rejectedMask);
+        Snapshot current = snapshot;
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            int slot = current.slotOf(jurisdictionIds[i]);
+            if (slot < 0) {
+                rates[i] = Double.NaN;
+                if (rejectedMask != null) {
+                    rejectedMask[i >>> 6] |= 1L << i;
+                }
+                rejected++;
+            } else {
+                rates[i] = current.rates[slot];
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * @return El número de jurisdicciones registradas.
+     */
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * @return Un contador que aumenta con cada actualización publicada.
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * Registra o reemplaza la tasa de una jurisdicción.
+     *
+     * @param jurisdictionId El identificador de la jurisdicción.
+     * @param taxRate        El porcentaje de impuesto. Debe ser mayor o igual a cero.
+     * @throws IllegalArgumentException Si la tasa es negativa.
+     */
+    public void putRate(long jurisdictionId, double taxRate) {
+        putRates(new long[] {jurisdictionId}, new double[] {taxRate});
+    }
+
+    /**
+     * Registra o reemplaza varias tasas en una sola publicación atómica.
+     *
+     * @param jurisdictionIds Los identificadores a actualizar. Si uno se repite, prevalece su última tasa.
+     * @param taxRates        Las tasas correspondientes. Deben ser mayores o iguales a cero.
+     * @throws IllegalArgumentException Si los arreglos tienen distinta longitud o alguna tasa es negativa.
+     */
+    public void putRates(long[] jurisdictionIds, double[] taxRates) {
+        checkRates(jurisdictionIds, taxRates);
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            int count = current.size + jurisdictionIds.length;
+            long[] ids = new long[count];
+            double[] rates = new double[count];
+            current.copyEntries(ids, rates);
+            System.arraycopy(jurisdictionIds, 0, ids, current.size, jurisdictionIds.length);
+            System.arraycopy(taxRates, 0, rates, current.size, taxRates.length);
+            snapshot = Snapshot.build(ids, rates, current.version + 1);
+        }
+    }
+
+    /**
+     * Reemplaza todo el contenido del registro en una sola publicación atómica.
+     *
+     * @param jurisdictionIds Los identificadores del nuevo contenido, sin duplicados.
+     * @param taxRates        Las tasas correspondientes. Deben ser mayores o iguales a cero.
+     * @throws IllegalArgumentException Si los arreglos tienen distinta longitud, hay
+     *                                  identificadores duplicados o alguna tasa es negativa.
+     */
+    public void replaceAll(long[] jurisdictionIds, double[] taxRates) {
+        checkRates(jurisdictionIds, taxRates);
+        synchronized (writeLock) {
+            Snapshot next = Snapshot.build(jurisdictionIds, taxRates, snapshot.version + 1);
+            if (next.size != jurisdictionIds.length) {
+                throw new IllegalArgumentException("Hay identificadores de jurisdicción duplicados.");
+            }
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Elimina la tasa de una jurisdicción.
+     *
+     * @param jurisdictionId El identificador de la jurisdicción.
+     * @return true si estaba registrada.
+     */
+    public boolean removeRate(long jurisdictionId) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current.slotOf(jurisdictionId) < 0) {
+                return false;
+            }
+            long[] ids = new long[current.size];
+            double[] rates = new double[current.size];
+            current.copyEntries(ids, rates);
+            int kept = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] != jurisdictionId) {
+                    ids[kept] = ids[i];
+                    rates[kept] = rates[i];
+                    kept++;
+                }
+            }
+            snapshot = Snapshot.build(Arrays.copyOf(ids, kept), Arrays.copyOf(rates, kept), current.version + 1);
+            return true;
+        }
+    }
+
+    private static void checkRates(long[] jurisdictionIds, double[] taxRates) {
+        if (jurisdictionIds.length != taxRates.length) {
+            throw new IllegalArgumentException("Se requiere una tasa por jurisdicción.");
+        }
+        for (double taxRate : taxRates) {
+            if (!(taxRate >= 0)) {
+                throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+            }
+        }
+    }
+
+    /**
+     * Tabla hash inmutable de sondeo lineal. Una vez publicada, ningún arreglo se modifica.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = build(new long[0], new double[0], 0);
+
+        final long[] keys;
+        final boolean[] used;
+        final double[] rates;
+        final double[] multipliers;
+        final int shift;
+        final long version;
+        int size;
+
+        private Snapshot(int capacity, long version) {
+            this.keys = new long[capacity];
+            this.used = new boolean[capacity];
+            this.rates = new double[capacity];
+            this.multipliers = new double[capacity];
+            this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+            this.version = version;
+        }
+
+        /**
+         * Construye una tabla con factor de carga menor a 1/2. Si un identificador
+         * se repite, prevalece su última aparición.
+         */
+        static Snapshot build(long[] ids, double[] taxRates, long version) {
+            int capacity = Integer.highestOneBit(Math.max(2, ids.length) * 2) << 1;
+            Snapshot snapshot = new Snapshot(capacity, version);
+            for (int i = 0; i < ids.length; i++) {
+                int slot = snapshot.probe(ids[i]);
+                if (!snapshot.used[slot]) {
+                    snapshot.used[slot] = true;
+                    snapshot.keys[slot] = ids[i];
+                    snapshot.size++;
+                }
+                snapshot.rates[slot] = taxRates[i];
+                snapshot.multipliers[slot] = 1 + taxRates[i] / 100;
+            }
+            return snapshot;
+        }
+
+        int slotOf(long id) {
+            int slot = probe(id);
+            return used[slot] ? slot : -1;
+        }
+
+        int slotOrThrow(long id) {
+            int slot = probe(id);
+            if (!used[slot]) {
+                throw new IllegalArgumentException("Jurisdicción desconocida: " + id);
+            }
+            return slot;
+        }
+
+        void copyEntries(long[] ids, double[] taxRates) {
+            int next = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (used[slot]) {
+                    ids[next] = keys[slot];
+                    taxRates[next] = rates[slot];
+                    next++;
+                }
+            }
+        }
+
+        /**
+         * @return La ranura que contiene {@code id} o la ranura libre donde iría.
+         */
+        private int probe(long id) {
+            int mask = keys.length - 1;
+            // Hash de Fibonacci: los bits altos del producto se reparten bien en la tabla.
+            int slot = (int) ((id * 0x9E3779B97F4A7C15L) >>> shift);
+            while (used[slot] && keys[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
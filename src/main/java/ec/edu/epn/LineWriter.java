@@ -0,0 +1,81 @@
+package ec.edu.epn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escribe líneas terminadas en {@code '\n'} en un archivo parcial a través de un
+ * buffer directo. Lo usa un único hilo.
+ */
+final class LineWriter {
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel out;
+    private final ByteBuffer pending = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+
+    LineWriter(Path part) throws IOException {
+        out = FileChannel.open(part, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Escribe {@code source[from, to)} seguido de {@code '\n'}.
+     */
+    void write(ByteBuffer source, int from, int to) throws IOException {
+        int length = to - from;
+        if (length + 1 > pending.remaining()) {
+            flush();
+            if (length + 1 > pending.capacity()) {
+                // Línea más grande que el buffer: se escribe directamente desde el origen.
+                writeFully(source.slice(from, length));
+                pending.put((byte) '\n');
+                return;
+            }
+        }
+        pending.put(pending.position(), source, from, length);
+        pending.position(pending.position() + length);
+        pending.put((byte) '\n');
+    }
+
+    /**
+     * Escribe {@code source[offset, offset + length)} seguido de {@code '\n'}.
+     */
+    void write(byte[] source, int offset, int length) throws IOException {
+        if (length + 1 > pending.remaining()) {
+            flush();
+            // Línea más grande que el buffer: se copia por tramos sin envolver el arreglo.
+            while (length + 1 > pending.capacity()) {
+                int chunk = pending.capacity();
+                pending.put(source, offset, chunk);
+                flush();
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+        pending.put(source, offset, length);
+        pending.put((byte) '\n');
+    }
+
+    void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        pending.flip();
+        writeFully(pending);
+        pending.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package ec.edu.epn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Utilidades para procesar archivos de registros por líneas en paralelo.
+ *
+ * Un archivo se divide en fragmentos de tamaño aproximado que siempre terminan
+ * justo después de un {@code '\n'}, de modo que ningún registro queda partido entre
+ * dos trabajadores. Cada fragmento cabe en un único {@link MappedByteBuffer}.
+ */
+final class MappedFileChunks {
+
+    /** Tamaño de fragmento por defecto: 64 MiB. */
+    static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+
+    private static final int SCAN_WINDOW = 8192;
+
+    private MappedFileChunks() {
+    }
+
+    /**
+     * Calcula los límites de los fragmentos de un archivo.
+     *
+     * @return Un arreglo {@code [0, b1, ..., size]}; el fragmento {@code i} es
+     *         {@code [bounds[i], bounds[i + 1])}.
+     */
+    static long[] split(FileChannel channel, int chunkSize) throws IOException {
+        long size = channel.size();
+        long[] bounds = new long[(int) (size / chunkSize) + 2];
+        int count = 1;
+        long start = 0;
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+        while (start < size) {
+            long end = nextLineStart(channel, Math.min(size, start + chunkSize), size, window);
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count * 2);
+            }
+            bounds[count++] = end;
+            start = end;
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    static MappedByteBuffer map(FileChannel channel, long start, long end) throws IOException {
+        long length = end - start;
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Un registro excede el tamaño máximo de fragmento.");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+    }
+
+    /**
+     * Concatena archivos parciales en orden dentro de {@code target} y los elimina.
+     */
+    static void concatenate(List<Path> parts, Path target) throws IOException {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path part : parts) {
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    long copied = 0;
+                    while (copied < size) {
+                        copied += in.transferTo(copied, size - copied, out);
+                    }
+                }
+                Files.delete(part);
+            }
+        }
+    }
+
+    /**
+     * Crea un archivo temporal junto a {@code target} para la salida de un fragmento.
+     */
+    static Path createPart(Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        return Files.createTempFile(directory, target.getFileName().toString(), ".part");
+    }
+
+    /**
+     * Ejecuta las tareas en el pool y devuelve sus resultados en el orden de la lista.
+     *
+     * Si una tarea falla con {@link IOException}, directa o envuelta en
+     * {@link UncheckedIOException}, se relanza esa {@link IOException}; cualquier otra
+     * causa se envuelve en {@link IllegalStateException} con {@code failureMessage}.
+     *
+     * @throws IOException Si una tarea falla con E/S o el hilo se interrumpe; en ese
+     *                     caso el mensaje es {@code interruptedMessage}.
+     */
+    static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks,
+                                 String failureMessage, String interruptedMessage) throws IOException {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException(failureMessage, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(interruptedMessage, e);
+        }
+    }
+
+    /**
+     * Crea la tarea de un fragmento que escribe en archivos parciales.
+     */
+    @FunctionalInterface
+    interface PartTaskFactory<T> {
+
+        /**
+         * @param chunk El índice del fragmento.
+         * @param parts {@code parts[k]} es el archivo parcial del destino {@code k}, o
+         *              null si ese destino es null.
+         */
+        Callable<T> create(int chunk, Path[] parts) throws IOException;
+    }
+
+    /**
+     * Como {@link #invokeAll(ForkJoinPool, List, String, String)} para tareas que
+     * escriben su salida en archivos parciales: crea un parcial por fragmento y por
+     * destino no null, ejecuta las tareas y concatena los parciales de cada destino en
+     * orden. Si algo falla en cualquiera de esos pasos, elimina todos los parciales
+     * antes de propagar la excepción.
+     *
+     * @param targets Los archivos de destino; los null no reciben parciales.
+     * @return Los resultados de las tareas, en orden de fragmento.
+     */
+    static <T> List<T> invokeWithParts(ForkJoinPool pool, int chunks, Path[] targets, PartTaskFactory<T> factory,
+                                       String failureMessage, String interruptedMessage) throws IOException {
+        List<Path> created = new ArrayList<>();
+        List<List<Path>> partsByTarget = new ArrayList<>(targets.length);
+        for (int k = 0; k < targets.length; k++) {
+            partsByTarget.add(new ArrayList<>(chunks));
+        }
+        try {
+            List<Callable<T>> tasks = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                Path[] parts = new Path[targets.length];
+                for (int k = 0; k < targets.length; k++) {
+                    if (targets[k] != null) {
+                        parts[k] = createPart(targets[k]);
+                        created.add(parts[k]);
+                        partsByTarget.get(k).add(parts[k]);
+                    }
+                }
+                tasks.add(factory.create(chunk, parts));
+            }
+            List<T> results = invokeAll(pool, tasks, failureMessage, interruptedMessage);
+            for (int k = 0; k < targets.length; k++) {
+                if (targets[k] != null) {
+                    concatenate(partsByTarget.get(k), targets[k]);
+                }
+            }
+            return results;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(created);
+            throw e;
+        }
+    }
+
+    /**
+     * Elimina archivos parciales tras un error, sin ocultar la excepción original.
+     */
+    static void deleteQuietly(List<Path> parts) {
+        for (Path part : parts) {
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException ignored) {
+                // El error original es el que debe propagarse.
+            }
+        }
+    }
+
+    /**
+     * @return La posición siguiente al primer {@code '\n'} en o después de {@code from}, o {@code size}.
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer window)
+            throws IOException {
+        long position = from;
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,409 @@
+package ec.edu.epn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verifica si un archivo de texto UTF-8 es un palíndromo sin cargarlo en el heap.
+ *
+ * Aplica las reglas de {@link StringValidator#isPalindrome(String)}: se ignoran los
+ * caracteres de {@code \s} (espacio, {@code \t}, {@code \n}, {@code \u000B},
+ * {@code \f}, {@code \r}) y se comparan los code points con
+ * {@link Character#toLowerCase(int)}. A diferencia de {@code String.toLowerCase()},
+ * no se aplican las reglas de contexto o de idioma (sigma final, I con punto).
+ *
+ * El archivo se recorre con dos cursores que avanzan desde los extremos hacia el
+ * centro, cada uno sobre una ventana proyectada en memoria de tamaño fijo que se
+ * vuelve a proyectar al salir de ella; el cursor derecho decodifica UTF-8 hacia
+ * atrás. La memoria usada no depende del tamaño del archivo.
+ *
+ * En modo paralelo el archivo se divide en segmentos. Primero se cuentan en paralelo
+ * los code points que no son espacios de cada segmento, lo que ubica el índice de
+ * cada code point; luego cada segmento de la mitad izquierda se compara, también en
+ * paralelo, con su rango espejo de la mitad derecha. Los espacios no tienen que ser
+ * simétricos, así que los rangos espejo se calculan por índice de code point y no
+ * por posición en bytes.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class PalindromeFileChecker {
+
+    /** Tamaño de ventana por defecto: 64 MiB. */
+    private static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+    /** Tamaño mínimo de ventana: cada proyección se libera recién cuando el GC la recoge. */
+    private static final int MIN_WINDOW_SIZE = 4096;
+    private static final int MAX_UTF8_LENGTH = 4;
+    private static final int SEGMENTS_PER_THREAD = 4;
+    private static final String FAILURE_MESSAGE = "Error al verificar el archivo.";
+    private static final String INTERRUPTED_MESSAGE = "Verificación interrumpida.";
+
+    private final int windowSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un verificador con ventanas de 64 MiB que usa el pool común en modo paralelo.
+     */
+    public PalindromeFileChecker() {
+        this(DEFAULT_WINDOW_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un verificador configurado.
+     *
+     * @param windowSize El tamaño en bytes de cada ventana proyectada; al menos 4096.
+     * @param pool       El pool donde se procesan los segmentos en modo paralelo.
+     * @throws IllegalArgumentException Si la ventana es menor que 4096 bytes.
+     */
+    public PalindromeFileChecker(int windowSize, ForkJoinPool pool) {
+        if (windowSize < MIN_WINDOW_SIZE) {
+            throw new IllegalArgumentException("La ventana debe tener al menos 4096 bytes.");
+        }
+        this.windowSize = windowSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Verifica un archivo recorriéndolo desde ambos extremos en el hilo actual.
+     *
+     * @param file El archivo UTF-8.
+     * @return true si el contenido es un palíndromo.
+     * @throws IOException              Si el archivo no se puede leer.
+     * @throws MalformedInputException  Si el archivo no es UTF-8 válido.
+     * @throws IllegalArgumentException Si el archivo solo contiene espacios.
+     */
+    public boolean isPalindrome(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return isPalindrome(channel);
+        }
+    }
+
+    /**
+     * Igual que {@link #isPalindrome(Path)} para todo el contenido de un canal.
+     */
+    public boolean isPalindrome(FileChannel channel) throws IOException {
+        long size = channel.size();
+        Cursor left = new Cursor(channel, 0, size, 0, windowSize, true);
+        Cursor right = new Cursor(channel, 0, size, size, windowSize, false);
+        int first = left.next(right.position);
+        if (first < 0) {
+            throw new IllegalArgumentException("Input cannot be empty.");
+        }
+        while (first >= 0) {
+            int last = right.previous(left.position);
+            if (last < 0) {
+                // first era el code point central.
+                break;
+            }
+            if (first != last && Character.toLowerCase(first) != Character.toLowerCase(last)) {
+                return false;
+            }
+            first = left.next(right.position);
+        }
+        return true;
+    }
+
+    /**
+     * Verifica un archivo comparando en paralelo pares de segmentos espejo.
+     *
+     * @see #isPalindrome(Path)
+     */
+    public boolean isPalindromeParallel(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return isPalindromeParallel(channel);
+        }
+    }
+
+    /**
+     * Igual que {@link #isPalindromeParallel(Path)} para todo el contenido de un canal.
+     */
+    public boolean isPalindromeParallel(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long[] bounds = segmentBounds(channel, size);
+        int segments = bounds.length - 1;
+
+        List<Callable<Long>> counts = new ArrayList<>(segments);
+        for (int i = 0; i < segments; i++) {
+            long start = bounds[i];
+            long end = bounds[i + 1];
+            counts.add(() -> countCodePoints(channel, start, end));
+        }
+        long[] firstIndex = new long[segments + 1];
+        List<Long> segmentCounts = MappedFileChunks.invokeAll(pool, counts, FAILURE_MESSAGE, INTERRUPTED_MESSAGE);
+        for (int i = 0; i < segments; i++) {
+            firstIndex[i + 1] = firstIndex[i] + segmentCounts.get(i);
+        }
+        long total = firstIndex[segments];
+        if (total == 0) {
+            throw new IllegalArgumentException("Input cannot be empty.");
+        }
+
+        long half = total / 2;
+        AtomicBoolean mismatch = new AtomicBoolean();
+        List<Callable<Boolean>> comparisons = new ArrayList<>(segments);
+        for (int i = 0; i < segments && firstIndex[i] < half; i++) {
+            long start = bounds[i];
+            long from = firstIndex[i];
+            long pairs = Math.min(firstIndex[i + 1], half) - from;
+            comparisons.add(() -> compareMirrored(channel, size, bounds, firstIndex, start, from, pairs, mismatch));
+        }
+        for (boolean matches : MappedFileChunks.invokeAll(pool, comparisons, FAILURE_MESSAGE, INTERRUPTED_MESSAGE)) {
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compara {@code pairs} code points desde {@code start}, cuyo índice es
+     * {@code from}, con sus espejos a partir del índice {@code total - 1 - from}.
+     */
+    private boolean compareMirrored(FileChannel channel, long size, long[] bounds, long[] firstIndex, long start,
+                                    long from, long pairs, AtomicBoolean mismatch) throws IOException {
+        long total = firstIndex[firstIndex.length - 1];
+        Cursor left = new Cursor(channel, 0, size, start, windowSize, true);
+        Cursor right = new Cursor(channel, 0, size, endOfCodePoint(channel, size, bounds, firstIndex,
+            total - 1 - from), windowSize, false);
+        for (long i = 0; i < pairs; i++) {
+            if ((i & 0xFFFF) == 0 && mismatch.get()) {
+                return false;
+            }
+            int first = left.next(size);
+            int last = right.previous(0);
+            if (first < 0 || last < 0) {
+                // Solo ocurre si los conteos no coinciden con la decodificación.
+                throw new MalformedInputException(1);
+            }
+            if (first != last && Character.toLowerCase(first) != Character.toLowerCase(last)) {
+                mismatch.set(true);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return La posición que sigue al code point que no es espacio de índice {@code index}.
+     */
+    private long endOfCodePoint(FileChannel channel, long size, long[] bounds, long[] firstIndex, long index)
+            throws IOException {
+        int segment = Arrays.binarySearch(firstIndex, index);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        // Los segmentos vacíos repiten el índice; el code point está en el último de ellos.
+        while (segment + 1 < firstIndex.length - 1 && firstIndex[segment + 1] == index) {
+            segment++;
+        }
+        Cursor cursor = new Cursor(channel, 0, size, bounds[segment], windowSize, true);
+        for (long i = firstIndex[segment]; i <= index; i++) {
+            if (cursor.next(size) < 0) {
+                throw new MalformedInputException(1);
+            }
+        }
+        return cursor.position;
+    }
+
+    /**
+     * Cuenta los code points que no son espacios de {@code [start, end)}; los bytes de
+     * continuación UTF-8 no inician un code point.
+     */
+    private static long countCodePoints(FileChannel channel, long start, long end) throws IOException {
+        if (start == end) {
+            return 0;
+        }
+        MappedByteBuffer segment = MappedFileChunks.map(channel, start, end);
+        long count = 0;
+        for (int i = 0; i < segment.limit(); i++) {
+            int b = segment.get(i) & 0xFF;
+            if ((b & 0xC0) != 0x80 && !isWhitespace(b)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Divide el canal en segmentos de a lo más una ventana cuyos límites caen al
+     * inicio de un code point.
+     */
+    private long[] segmentBounds(FileChannel channel, long size) throws IOException {
+        long bySize = (size + windowSize - 1) / windowSize;
+        int segments = (int) Math.max(1, Math.min(size,
+            Math.max(bySize, (long) pool.getParallelism() * SEGMENTS_PER_THREAD)));
+        long[] bounds = new long[segments + 1];
+        ByteBuffer probe = ByteBuffer.allocate(1);
+        for (int i = 1; i < segments; i++) {
+            long position = Math.max(bounds[i - 1], size / segments * i);
+            while (position < size) {
+                probe.clear();
+                channel.read(probe, position);
+                if ((probe.get(0) & 0xC0) != 0x80) {
+                    break;
+                }
+                position++;
+            }
+            bounds[i] = position;
+        }
+        bounds[segments] = size;
+        return bounds;
+    }
+
+    /**
+     * Los mismos caracteres que la expresión regular {@code \s}.
+     */
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || (b >= '\t' && b <= '\r');
+    }
+
+    /**
+     * Posición de lectura sobre una ventana proyectada de {@code [lower, upper)} que se
+     * mueve en una sola dirección.
+     */
+    private static final class Cursor {
+
+        private final FileChannel channel;
+        private final long lower;
+        private final long upper;
+        private final int windowSize;
+        private final boolean forward;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long windowEnd;
+        long position;
+
+        Cursor(FileChannel channel, long lower, long upper, long position, int windowSize, boolean forward) {
+            this.channel = channel;
+            this.lower = lower;
+            this.upper = upper;
+            this.position = position;
+            this.windowSize = windowSize;
+            this.forward = forward;
+        }
+
+        private int byteAt(long at) throws IOException {
+            long offset = at - windowStart;
+            if (offset < 0 || offset >= windowEnd - windowStart) {
+                remap(at);
+                offset = at - windowStart;
+            }
+            return window.get((int) offset) & 0xFF;
+        }
+
+        private void remap(long at) throws IOException {
+            if (forward) {
+                windowStart = at;
+                windowEnd = Math.min(upper, at + windowSize);
+            } else {
+                // Incluye los bytes siguientes para decodificar la secuencia sin volver a proyectar.
+                windowEnd = Math.min(upper, at + MAX_UTF8_LENGTH);
+                windowStart = Math.max(lower, windowEnd - windowSize);
+            }
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+        }
+
+        /**
+         * Avanza hasta el siguiente code point que no es espacio, sin pasar de {@code limit}.
+         *
+         * @return El code point, o -1 si no hay ninguno antes de {@code limit}.
+         */
+        int next(long limit) throws IOException {
+            while (position < limit) {
+                int lead = byteAt(position);
+                if (lead < 0x80) {
+                    position++;
+                    if (!isWhitespace(lead)) {
+                        return lead;
+                    }
+                    continue;
+                }
+                int length = sequenceLength(lead);
+                if (length == 0 || position + length > upper) {
+                    throw new MalformedInputException(1);
+                }
+                int codePoint = decode(lead, length, position);
+                position += length;
+                return codePoint;
+            }
+            return -1;
+        }
+
+        /**
+         * Retrocede hasta el code point anterior que no es espacio, sin pasar de {@code limit}.
+         *
+         * @return El code point, o -1 si no hay ninguno después de {@code limit}.
+         */
+        int previous(long limit) throws IOException {
+            while (position > limit) {
+                int last = byteAt(position - 1);
+                if (last < 0x80) {
+                    position--;
+                    if (!isWhitespace(last)) {
+                        return last;
+                    }
+                    continue;
+                }
+                int continuation = 0;
+                while (continuation < MAX_UTF8_LENGTH - 1 && position - continuation - 1 > lower
+                        && (byteAt(position - continuation - 1) & 0xC0) == 0x80) {
+                    continuation++;
+                }
+                long start = position - continuation - 1;
+                int lead = byteAt(start);
+                if (sequenceLength(lead) != continuation + 1) {
+                    throw new MalformedInputException(continuation + 1);
+                }
+                int codePoint = decode(lead, continuation + 1, start);
+                position = start;
+                return codePoint;
+            }
+            return -1;
+        }
+
+        private int decode(int lead, int length, long start) throws IOException {
+            if (length == 1) {
+                return lead;
+            }
+            int codePoint = lead & (0x7F >>> length);
+            for (int i = 1; i < length; i++) {
+                int b = byteAt(start + i);
+                if ((b & 0xC0) != 0x80) {
+                    throw new MalformedInputException(i);
+                }
+                codePoint = (codePoint << 6) | (b & 0x3F);
+            }
+            return codePoint;
+        }
+
+        /**
+         * @return La longitud de la secuencia UTF-8 que inicia con {@code lead}, o 0 si
+         *         no es un byte inicial.
+         */
+        private static int sequenceLength(int lead) {
+            if (lead < 0x80) {
+                return 1;
+            }
+            if (lead < 0xC2) {
+                return 0;
+            }
+            if (lead < 0xE0) {
+                return 2;
+            }
+            if (lead < 0xF0) {
+                return 3;
+            }
+            return lead < 0xF5 ? 4 : 0;
+        }
+    }
+}
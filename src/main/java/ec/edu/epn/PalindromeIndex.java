@@ -0,0 +1,330 @@
+package ec.edu.epn;
+
+/**
+ * Índice de subcadenas palíndromas de un texto, construido una sola vez en tiempo lineal.
+ *
+ * El texto se normaliza como en {@link StringValidator#isPalindrome(String)}: se
+ * descartan los espacios que reconoce la expresión regular {@code \s} y cada punto
+ * de código se compara con {@link Character#toLowerCase(int)}. Sobre esa secuencia
+ * el algoritmo de Manacher calcula, para cada centro, el palíndromo más largo; con
+ * eso {@link #isPalindrome(int, int)} responde en O(1) y
+ * {@link #longestPalindromeLength(int, int)} en O(log n), sin crear cadenas.
+ *
+ * Los índices de las consultas son posiciones {@code char} del texto original, como
+ * en {@link String#substring(int, int)}. A diferencia de {@code StringValidator}, un
+ * rango vacío o formado solo por espacios se considera palíndromo, y la I mayúscula
+ * con punto y la sigma final se pasan a minúsculas carácter por carácter, sin las
+ * reglas de contexto ni de idioma de {@link String#toLowerCase()}.
+ *
+ * La instancia es inmutable y puede consultarse desde varios hilos.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class PalindromeIndex {
+
+    private final String text;
+    /** Puntos de código normalizados que empiezan antes de cada posición del texto. */
+    private final int[] normalizedBefore;
+    private final int normalizedLength;
+    /** Longitud del palíndromo impar más largo centrado en cada punto de código. */
+    private final int[] oddLengths;
+    /** Longitud del palíndromo par más largo que termina justo antes de cada punto de código. */
+    private final int[] evenLengths;
+    private final RangeMax oddMax;
+    private final RangeMax evenMax;
+
+    /**
+     * Construye el índice de un texto.
+     *
+     * @param text El texto a indexar. Puede estar vacío.
+     * @throws IllegalArgumentException Si el texto es null.
+     */
+    public PalindromeIndex(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("El texto no puede ser null.");
+        }
+        this.text = text;
+        this.normalizedBefore = new int[text.length() + 1];
+        int[] normalized = new int[text.length()];
+        int count = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+            if (!StringValidator.isRegexWhitespace(text.charAt(i))) {
+                normalized[count++] = Character.toLowerCase(codePoint);
+            }
+            // La posición intermedia de un par sustituto no admite consultas.
+            for (int k = i + 1; k <= next; k++) {
+                normalizedBefore[k] = count;
+            }
+            i = next;
+        }
+        this.normalizedLength = count;
+        this.oddLengths = new int[count];
+        this.evenLengths = new int[count + 1];
+        manacher(normalized, count, oddLengths, evenLengths);
+        this.oddMax = new RangeMax(oddLengths);
+        this.evenMax = new RangeMax(evenLengths);
+    }
+
+    /**
+     * Indica si el rango {@code [begin, end)} del texto es un palíndromo, ignorando
+     * espacios y mayúsculas.
+     *
+     * @param begin Posición inicial, inclusiva.
+     * @param end   Posición final, exclusiva.
+     * @return true si el rango normalizado se lee igual en ambos sentidos.
+     * @throws IllegalArgumentException Si el rango está fuera del texto o parte un par sustituto.
+     */
+    public boolean isPalindrome(int begin, int end) {
+        checkRange(begin, end);
+        return isNormalizedPalindrome(normalizedBefore[begin], normalizedBefore[end]);
+    }
+
+    /**
+     * Calcula la longitud del palíndromo más largo contenido en {@code [begin, end)}.
+     *
+     * @param begin Posición inicial, inclusiva.
+     * @param end   Posición final, exclusiva.
+     * @return La longitud en puntos de código normalizados; 0 si el rango no tiene
+     *         caracteres fuera de los espacios.
+     * @throws IllegalArgumentException Si el rango está fuera del texto o parte un par sustituto.
+     */
+    public int longestPalindromeLength(int begin, int end) {
+        checkRange(begin, end);
+        return longestNormalizedPalindrome(normalizedBefore[begin], normalizedBefore[end]);
+    }
+
+    /**
+     * Versión por lotes de {@link #isPalindrome(int, int)}.
+     *
+     * @param begins         Posiciones iniciales de las consultas.
+     * @param ends           Posiciones finales de las consultas, con la misma longitud.
+     * @param palindromeMask Salida: un bit por consulta, encendido si el rango es
+     *                       palíndromo. Longitud mínima {@code (consultas + 63) / 64}.
+     * @return El número de consultas que son palíndromos.
+     * @throws IllegalArgumentException Si los arreglos no concuerdan, la máscara es
+     *                                  demasiado corta o algún rango no es válido.
+     */
+    public int isPalindrome(int[] begins, int[] ends, long[] palindromeMask) {
+        checkQueries(begins, ends);
+        int queries = begins.length;
+        int words = (queries + 63) >>> 6;
+        if (palindromeMask.length < words) {
+            throw new IllegalArgumentException("La máscara de palíndromos es demasiado corta.");
+        }
+        int palindromes = 0;
+        for (int word = 0; word < words; word++) {
+            long bits = 0L;
+            int limit = Math.min(64, queries - (word << 6));
+            for (int bit = 0; bit < limit; bit++) {
+                int query = (word << 6) + bit;
+                if (isPalindrome(begins[query], ends[query])) {
+                    bits |= 1L << bit;
+                }
+            }
+            palindromeMask[word] = bits;
+            palindromes += Long.bitCount(bits);
+        }
+        return palindromes;
+    }
+
+    /**
+     * Versión por lotes de {@link #longestPalindromeLength(int, int)}.
+     *
+     * @param begins  Posiciones iniciales de las consultas.
+     * @param ends    Posiciones finales de las consultas, con la misma longitud.
+     * @param lengths Salida: la longitud del palíndromo más largo de cada consulta.
+     * @throws IllegalArgumentException Si los arreglos no concuerdan o algún rango no es válido.
+     */
+    public void longestPalindromeLengths(int[] begins, int[] ends, int[] lengths) {
+        checkQueries(begins, ends);
+        if (lengths.length < begins.length) {
+            throw new IllegalArgumentException("El arreglo de salida es demasiado corto.");
+        }
+        for (int query = 0; query < begins.length; query++) {
+            lengths[query] = longestPalindromeLength(begins[query], ends[query]);
+        }
+    }
+
+    /**
+     * @return El número de puntos de código que quedan tras normalizar el texto.
+     */
+    public int normalizedLength() {
+        return normalizedLength;
+    }
+
+    private boolean isNormalizedPalindrome(int from, int to) {
+        int length = to - from;
+        if (length <= 1) {
+            return true;
+        }
+        int half = length >>> 1;
+        if ((length & 1) == 1) {
+            return oddLengths[from + half] >= length;
+        }
+        return evenLengths[from + half] >= length;
+    }
+
+    /**
+     * Busca el mayor radio para el que algún centro dentro del rango, lo bastante lejos
+     * de los bordes, tiene un palíndromo de esa longitud. La condición es monótona en el
+     * radio, así que se resuelve con una búsqueda binaria por paridad.
+     */
+    private int longestNormalizedPalindrome(int from, int to) {
+        int length = to - from;
+        if (length <= 1) {
+            return length;
+        }
+        // Palíndromos impares de longitud 2r + 1: centros en [from + r, to - 1 - r].
+        int low = 0;
+        int high = (length - 1) >>> 1;
+        while (low < high) {
+            int radius = (low + high + 1) >>> 1;
+            if (oddMax.max(from + radius, to - 1 - radius) >= 2 * radius + 1) {
+                low = radius;
+            } else {
+                high = radius - 1;
+            }
+        }
+        int longest = 2 * low + 1;
+        // Palíndromos pares de longitud 2r: centros en [from + r, to - r].
+        low = 0;
+        high = length >>> 1;
+        while (low < high) {
+            int radius = (low + high + 1) >>> 1;
+            if (evenMax.max(from + radius, to - radius) >= 2 * radius) {
+                low = radius;
+            } else {
+                high = radius - 1;
+            }
+        }
+        return Math.max(longest, 2 * low);
+    }
+
+    private void checkRange(int begin, int end) {
+        if (begin < 0 || end > text.length() || begin > end) {
+            throw new IllegalArgumentException("Rango fuera del texto: [" + begin + ", " + end + ").");
+        }
+        if (splitsSurrogatePair(begin) || splitsSurrogatePair(end)) {
+            throw new IllegalArgumentException("El rango parte un par sustituto: [" + begin + ", " + end + ").");
+        }
+    }
+
+    private boolean splitsSurrogatePair(int index) {
+        return index > 0 && index < text.length()
+            && Character.isLowSurrogate(text.charAt(index)) && Character.isHighSurrogate(text.charAt(index - 1));
+    }
+
+    private static void checkQueries(int[] begins, int[] ends) {
+        if (begins == null || ends == null || begins.length != ends.length) {
+            throw new IllegalArgumentException("Los arreglos de consultas deben tener la misma longitud.");
+        }
+    }
+
+    /**
+     * Algoritmo de Manacher: reutiliza el reflejo de los palíndromos ya encontrados para
+     * que cada centro parta de un radio conocido, en O(n) comparaciones en total.
+     */
+    private static void manacher(int[] s, int n, int[] oddLengths, int[] evenLengths) {
+        int left = 0;
+        int right = -1;
+        for (int i = 0; i < n; i++) {
+            int radius = i > right ? 1 : Math.min((oddLengths[left + right - i] + 1) >>> 1, right - i + 1);
+            while (i - radius >= 0 && i + radius < n && s[i - radius] == s[i + radius]) {
+                radius++;
+            }
+            oddLengths[i] = 2 * radius - 1;
+            if (i + radius - 1 > right) {
+                left = i - radius + 1;
+                right = i + radius - 1;
+            }
+        }
+        left = 0;
+        right = -1;
+        for (int i = 0; i < n; i++) {
+            int radius = i > right ? 0 : Math.min(evenLengths[left + right - i + 1] >>> 1, right - i + 1);
+            while (i - radius - 1 >= 0 && i + radius < n && s[i - radius - 1] == s[i + radius]) {
+                radius++;
+            }
+            evenLengths[i] = 2 * radius;
+            if (i + radius - 1 > right) {
+                left = i - radius;
+                right = i + radius - 1;
+            }
+        }
+    }
+
+    /**
+     * Máximo de un rango en O(1) con memoria casi lineal: tabla dispersa sobre los
+     * máximos de bloques de 32 valores, más máximos de prefijo y sufijo dentro de cada
+     * bloque. Los rangos dentro de un mismo bloque se recorren directamente.
+     */
+    private static final class RangeMax {
+        private static final int BLOCK_SHIFT = 5;
+        private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+        private final int[] values;
+        private final int[] prefixMax;
+        private final int[] suffixMax;
+        private final int[][] blockMax;
+
+        RangeMax(int[] values) {
+            this.values = values;
+            int n = values.length;
+            this.prefixMax = new int[n];
+            this.suffixMax = new int[n];
+            for (int i = 0; i < n; i++) {
+                prefixMax[i] = (i & (BLOCK_SIZE - 1)) == 0 ? values[i] : Math.max(prefixMax[i - 1], values[i]);
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                suffixMax[i] = (i & (BLOCK_SIZE - 1)) == BLOCK_SIZE - 1 || i == n - 1
+                    ? values[i] : Math.max(suffixMax[i + 1], values[i]);
+            }
+            int blocks = (n + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+            int levels = blocks <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(blocks - 1) + 1;
+            this.blockMax = new int[levels][];
+            blockMax[0] = new int[blocks];
+            for (int block = 0; block < blocks; block++) {
+                blockMax[0][block] = suffixMax[block << BLOCK_SHIFT];
+            }
+            for (int level = 1; level < levels; level++) {
+                int span = 1 << (level - 1);
+                int[] previous = blockMax[level - 1];
+                int[] current = new int[Math.max(0, blocks - (1 << level) + 1)];
+                for (int block = 0; block < current.length; block++) {
+                    current[block] = Math.max(previous[block], previous[block + span]);
+                }
+                blockMax[level] = current;
+            }
+        }
+
+        /**
+         * @return El máximo de {@code values[from..to]}, o -1 si el rango está vacío.
+         */
+        int max(int from, int to) {
+            if (from > to) {
+                return -1;
+            }
+            int fromBlock = from >>> BLOCK_SHIFT;
+            int toBlock = to >>> BLOCK_SHIFT;
+            if (fromBlock == toBlock) {
+                int max = values[from];
+                for (int i = from + 1; i <= to; i++) {
+                    max = Math.max(max, values[i]);
+                }
+                return max;
+            }
+            int max = Math.max(suffixMax[from], prefixMax[to]);
+            if (fromBlock + 1 < toBlock) {
+                int first = fromBlock + 1;
+                int count = toBlock - first;
+                int level = 31 - Integer.numberOfLeadingZeros(count);
+                int[] row = blockMax[level];
+                max = Math.max(max, Math.max(row[first], row[toBlock - (1 << level)]));
+            }
+            return max;
+        }
+    }
+}
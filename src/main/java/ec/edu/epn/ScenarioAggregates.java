@@ -0,0 +1,105 @@
+package ec.edu.epn;
+
+import java.util.Objects;
+
+/**
+ * Agregados inmutables de una evaluación de escenarios de {@link TaxScenarioMatrix}.
+ *
+ * Cada escenario corresponde a una tasa candidata; los agregados se calculan sobre
+ * los totales con impuesto de todos los montos válidos.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class ScenarioAggregates {
+
+    private final int scenarios;
+    private final int buckets;
+    private final long validCount;
+    private final long rejectedCount;
+    private final double[] totals;
+    private final double[] minTotals;
+    private final double[] maxTotals;
+    private final double[] bucketTotals;
+
+    ScenarioAggregates(int scenarios, int buckets, long validCount, long rejectedCount,
+                       double[] totals, double[] minTotals, double[] maxTotals, double[] bucketTotals) {
+        this.scenarios = scenarios;
+        this.buckets = buckets;
+        this.validCount = validCount;
+        this.rejectedCount = rejectedCount;
+        this.totals = totals;
+        this.minTotals = minTotals;
+        this.maxTotals = maxTotals;
+        this.bucketTotals = bucketTotals;
+    }
+
+    /**
+     * @return El número de escenarios (tasas candidatas).
+     */
+    public int getScenarioCount() {
+        return scenarios;
+    }
+
+    /**
+     * @return El número de tramos de monto en que se agrupan los totales.
+     */
+    public int getBucketCount() {
+        return buckets;
+    }
+
+    /**
+     * @return El número de montos válidos evaluados en cada escenario.
+     */
+    public long getValidCount() {
+        return validCount;
+    }
+
+    /**
+     * @return El número de montos negativos omitidos.
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @param scenario El índice de la tasa candidata.
+     * @return La suma de los totales con impuesto del escenario.
+     * @throws IndexOutOfBoundsException Si el escenario no existe.
+     */
+    public double getTotal(int scenario) {
+        Objects.checkIndex(scenario, scenarios);
+        return totals[scenario];
+    }
+
+    /**
+     * @param scenario El índice de la tasa candidata.
+     * @return El menor total con impuesto del escenario, o {@link Double#NaN} si no hubo montos válidos.
+     * @throws IndexOutOfBoundsException Si el escenario no existe.
+     */
+    public double getMinTotal(int scenario) {
+        Objects.checkIndex(scenario, scenarios);
+        return validCount == 0 ? Double.NaN : minTotals[scenario];
+    }
+
+    /**
+     * @param scenario El índice de la tasa candidata.
+     * @return El mayor total con impuesto del escenario, o {@link Double#NaN} si no hubo montos válidos.
+     * @throws IndexOutOfBoundsException Si el escenario no existe.
+     */
+    public double getMaxTotal(int scenario) {
+        Objects.checkIndex(scenario, scenarios);
+        return validCount == 0 ? Double.NaN : maxTotals[scenario];
+    }
+
+    /**
+     * @param scenario El índice de la tasa candidata.
+     * @param bucket   El índice del tramo de monto.
+     * @return La suma de los totales con impuesto de los montos del tramo en el escenario.
+     * @throws IndexOutOfBoundsException Si el escenario o el tramo no existen.
+     */
+    public double getBucketTotal(int scenario, int bucket) {
+        Objects.checkIndex(scenario, scenarios);
+        Objects.checkIndex(bucket, buckets);
+        return bucketTotals[scenario * buckets + bucket];
+    }
+}
@@ -0,0 +1,316 @@
+package ec.edu.epn;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Autómata finito determinista, precalculado como tabla de transiciones, para la
+ * gramática estricta de direcciones de correo (RFC 5321 / RFC 5322, sin comentarios
+ * ni literales de dirección IP).
+ *
+ * Gramática reconocida:
+ * <pre>
+ * address    = local-part "@" domain
+ * local-part = dot-atom / quoted-string
+ * dot-atom   = 1*atext *("." 1*atext)
+ * quoted     = DQUOTE *(qtext / "\" %d32-126) DQUOTE
+ * domain     = label 1*("." label)
+ * label      = alnum [*(alnum / "-") alnum]
+ * </pre>
+ *
+ * Límites: dirección de hasta {@value #MAX_ADDRESS_LENGTH} caracteres, parte local
+ * de hasta {@value #MAX_LOCAL_LENGTH} y etiquetas de dominio de hasta
+ * {@value #MAX_LABEL_LENGTH}. Solo se aceptan caracteres ASCII, por lo que los bytes
+ * UTF-8 de un carácter no ASCII se rechazan igual que el carácter decodificado.
+ *
+ * Cada carácter se procesa con una consulta a la tabla: el tiempo es lineal y no
+ * hay retroceso.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+final class StrictEmailGrammar {
+
+    static final int MAX_ADDRESS_LENGTH = 254;
+    static final int MAX_LOCAL_LENGTH = 64;
+    static final int MAX_LABEL_LENGTH = 63;
+
+    // Clases de caracteres.
+    private static final int C_ALNUM = 0;
+    private static final int C_HYPHEN = 1;
+    private static final int C_ATEXT = 2;
+    private static final int C_DOT = 3;
+    private static final int C_AT = 4;
+    private static final int C_DQUOTE = 5;
+    private static final int C_BACKSLASH = 6;
+    private static final int C_QTEXT = 7;
+    private static final int C_INVALID = 8;
+    private static final int CLASS_COUNT = 9;
+
+    // Estados. DOMAIN_START y DOMAIN_DOT inician una etiqueta; DOMAIN_LABEL_FQ es el
+    // único estado de aceptación (etiqueta después de al menos un punto).
+    private static final int START = 0;
+    private static final int LOCAL_ATOM = 1;
+    private static final int LOCAL_DOT = 2;
+    private static final int QUOTED = 3;
+    private static final int QUOTED_ESCAPE = 4;
+    private static final int QUOTED_END = 5;
+    private static final int DOMAIN_START = 6;
+    private static final int DOMAIN_LABEL = 7;
+    private static final int DOMAIN_HYPHEN = 8;
+    private static final int DOMAIN_DOT = 9;
+    private static final int DOMAIN_LABEL_FQ = 10;
+    private static final int DOMAIN_HYPHEN_FQ = 11;
+    private static final int ERROR = 12;
+    private static final int STATE_COUNT = 13;
+
+    // Cada fila de la tabla cubre los 128 caracteres ASCII y cada entrada guarda el
+    // desplazamiento de la fila siguiente (estado * 128): el bucle avanza con una
+    // sola carga por carácter, sin multiplicar ni consultar la clase por separado.
+    private static final int ROW = 128;
+
+    private static final byte[] CLASSES = new byte[ROW];
+    private static final byte[] CLASS_TRANSITIONS = new byte[STATE_COUNT * CLASS_COUNT];
+    private static final short[] TRANSITIONS = new short[STATE_COUNT * ROW];
+
+    private static final int DOMAIN_START_ROW = DOMAIN_START * ROW;
+    private static final int DOMAIN_DOT_ROW = DOMAIN_DOT * ROW;
+    private static final int DOMAIN_LABEL_FQ_ROW = DOMAIN_LABEL_FQ * ROW;
+    private static final int ERROR_ROW = ERROR * ROW;
+
+    static {
+        for (int c = 0; c < ROW; c++) {
+            CLASSES[c] = (byte) classify(c);
+        }
+        Arrays.fill(CLASS_TRANSITIONS, (byte) ERROR);
+
+        int[] atext = {C_ALNUM, C_HYPHEN, C_ATEXT};
+        for (int cls : atext) {
+            on(START, cls, LOCAL_ATOM);
+            on(LOCAL_ATOM, cls, LOCAL_ATOM);
+            on(LOCAL_DOT, cls, LOCAL_ATOM);
+        }
+        on(START, C_DQUOTE, QUOTED);
+        on(LOCAL_ATOM, C_DOT, LOCAL_DOT);
+        on(LOCAL_ATOM, C_AT, DOMAIN_START);
+
+        for (int cls = 0; cls < CLASS_COUNT; cls++) {
+            if (cls != C_INVALID) {
+                on(QUOTED, cls, QUOTED);
+                on(QUOTED_ESCAPE, cls, QUOTED);
+            }
+        }
+        on(QUOTED, C_DQUOTE, QUOTED_END);
+        on(QUOTED, C_BACKSLASH, QUOTED_ESCAPE);
+        on(QUOTED_END, C_AT, DOMAIN_START);
+
+        on(DOMAIN_START, C_ALNUM, DOMAIN_LABEL);
+        on(DOMAIN_LABEL, C_ALNUM, DOMAIN_LABEL);
+        on(DOMAIN_LABEL, C_HYPHEN, DOMAIN_HYPHEN);
+        on(DOMAIN_LABEL, C_DOT, DOMAIN_DOT);
+        on(DOMAIN_HYPHEN, C_ALNUM, DOMAIN_LABEL);
+        on(DOMAIN_HYPHEN, C_HYPHEN, DOMAIN_HYPHEN);
+        on(DOMAIN_DOT, C_ALNUM, DOMAIN_LABEL_FQ);
+        on(DOMAIN_LABEL_FQ, C_ALNUM, DOMAIN_LABEL_FQ);
+        on(DOMAIN_LABEL_FQ, C_HYPHEN, DOMAIN_HYPHEN_FQ);
+        on(DOMAIN_LABEL_FQ, C_DOT, DOMAIN_DOT);
+        on(DOMAIN_HYPHEN_FQ, C_ALNUM, DOMAIN_LABEL_FQ);
+        on(DOMAIN_HYPHEN_FQ, C_HYPHEN, DOMAIN_HYPHEN_FQ);
+
+        for (int state = 0; state < STATE_COUNT; state++) {
+            for (int c = 0; c < ROW; c++) {
+                TRANSITIONS[state * ROW + c] = (short) (CLASS_TRANSITIONS[state * CLASS_COUNT + CLASSES[c]] * ROW);
+            }
+        }
+    }
+
+    private StrictEmailGrammar() {
+    }
+
+    /**
+     * Verifica si el texto completo es una dirección válida según la gramática estricta.
+     *
+     * @param email El texto a validar; no debe ser null.
+     * @return true si la dirección es válida.
+     */
+    static boolean matches(CharSequence email) {
+        int length = email.length();
+        if (length > MAX_ADDRESS_LENGTH) {
+            return false;
+        }
+        int row = START;
+        int labelStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c >= ROW) {
+                return false;
+            }
+            row = TRANSITIONS[row + c];
+            if (row >= DOMAIN_START_ROW && (labelStart = boundary(row, i, labelStart)) < 0) {
+                return false;
+            }
+        }
+        return accepts(row, length, labelStart);
+    }
+
+    /**
+     * Verifica si los bytes {@code [from, to)} forman una dirección válida. Los bytes
+     * no ASCII (negativos) se rechazan, igual que en {@link #matches(CharSequence)}.
+     *
+     * @param bytes El arreglo de bytes.
+     * @param from  La posición inicial, inclusiva.
+     * @param to    La posición final, exclusiva.
+     * @return true si la dirección es válida.
+     */
+    static boolean matches(byte[] bytes, int from, int to) {
+        int length = to - from;
+        if (length > MAX_ADDRESS_LENGTH) {
+            return false;
+        }
+        int row = START;
+        int labelStart = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[from + i];
+            if (b < 0) {
+                return false;
+            }
+            row = TRANSITIONS[row + b];
+            if (row >= DOMAIN_START_ROW && (labelStart = boundary(row, i, labelStart)) < 0) {
+                return false;
+            }
+        }
+        return accepts(row, length, labelStart);
+    }
+
+    /**
+     * Igual que {@link #matches(byte[], int, int)} sobre un buffer de bytes. Si el
+     * buffer tiene un arreglo accesible se recorre ese arreglo directamente.
+     *
+     * @param bytes El buffer; no se modifica su posición.
+     * @param from  La posición inicial, inclusiva.
+     * @param to    La posición final, exclusiva.
+     * @return true si la dirección es válida.
+     */
+    static boolean matches(ByteBuffer bytes, int from, int to) {
+        if (bytes.hasArray()) {
+            return matches(bytes.array(), bytes.arrayOffset() + from, bytes.arrayOffset() + to);
+        }
+        int length = to - from;
+        if (length > MAX_ADDRESS_LENGTH) {
+            return false;
+        }
+        int row = START;
+        int labelStart = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes.get(from + i);
+            if (b < 0) {
+                return false;
+            }
+            row = TRANSITIONS[row + b];
+            if (row >= DOMAIN_START_ROW && (labelStart = boundary(row, i, labelStart)) < 0) {
+                return false;
+            }
+        }
+        return accepts(row, length, labelStart);
+    }
+
+    /**
+     * Valida la parte local de una dirección y localiza el {@code '@'} que la separa
+     * del dominio. No valida el dominio ni la longitud total.
+     *
+     * @param email El texto a validar; no debe ser null.
+     * @return La posición del {@code '@'} separador, o -1 si la parte local no es válida.
+     */
+    static int localPartEnd(CharSequence email) {
+        int length = Math.min(email.length(), MAX_LOCAL_LENGTH + 1);
+        int row = START;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c >= ROW) {
+                return -1;
+            }
+            row = TRANSITIONS[row + c];
+            if (row == DOMAIN_START_ROW) {
+                return i;
+            }
+            if (row == ERROR_ROW) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Valida el dominio {@code email[from, length)} que sigue al {@code '@'} separador.
+     *
+     * @param email El texto a validar; no debe ser null.
+     * @param from  La posición siguiente al {@code '@'}.
+     * @return true si el dominio es válido.
+     */
+    static boolean matchesDomain(CharSequence email, int from) {
+        int length = email.length();
+        int row = DOMAIN_START_ROW;
+        int labelStart = from;
+        for (int i = from; i < length; i++) {
+            char c = email.charAt(i);
+            if (c >= ROW) {
+                return false;
+            }
+            row = TRANSITIONS[row + c];
+            if (row >= DOMAIN_START_ROW && (labelStart = boundary(row, i, labelStart)) < 0) {
+                return false;
+            }
+        }
+        return accepts(row, length, labelStart);
+    }
+
+    /**
+     * Aplica los límites de longitud al entrar en un estado de dominio.
+     *
+     * @return El inicio de la etiqueta de dominio actual, o -1 si la dirección se rechaza.
+     */
+    private static int boundary(int row, int index, int labelStart) {
+        if (row == ERROR_ROW) {
+            return -1;
+        }
+        if (row == DOMAIN_START_ROW) {
+            return index > MAX_LOCAL_LENGTH ? -1 : index + 1;
+        }
+        if (row == DOMAIN_DOT_ROW) {
+            return index - labelStart > MAX_LABEL_LENGTH ? -1 : index + 1;
+        }
+        return labelStart;
+    }
+
+    private static boolean accepts(int row, int length, int labelStart) {
+        return row == DOMAIN_LABEL_FQ_ROW && length - labelStart <= MAX_LABEL_LENGTH;
+    }
+
+    private static void on(int state, int cls, int next) {
+        CLASS_TRANSITIONS[state * CLASS_COUNT + cls] = (byte) next;
+    }
+
+    private static int classify(int c) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+            return C_ALNUM;
+        }
+        switch (c) {
+            case '-':
+                return C_HYPHEN;
+            case '.':
+                return C_DOT;
+            case '@':
+                return C_AT;
+            case '"':
+                return C_DQUOTE;
+            case '\\':
+                return C_BACKSLASH;
+            default:
+                break;
+        }
+        if ("!#$%&'*+/=?^_`{|}~".indexOf(c) >= 0) {
+            return C_ATEXT;
+        }
+        // Resto de ASCII imprimible (incluye el espacio): solo válido entre comillas.
+        return c >= ' ' && c < 127 ? C_QTEXT : C_INVALID;
+    }
+}
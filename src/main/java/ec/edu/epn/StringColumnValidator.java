@@ -0,0 +1,256 @@
+package ec.edu.epn;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Validación por lotes de columnas de texto: aplica la regla de
+ * {@link StringValidator#checkNotEmpty(String)} a todas las celdas de una columna
+ * empaquetada, sin crear un String por celda.
+ *
+ * La celda {@code i} ocupa {@code data[offsets[i], offsets[i + 1])} de un único
+ * arreglo de bytes UTF-8 o de caracteres, y una máscara opcional marca las celdas
+ * null. Una celda falla si es null, está vacía o solo contiene caracteres menores o
+ * iguales que {@code ' '}. Las fallas se devuelven en una máscara con un bit por
+ * celda ({@code failureMask[i >>> 6]}, bit {@code i & 63}).
+ *
+ * Por defecto cada celda se recorre en escalar hasta el primer carácter visible, que
+ * en columnas típicas aparece en los primeros elementos. La ruta SIMD es opcional
+ * ({@link #StringColumnValidator(boolean, ForkJoinPool)}): tras unos pocos elementos
+ * en escalar, clasifica bloques de 64 elementos en un mapa de bits de caracteres no
+ * blancos y resuelve el resto de la celda con operaciones de bits. Solo compensa en
+ * columnas con tramos blancos largos (rellenos de ancho fijo, por ejemplo); con
+ * celdas cortas no es más rápida que la ruta escalar.
+ *
+ * Las columnas largas se reparten con fork/join en tramos de
+ * {@value #CELLS_PER_TASK} celdas alineados a palabras de la máscara, así que
+ * cada tarea escribe palabras propias.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class StringColumnValidator {
+
+    /** Celdas por tarea de fork/join; múltiplo de 64. */
+    public static final int CELLS_PER_TASK = 16 * 1024;
+
+    private static final int BLOCK_SIZE = Long.SIZE;
+    private static final int WORDS_PER_TASK = CELLS_PER_TASK / Long.SIZE;
+    /** Elementos de cada celda que se revisan en escalar antes de pasar a SIMD. */
+    private static final int SCALAR_PREFIX = 16;
+
+    private final boolean vectorized;
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un validador escalar que usa el pool común.
+     */
+    public StringColumnValidator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un validador escalar.
+     *
+     * @param pool El pool donde se procesan los tramos de celdas.
+     */
+    public StringColumnValidator(ForkJoinPool pool) {
+        this(false, pool);
+    }
+
+    /**
+     * Crea un validador que elige la ruta SIMD o la escalar.
+     *
+     * @param vectorized true para usar la Vector API en los tramos blancos largos.
+     * @param pool       El pool donde se procesan los tramos de celdas.
+     * @throws IllegalStateException Si se pide SIMD y el módulo incubado no está disponible.
+     */
+    public StringColumnValidator(boolean vectorized, ForkJoinPool pool) {
+        if (vectorized && !VectorSupport.AVAILABLE) {
+            throw new IllegalStateException("El módulo jdk.incubator.vector no está disponible.");
+        }
+        this.vectorized = vectorized;
+        this.pool = pool;
+    }
+
+    /**
+     * Indica si este validador ejecuta la ruta SIMD.
+     *
+     * @return true si se usa la Vector API, false si se usa la ruta escalar.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Valida {@code count} celdas UTF-8. Los bytes de secuencias multibyte nunca son
+     * blancos, por lo que el resultado coincide con el de la cadena decodificada.
+     *
+     * @param data        Los bytes UTF-8 de las celdas.
+     * @param offsets     Los límites de las celdas; debe tener al menos {@code count + 1} elementos.
+     * @param count       El número de celdas.
+     * @param nullMask    Máscara opcional (puede ser null) de celdas null; sus límites no se leen.
+     * @param failureMask Salida: máscara de celdas null, vacías o blancas, de al menos
+     *                    {@code (count + 63) / 64} elementos.
+     * @return El número de celdas que fallan.
+     * @throws IllegalArgumentException  Si count es negativo o los arreglos son demasiado cortos.
+     * @throws IndexOutOfBoundsException Si alguna celda queda fuera de {@code data}.
+     */
+    public int validateNotEmpty(byte[] data, int[] offsets, int count, long[] nullMask, long[] failureMask) {
+        checkArguments(offsets, count, nullMask, failureMask);
+        return run(new ScanTask(vectorized, data, null, data.length, offsets, count, nullMask, failureMask,
+            0, (count + 63) >>> 6));
+    }
+
+    /**
+     * Valida {@code count} celdas de caracteres; igual que
+     * {@link #validateNotEmpty(byte[], int[], int, long[], long[])}.
+     *
+     * @throws IllegalArgumentException  Si count es negativo o los arreglos son demasiado cortos.
+     * @throws IndexOutOfBoundsException Si alguna celda queda fuera de {@code data}.
+     */
+    public int validateNotEmpty(char[] data, int[] offsets, int count, long[] nullMask, long[] failureMask) {
+        checkArguments(offsets, count, nullMask, failureMask);
+        return run(new ScanTask(vectorized, null, data, data.length, offsets, count, nullMask, failureMask,
+            0, (count + 63) >>> 6));
+    }
+
+    private int run(ScanTask task) {
+        if (task.toWord - task.fromWord <= WORDS_PER_TASK) {
+            return task.compute();
+        }
+        return pool.invoke(task);
+    }
+
+    private static void checkArguments(int[] offsets, int count, long[] nullMask, long[] failureMask) {
+        if (count < 0 || offsets.length < count + 1) {
+            throw new IllegalArgumentException("El arreglo de límites debe tener count + 1 elementos.");
+        }
+        int words = (count + 63) >>> 6;
+        if (failureMask.length < words) {
+            throw new IllegalArgumentException("La máscara de fallas es demasiado corta.");
+        }
+        if (nullMask != null && nullMask.length < words) {
+            throw new IllegalArgumentException("La máscara de nulos es demasiado corta.");
+        }
+    }
+
+    /**
+     * Valida las celdas de las palabras {@code [fromWord, toWord)} de la máscara. Solo
+     * uno de {@code bytes} y {@code chars} es distinto de null.
+     */
+    private static final class ScanTask extends RecursiveTask<Integer> {
+
+        private final boolean vectorized;
+        private final byte[] bytes;
+        private final char[] chars;
+        private final int length;
+        private final int[] offsets;
+        private final int count;
+        private final long[] nullMask;
+        private final long[] failureMask;
+        private final int fromWord;
+        private final int toWord;
+
+        // Último bloque clasificado; las celdas son contiguas y suelen compartirlo.
+        private int cachedBlock = -1;
+        private long cachedBits;
+
+        ScanTask(boolean vectorized, byte[] bytes, char[] chars, int length, int[] offsets, int count,
+                 long[] nullMask, long[] failureMask, int fromWord, int toWord) {
+            this.vectorized = vectorized;
+            this.bytes = bytes;
+            this.chars = chars;
+            this.length = length;
+            this.offsets = offsets;
+            this.count = count;
+            this.nullMask = nullMask;
+            this.failureMask = failureMask;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toWord - fromWord > WORDS_PER_TASK) {
+                int middle = fromWord + Math.max(1, (toWord - fromWord) / WORDS_PER_TASK / 2) * WORDS_PER_TASK;
+                ScanTask right = new ScanTask(vectorized, bytes, chars, length, offsets, count,
+                    nullMask, failureMask, middle, toWord);
+                right.fork();
+                int left = new ScanTask(vectorized, bytes, chars, length, offsets, count,
+                    nullMask, failureMask, fromWord, middle).compute();
+                return left + right.join();
+            }
+            int failures = 0;
+            for (int word = fromWord; word < toWord; word++) {
+                int first = word << 6;
+                int cells = Math.min(Long.SIZE, count - first);
+                long failed = nullMask == null ? 0 : nullMask[word];
+                if (cells < Long.SIZE) {
+                    failed &= (1L << cells) - 1;
+                }
+                for (int bit = 0; bit < cells; bit++) {
+                    if ((failed & (1L << bit)) != 0) {
+                        continue;
+                    }
+                    int from = offsets[first + bit];
+                    int to = offsets[first + bit + 1];
+                    Objects.checkFromToIndex(from, to, length);
+                    if (isBlank(from, to)) {
+                        failed |= 1L << bit;
+                    }
+                }
+                failureMask[word] = failed;
+                failures += Long.bitCount(failed);
+            }
+            return failures;
+        }
+
+        private boolean isBlank(int from, int to) {
+            // Casi todas las celdas se resuelven en los primeros elementos; los bloques
+            // SIMD solo compensan en tramos blancos largos.
+            int scalarEnd = vectorized ? Math.min(to, from + SCALAR_PREFIX) : to;
+            for (int i = from; i < scalarEnd; i++) {
+                if (!isBlank(i)) {
+                    return false;
+                }
+            }
+            if (scalarEnd == to) {
+                return true;
+            }
+            from = scalarEnd;
+            for (int block = from >>> 6; block << 6 < to; block++) {
+                int base = block << 6;
+                if (block != cachedBlock) {
+                    cachedBits = nonBlankBits(base, Math.min(base + BLOCK_SIZE, length));
+                    cachedBlock = block;
+                }
+                if ((cachedBits & EmailBatchScanner.rangeMask(from - base, to - base)) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isBlank(int index) {
+            return bytes != null ? (bytes[index] & 0xFF) <= ' ' : chars[index] <= ' ';
+        }
+
+        /**
+         * Clasifica {@code data[base, end)}, con {@code end - base <= 64}; los bloques
+         * incompletos del final se resuelven en escalar.
+         */
+        private long nonBlankBits(int base, int end) {
+            if (end - base == BLOCK_SIZE) {
+                return bytes != null
+                    ? VectorBlankKernel.nonBlankBits(bytes, base)
+                    : VectorBlankKernel.nonBlankBits(chars, base);
+            }
+            long bits = 0;
+            for (int i = base; i < end; i++) {
+                bits |= isBlank(i) ? 0 : 1L << (i - base);
+            }
+            return bits;
+        }
+    }
+}
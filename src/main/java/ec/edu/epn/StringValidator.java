@@ -1,26 +1,151 @@
 package ec.edu.epn;
 
+import java.util.Locale;
+
 public class StringValidator {
 
+    private static final int LATIN_CAPITAL_I_WITH_DOT = 0x0130;
+    private static final int GREEK_CAPITAL_SIGMA = 0x03A3;
+
     /**
      * Checks if a string is null or empty.
      * @param input The string to check.
      * @throws IllegalArgumentException if the input is null or empty.
      */
     public void validateNotEmpty(String input) {
+        ValidationStatus status = checkNotEmpty(input);
+        if (status != ValidationStatus.VALID) {
+            throw new IllegalArgumentException(status.getMessage());
+        }
+    }
+
+    /**
+     * Checks if a string is null or empty without throwing.
+     *
+     * Rejections return a shared enum constant, so an empty field costs the same as
+     * a valid one.
+     *
+     * @param input The string to check.
+     * @return {@link ValidationStatus#VALID}, {@link ValidationStatus#NULL_INPUT} or
+     *         {@link ValidationStatus#EMPTY_INPUT}.
+     */
+    public ValidationStatus checkNotEmpty(String input) {
         if (input == null) {
-            throw new IllegalArgumentException("Input cannot be null.");
+            return ValidationStatus.NULL_INPUT;
         }
-        if (input.trim().isEmpty()) {
-            throw new IllegalArgumentException("Input cannot be empty.");
+        if (isBlank(input)) {
+            return ValidationStatus.EMPTY_INPUT;
         }
+        return ValidationStatus.VALID;
     }
 
+    /**
+     * Checks if a string reads the same backwards, ignoring whitespace and case.
+     *
+     * Two indices walk towards each other over code points, skipping the characters
+     * matched by the regex {@code \s} and comparing {@link Character#toLowerCase(int)}
+     * of each side, so no copy of the input is made. Surrogate pairs are compared as
+     * single code points. Inputs whose lowercase form depends on context or locale
+     * (capital sigma, capital I with dot, unpaired surrogates, or a Turkish, Azeri
+     * or Lithuanian default locale) fall back to {@link String#toLowerCase()} on the
+     * cleaned string, which keeps the result identical to the original code.
+     *
+     * @param input The string to check.
+     * @return true if the input is a palindrome.
+     * @throws IllegalArgumentException if the input is null or empty.
+     */
     public boolean isPalindrome(String input) {
         validateNotEmpty(input);
+        return isNonEmptyPalindrome(input);
+    }
+
+    /**
+     * Same check as {@link #isPalindrome(String)} without throwing.
+     *
+     * @param input The string to check.
+     * @return {@link ValidationStatus#VALID} for a palindrome,
+     *         {@link ValidationStatus#NOT_PALINDROME} otherwise, or the status of
+     *         {@link #checkNotEmpty(String)} if the input is null or empty.
+     */
+    public ValidationStatus checkPalindrome(String input) {
+        ValidationStatus status = checkNotEmpty(input);
+        if (status != ValidationStatus.VALID) {
+            return status;
+        }
+        return isNonEmptyPalindrome(input) ? ValidationStatus.VALID : ValidationStatus.NOT_PALINDROME;
+    }
+
+    private static boolean isNonEmptyPalindrome(String input) {
+        if (hasLocaleSensitiveLowerCase(Locale.getDefault())) {
+            return isPalindromeLowerCasingWholeString(input);
+        }
+        int left = 0;
+        int right = input.length();
+        while (true) {
+            while (left < right && isRegexWhitespace(input.charAt(left))) {
+                left++;
+            }
+            while (right > left && isRegexWhitespace(input.charAt(right - 1))) {
+                right--;
+            }
+            if (left >= right) {
+                return true;
+            }
+            int first = input.codePointAt(left);
+            int last = input.codePointBefore(right);
+            if (needsWholeStringLowerCase(first) || needsWholeStringLowerCase(last)) {
+                return isPalindromeLowerCasingWholeString(input);
+            }
+            if (first != last && Character.toLowerCase(first) != Character.toLowerCase(last)) {
+                return false;
+            }
+            left += Character.charCount(first);
+            right -= Character.charCount(last);
+        }
+    }
+
+    /**
+     * The original implementation, used when per-code-point lowercasing could differ
+     * from {@link String#toLowerCase()}.
+     */
+    private static boolean isPalindromeLowerCasingWholeString(String input) {
         String cleaned = input.replaceAll("\\s+", "").toLowerCase();
         String reversed = new StringBuilder(cleaned).reverse().toString();
         return cleaned.equals(reversed);
     }
 
+    /**
+     * Capital sigma and capital I with dot lowercase differently in context, and an
+     * unpaired surrogate may pair up with another once whitespace is removed.
+     */
+    private static boolean needsWholeStringLowerCase(int codePoint) {
+        return codePoint == LATIN_CAPITAL_I_WITH_DOT || codePoint == GREEK_CAPITAL_SIGMA
+            || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE);
+    }
+
+    private static boolean hasLocaleSensitiveLowerCase(Locale locale) {
+        String language = locale.getLanguage();
+        return language.equals("tr") || language.equals("az") || language.equals("lt");
+    }
+
+    /**
+     * Same characters as the regex {@code \s}: space, tab, line feed, vertical tab,
+     * form feed and carriage return.
+     */
+    static boolean isRegexWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Same result as {@code input.trim().isEmpty()} without creating a substring.
+     */
+    private static boolean isBlank(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
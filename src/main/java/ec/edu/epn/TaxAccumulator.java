@@ -0,0 +1,227 @@
+package ec.edu.epn;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Acumulador concurrente de impuestos por categoría.
+ *
+ * Sigue el diseño de {@link java.util.concurrent.atomic.DoubleAdder}: cada categoría
+ * se reparte en varias celdas y cada hilo escribe en la celda que le corresponde
+ * según su sonda, cambiando de celda cuando encuentra contención. A diferencia de
+ * {@code DoubleAdder}, cada celda mantiene una suma compensada de Neumaier, por lo
+ * que los totales conservan la precisión aunque se sumen millones de valores.
+ *
+ * Cada celda se protege con un contador de secuencia (seqlock): los escritores lo
+ * adquieren con una sola operación CAS y los lectores leen sin bloquear, reintentando
+ * solo si la celda cambió durante la lectura. Así {@link #sum(int)} puede llamarse
+ * mientras los escritores continúan; el resultado refleja todas las sumas
+ * completadas antes de leer cada celda.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class TaxAccumulator {
+
+    private static final int MAX_STRIPES = 64;
+
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(
+        () -> new int[] {mix((int) Thread.currentThread().threadId()) | 1});
+
+    private final int categories;
+    private final int stripeMask;
+    private final Cell[] cells;
+
+    /**
+     * Crea un acumulador con el número de celdas por categoría ajustado a los procesadores disponibles.
+     *
+     * @param categories El número de categorías, identificadas de 0 a {@code categories - 1}.
+     * @throws IllegalArgumentException Si el número de categorías no es positivo.
+     */
+    public TaxAccumulator(int categories) {
+        this(categories, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Crea un acumulador con un número explícito de celdas por categoría.
+     *
+     * @param categories El número de categorías, identificadas de 0 a {@code categories - 1}.
+     * @param stripes    Celdas por categoría; se redondea a potencia de dos, con máximo {@value #MAX_STRIPES}.
+     * @throws IllegalArgumentException Si algún parámetro no es positivo.
+     */
+    public TaxAccumulator(int categories, int stripes) {
+        if (categories <= 0 || stripes <= 0) {
+            throw new IllegalArgumentException("Las categorías y las celdas deben ser positivas.");
+        }
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.min(stripes, MAX_STRIPES) * 2 - 1));
+        this.categories = categories;
+        this.stripeMask = stripeCount - 1;
+        this.cells = new Cell[categories * stripeCount];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Cell();
+        }
+    }
+
+    /**
+     * @return El número de categorías.
+     */
+    public int getCategoryCount() {
+        return categories;
+    }
+
+    /**
+     * Suma un valor a una categoría.
+     *
+     * @param category La categoría destino.
+     * @param value    El valor a sumar, por ejemplo un resultado de
+     *                 {@link TaxCalculator#calculateTaxAmount(double, double)}.
+     * @throws IndexOutOfBoundsException Si la categoría no existe.
+     */
+    public void add(int category, double value) {
+        int base = cellBase(category);
+        int[] probe = PROBE.get();
+        int h = probe[0];
+        Cell cell = cells[base + (h & stripeMask)];
+        while (!cell.tryLock()) {
+            // Otro hilo ocupa la celda: cambiar de sonda, como LongAdder.advanceProbe.
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+            probe[0] = h;
+            cell = cells[base + (h & stripeMask)];
+        }
+        cell.add(value);
+        cell.unlock();
+    }
+
+    /**
+     * Lee el total actual de una categoría sin bloquear a los escritores.
+     *
+     * @param category La categoría a leer.
+     * @return La suma compensada de todos los valores agregados a la categoría.
+     * @throws IndexOutOfBoundsException Si la categoría no existe.
+     */
+    public double sum(int category) {
+        int base = cellBase(category);
+        CompensatedSum total = new CompensatedSum();
+        for (int i = 0; i <= stripeMask; i++) {
+            cells[base + i].readInto(total);
+        }
+        return total.sum();
+    }
+
+    /**
+     * Lee el número de valores agregados a una categoría.
+     *
+     * @param category La categoría a leer.
+     * @return El número de llamadas a {@link #add(int, double)} completadas para la categoría.
+     * @throws IndexOutOfBoundsException Si la categoría no existe.
+     */
+    public long count(int category) {
+        int base = cellBase(category);
+        long count = 0;
+        for (int i = 0; i <= stripeMask; i++) {
+            count += cells[base + i].readCount();
+        }
+        return count;
+    }
+
+    /**
+     * Copia el total de todas las categorías a un arreglo del llamador.
+     *
+     * @param totals Salida: total por categoría, de longitud mínima {@link #getCategoryCount()}.
+     * @throws IllegalArgumentException Si el arreglo es demasiado corto.
+     */
+    public void snapshot(double[] totals) {
+        if (totals.length < categories) {
+            throw new IllegalArgumentException("El arreglo de totales es demasiado corto.");
+        }
+        for (int category = 0; category < categories; category++) {
+            totals[category] = sum(category);
+        }
+    }
+
+    private int cellBase(int category) {
+        if (category < 0 || category >= categories) {
+            throw new IndexOutOfBoundsException("Categoría inexistente: " + category);
+        }
+        return category * (stripeMask + 1);
+    }
+
+    private static int mix(int seed) {
+        int h = seed * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Celda con suma compensada protegida por un seqlock: la secuencia es impar mientras
+     * un escritor la modifica. Los campos de relleno evitan que dos celdas compartan línea de caché.
+     */
+    @SuppressWarnings("unused")
+    private static final class Cell {
+
+        private static final VarHandle SEQUENCE;
+
+        static {
+            try {
+                SEQUENCE = MethodHandles.lookup().findVarHandle(Cell.class, "sequence", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private long p0, p1, p2, p3, p4, p5, p6;
+        private volatile int sequence;
+        private double sum;
+        private double compensation;
+        private long count;
+        private long q0, q1, q2, q3, q4, q5, q6;
+
+        boolean tryLock() {
+            int current = sequence;
+            return (current & 1) == 0 && SEQUENCE.compareAndSet(this, current, current + 1);
+        }
+
+        void unlock() {
+            SEQUENCE.setRelease(this, sequence + 1);
+        }
+
+        /** Solo la llama el dueño del seqlock. */
+        void add(double value) {
+            double next = sum + value;
+            compensation += CompensatedSum.roundingError(sum, value, next);
+            sum = next;
+            count++;
+        }
+
+        void readInto(CompensatedSum total) {
+            while (true) {
+                int before = sequence;
+                if ((before & 1) == 0) {
+                    double readSum = sum;
+                    double readCompensation = compensation;
+                    VarHandle.loadLoadFence();
+                    if (sequence == before) {
+                        total.add(readSum);
+                        total.add(readCompensation);
+                        return;
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        long readCount() {
+            while (true) {
+                int before = sequence;
+                if ((before & 1) == 0) {
+                    long readCount = count;
+                    VarHandle.loadLoadFence();
+                    if (sequence == before) {
+                        return readCount;
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
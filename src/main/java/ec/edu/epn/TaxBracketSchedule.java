@@ -0,0 +1,193 @@
+package ec.edu.epn;
+
+/**
+ * Tabla de impuestos progresivos por tramos.
+ *
+ * Cada tramo {@code i} aplica su tasa a la porción del monto comprendida entre
+ * {@code thresholds[i]} y {@code thresholds[i + 1]}; el último tramo no tiene
+ * límite superior. Al construir la tabla se precalcula el impuesto acumulado en
+ * cada umbral, de modo que resolver un monto cuesta una búsqueda binaria sin
+ * saltos impredecibles más una multiplicación:
+ *
+ * impuesto = acumulado[i] + (monto − umbral[i]) × tasa[i] / 100
+ *
+ * Las instancias son inmutables y seguras para uso concurrente.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class TaxBracketSchedule {
+
+    private final double[] thresholds;
+    private final double[] factors;
+    private final double[] baseTax;
+
+    /**
+     * Crea una tabla de tramos.
+     *
+     * @param thresholds Umbral inferior de cada tramo, estrictamente creciente; el primero debe ser 0.
+     * @param taxRates   Porcentaje de impuesto de cada tramo. Deben ser mayores o iguales a cero.
+     * @throws IllegalArgumentException Si los arreglos están vacíos, tienen distinta longitud,
+     *                                  los umbrales no son válidos o alguna tasa es negativa.
+     */
+    public TaxBracketSchedule(double[] thresholds, double[] taxRates) {
+        int brackets = thresholds.length;
+        if (brackets == 0 || taxRates.length != brackets) {
+            throw new IllegalArgumentException("Se requiere al menos un tramo y una tasa por umbral.");
+        }
+        if (thresholds[0] != 0) {
+            throw new IllegalArgumentException("El primer umbral debe ser 0.");
+        }
+        this.thresholds = thresholds.clone();
+        this.factors = new double[brackets];
+        this.baseTax = new double[brackets];
+        for (int i = 0; i < brackets; i++) {
+            if (!(taxRates[i] >= 0)) {
+                throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+            }
+            factors[i] = taxRates[i] / 100;
+            if (i > 0) {
+                if (!(this.thresholds[i] > this.thresholds[i - 1])) {
+                    throw new IllegalArgumentException("Los umbrales deben ser estrictamente crecientes.");
+                }
+                baseTax[i] = baseTax[i - 1] + (this.thresholds[i] - this.thresholds[i - 1]) * factors[i - 1];
+            }
+        }
+    }
+
+    /**
+     * @return El número de tramos de la tabla.
+     */
+    public int getBracketCount() {
+        return thresholds.length;
+    }
+
+    /**
+     * Calcula el impuesto progresivo de un monto.
+     *
+     * @param amount El monto base. Debe ser mayor o igual a cero.
+     * @return El impuesto acumulado de todos los tramos.
+     * @throws IllegalArgumentException Si el monto es negativo.
+     */
+    public double calculateTaxAmount(double amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("El monto no puede ser negativo.");
+        }
+        return taxInBracket(amount, bracketIndex(amount));
+    }
+
+    /**
+     * Calcula el total de un monto con el impuesto progresivo incluido.
+     *
+     * @param amount El monto base. Debe ser mayor o igual a cero.
+     * @return El monto más su impuesto progresivo.
+     * @throws IllegalArgumentException Si el monto es negativo.
+     */
+    public double calculateTotalWithTax(double amount) {
+        return amount + calculateTaxAmount(amount);
+    }
+
+    /**
+     * Calcula el impuesto progresivo de una columna de montos en cualquier orden.
+     *
+     * Las filas con monto negativo se escriben como {@link Double#NaN} y se marcan
+     * en {@code rejectedMask}, igual que en {@link TaxCalculator}.
+     *
+     * @param amounts      Columna de montos base.
+     * @param totals       Salida: total con impuesto por fila.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTax(double[] amounts, double[] totals, double[] taxAmounts,
+                                      long[] rejectedMask) {
+        int rows = amounts.length;
+        TaxCalculator.checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            double amount = amounts[i];
+            if (amount < 0) {
+                rejected += reject(i, totals, taxAmounts, rejectedMask);
+                continue;
+            }
+            write(i, amount, taxInBracket(amount, bracketIndex(amount)), totals, taxAmounts);
+        }
+        return rejected;
+    }
+
+    /**
+     * Variante de {@link #calculateTotalsWithTax(double[], double[], double[], long[])}
+     * optimizada para montos en orden ascendente: el tramo se localiza avanzando un
+     * cursor en lugar de buscar desde cero. El resultado es correcto para cualquier
+     * orden; cuando un monto es menor que el anterior se vuelve a buscar su tramo.
+     *
+     * @param amounts      Columna de montos base, preferiblemente ordenada de forma ascendente.
+     * @param totals       Salida: total con impuesto por fila.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTaxSorted(double[] amounts, double[] totals, double[] taxAmounts,
+                                            long[] rejectedMask) {
+        int rows = amounts.length;
+        TaxCalculator.checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        int last = thresholds.length - 1;
+        int bracket = 0;
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            double amount = amounts[i];
+            if (amount < 0) {
+                rejected += reject(i, totals, taxAmounts, rejectedMask);
+                continue;
+            }
+            if (amount < thresholds[bracket]) {
+                bracket = bracketIndex(amount);
+            }
+            while (bracket < last && thresholds[bracket + 1] <= amount) {
+                bracket++;
+            }
+            write(i, amount, taxInBracket(amount, bracket), totals, taxAmounts);
+        }
+        return rejected;
+    }
+
+    /**
+     * Búsqueda binaria de longitud fija: el cuerpo del ciclo no tiene saltos
+     * dependientes de los datos, por lo que el JIT puede emitir un movimiento condicional.
+     *
+     * @return El índice del último umbral menor o igual a {@code amount}.
+     */
+    int bracketIndex(double amount) {
+        int base = 0;
+        int length = thresholds.length;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = thresholds[base + half] <= amount ? base + half : base;
+            length -= half;
+        }
+        return base;
+    }
+
+    private double taxInBracket(double amount, int bracket) {
+        return baseTax[bracket] + (amount - thresholds[bracket]) * factors[bracket];
+    }
+
+    private static void write(int row, double amount, double taxAmount, double[] totals, double[] taxAmounts) {
+        totals[row] = amount + taxAmount;
+        if (taxAmounts != null) {
+            taxAmounts[row] = taxAmount;
+        }
+    }
+
+    private static int reject(int row, double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        totals[row] = Double.NaN;
+        if (taxAmounts != null) {
+            taxAmounts[row] = Double.NaN;
+        }
+        if (rejectedMask != null) {
+            rejectedMask[row >>> 6] |= 1L << row;
+        }
+        return 1;
+    }
+}
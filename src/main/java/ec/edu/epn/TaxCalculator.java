@@ -1,5 +1,8 @@
 package ec.edu.epn;
 
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
 /**
  * Clase responsable de calcular impuestos sobre montos.
  *
@@ -55,4 +58,287 @@ public class TaxCalculator {
 
         return amount * (taxRate / 100);
     }
+
+    /**
+     * Calcula el impuesto y el total de una columna de montos con una única tasa.
+     *
+     * Las filas con monto negativo no lanzan excepción: se marcan en
+     * {@code rejectedMask} (un bit por fila) y sus salidas se escriben como
+     * {@link Double#NaN}, de modo que una fila inválida no aborta el lote.
+     *
+     * @param amounts      Columna de montos base.
+     * @param taxRate      El porcentaje de impuesto. Debe ser mayor o igual a cero.
+     * @param totals       Salida: total con impuesto por fila. Longitud mínima {@code amounts.length}.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas,
+     *                     de longitud mínima {@link #rejectedMaskLength(int)}.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si la tasa es negativa o las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTax(double[] amounts, double taxRate,
+                                      double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        if (taxRate < 0) {
+            throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+        }
+        int rows = amounts.length;
+        checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        return applyFlatRate(amounts, 0, rows, taxRate / 100, totals, 0, taxAmounts, 0, rejectedMask);
+    }
+
+    /**
+     * Calcula el impuesto y el total de una columna de montos con una columna de tasas.
+     *
+     * Una fila se rechaza si su monto o su tasa es negativa.
+     *
+     * @param amounts      Columna de montos base.
+     * @param taxRates     Columna de porcentajes de impuesto, de la misma longitud que {@code amounts}.
+     * @param totals       Salida: total con impuesto por fila.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si las columnas no tienen la misma longitud
+     *                                  o las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTax(double[] amounts, double[] taxRates,
+                                      double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        int rows = amounts.length;
+        if (taxRates.length != rows) {
+            throw new IllegalArgumentException("Las columnas de montos y tasas deben tener la misma longitud.");
+        }
+        checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        return applyRateColumn(amounts, 0, rows, taxRates, 0, totals, 0, taxAmounts, 0, rejectedMask);
+    }
+
+    /**
+     * Variante de {@link #calculateTotalsWithTax(double[], double, double[], double[], long[])}
+     * sobre buffers. Procesa los elementos restantes de {@code amounts} (desde su posición
+     * hasta su límite) y escribe a partir de la posición de cada buffer de salida.
+     * Las posiciones de los buffers no se modifican.
+     *
+     * @param amounts      Buffer de montos base.
+     * @param taxRate      El porcentaje de impuesto. Debe ser mayor o igual a cero.
+     * @param totals       Salida: total con impuesto por fila.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si la tasa es negativa o las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTax(DoubleBuffer amounts, double taxRate,
+                                      DoubleBuffer totals, DoubleBuffer taxAmounts, long[] rejectedMask) {
+        if (taxRate < 0) {
+            throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+        }
+        int rows = amounts.remaining();
+        checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        double factor = taxRate / 100;
+        if (amounts.hasArray() && hasWritableArray(totals) && (taxAmounts == null || hasWritableArray(taxAmounts))) {
+            return applyFlatRate(amounts.array(), arrayStart(amounts), rows, factor,
+                totals.array(), arrayStart(totals),
+                taxAmounts == null ? null : taxAmounts.array(), taxAmounts == null ? 0 : arrayStart(taxAmounts),
+                rejectedMask);
+        }
+
+        int in = amounts.position();
+        int out = totals.position();
+        int taxOut = taxAmounts == null ? 0 : taxAmounts.position();
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            double amount = amounts.get(in + i);
+            if (amount < 0) {
+                rejected += reject(i, totals, out, taxAmounts, taxOut, rejectedMask);
+                continue;
+            }
+            double taxAmount = amount * factor;
+            totals.put(out + i, amount + taxAmount);
+            if (taxAmounts != null) {
+                taxAmounts.put(taxOut + i, taxAmount);
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Variante de {@link #calculateTotalsWithTax(double[], double[], double[], double[], long[])}
+     * sobre buffers. Las posiciones de los buffers no se modifican.
+     *
+     * @param amounts      Buffer de montos base.
+     * @param taxRates     Buffer de porcentajes de impuesto, con tantos elementos restantes como {@code amounts}.
+     * @param totals       Salida: total con impuesto por fila.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si las columnas no tienen la misma longitud
+     *                                  o las salidas son demasiado cortas.
+     */
+    public int calculateTotalsWithTax(DoubleBuffer amounts, DoubleBuffer taxRates,
+                                      DoubleBuffer totals, DoubleBuffer taxAmounts, long[] rejectedMask) {
+        int rows = amounts.remaining();
+        if (taxRates.remaining() != rows) {
+            throw new IllegalArgumentException("Las columnas de montos y tasas deben tener la misma longitud.");
+        }
+        checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        if (amounts.hasArray() && taxRates.hasArray() && hasWritableArray(totals)
+                && (taxAmounts == null || hasWritableArray(taxAmounts))) {
+            return applyRateColumn(amounts.array(), arrayStart(amounts), rows,
+                taxRates.array(), arrayStart(taxRates),
+                totals.array(), arrayStart(totals),
+                taxAmounts == null ? null : taxAmounts.array(), taxAmounts == null ? 0 : arrayStart(taxAmounts),
+                rejectedMask);
+        }
+
+        int in = amounts.position();
+        int ratesIn = taxRates.position();
+        int out = totals.position();
+        int taxOut = taxAmounts == null ? 0 : taxAmounts.position();
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            double amount = amounts.get(in + i);
+            double taxRate = taxRates.get(ratesIn + i);
+            if (amount < 0 || taxRate < 0) {
+                rejected += reject(i, totals, out, taxAmounts, taxOut, rejectedMask);
+                continue;
+            }
+            double taxAmount = amount * (taxRate / 100);
+            totals.put(out + i, amount + taxAmount);
+            if (taxAmounts != null) {
+                taxAmounts.put(taxOut + i, taxAmount);
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Calcula la longitud que debe tener una máscara de rechazos para un lote.
+     *
+     * @param rows El número de filas del lote.
+     * @return El número de palabras {@code long} necesarias (un bit por fila).
+     */
+    public static int rejectedMaskLength(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    /**
+     * Convierte una máscara de rechazos en una lista de índices de fila.
+     *
+     * @param rejectedMask La máscara producida por un cálculo por lotes.
+     * @param rows         El número de filas del lote.
+     * @param indices      Salida: índices de las filas rechazadas, en orden ascendente.
+     * @return El número de índices escritos.
+     * @throws IllegalArgumentException Si {@code indices} no tiene espacio suficiente.
+     */
+    public static int rejectedIndices(long[] rejectedMask, int rows, int[] indices) {
+        int count = 0;
+        int words = rejectedMaskLength(rows);
+        for (int word = 0; word < words; word++) {
+            long bits = rejectedMask[word];
+            while (bits != 0) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (row >= rows) {
+                    return count;
+                }
+                if (count == indices.length) {
+                    throw new IllegalArgumentException("El arreglo de índices es demasiado corto.");
+                }
+                indices[count++] = row;
+                bits &= bits - 1;
+            }
+        }
+        return count;
+    }
+
+    static int applyFlatRate(double[] amounts, int from, int rows, double factor,
+                             double[] totals, int out, double[] taxAmounts, int taxOut,
+                             long[] rejectedMask) {
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            double amount = amounts[from + i];
+            if (amount < 0) {
+                rejected += reject(i, totals, out, taxAmounts, taxOut, rejectedMask);
+                continue;
+            }
+            double taxAmount = amount * factor;
+            totals[out + i] = amount + taxAmount;
+            if (taxAmounts != null) {
+                taxAmounts[taxOut + i] = taxAmount;
+            }
+        }
+        return rejected;
+    }
+
+    static int applyRateColumn(double[] amounts, int from, int rows, double[] taxRates, int ratesFrom,
+                               double[] totals, int out, double[] taxAmounts, int taxOut,
+                               long[] rejectedMask) {
+        int rejected = 0;
+        for (int i = 0; i < rows; i++) {
+            double amount = amounts[from + i];
+            double taxRate = taxRates[ratesFrom + i];
+            if (amount < 0 || taxRate < 0) {
+                rejected += reject(i, totals, out, taxAmounts, taxOut, rejectedMask);
+                continue;
+            }
+            double taxAmount = amount * (taxRate / 100);
+            totals[out + i] = amount + taxAmount;
+            if (taxAmounts != null) {
+                taxAmounts[taxOut + i] = taxAmount;
+            }
+        }
+        return rejected;
+    }
+
+    static void checkOutputs(int rows, double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        if (totals.length < rows || (taxAmounts != null && taxAmounts.length < rows)) {
+            throw new IllegalArgumentException("Los arreglos de salida son demasiado cortos.");
+        }
+        clearMask(rows, rejectedMask);
+    }
+
+    private static void checkOutputs(int rows, DoubleBuffer totals, DoubleBuffer taxAmounts, long[] rejectedMask) {
+        if (totals.remaining() < rows || (taxAmounts != null && taxAmounts.remaining() < rows)) {
+            throw new IllegalArgumentException("Los buffers de salida son demasiado cortos.");
+        }
+        clearMask(rows, rejectedMask);
+    }
+
+    private static void clearMask(int rows, long[] rejectedMask) {
+        if (rejectedMask == null) {
+            return;
+        }
+        int words = rejectedMaskLength(rows);
+        if (rejectedMask.length < words) {
+            throw new IllegalArgumentException("La máscara de rechazos es demasiado corta.");
+        }
+        Arrays.fill(rejectedMask, 0, words, 0L);
+    }
+
+    private static int reject(int row, double[] totals, int out, double[] taxAmounts, int taxOut,
+                              long[] rejectedMask) {
+        totals[out + row] = Double.NaN;
+        if (taxAmounts != null) {
+            taxAmounts[taxOut + row] = Double.NaN;
+        }
+        if (rejectedMask != null) {
+            rejectedMask[row >>> 6] |= 1L << row;
+        }
+        return 1;
+    }
+
+    private static int reject(int row, DoubleBuffer totals, int out, DoubleBuffer taxAmounts, int taxOut,
+                              long[] rejectedMask) {
+        totals.put(out + row, Double.NaN);
+        if (taxAmounts != null) {
+            taxAmounts.put(taxOut + row, Double.NaN);
+        }
+        if (rejectedMask != null) {
+            rejectedMask[row >>> 6] |= 1L << row;
+        }
+        return 1;
+    }
+
+    private static boolean hasWritableArray(DoubleBuffer buffer) {
+        return buffer.hasArray() && !buffer.isReadOnly();
+    }
+
+    private static int arrayStart(DoubleBuffer buffer) {
+        return buffer.arrayOffset() + buffer.position();
+    }
 }
@@ -0,0 +1,383 @@
+package ec.edu.epn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Diario binario de solo anexado con los registros de impuestos calculados.
+ *
+ * Cada registro ocupa {@value #RECORD_SIZE} bytes: un número mágico, una suma de
+ * verificación y los valores {@code (monto, tasa, impuesto, total)}. Los registros se
+ * escriben en segmentos de tamaño fijo proyectados en memoria; cuando un segmento se
+ * llena se sincroniza y se crea el siguiente.
+ *
+ * Durabilidad: un registro anexado sobrevive a la caída del proceso en cuanto
+ * {@link #append} retorna, pero solo sobrevive a la caída del sistema operativo
+ * después de {@link #sync(long)}. Las sincronizaciones se agrupan: una sola llamada a
+ * {@link MappedByteBuffer#force(int, int)} cubre todos los registros anexados hasta
+ * ese momento, y los hilos que esperaban registros ya cubiertos retornan sin escribir.
+ * Al rotar, el segmento nuevo y su entrada en el directorio se sincronizan antes de
+ * recibir registros, así que un segmento cuyos registros {@link #sync(long)} declaró
+ * durables no desaparece tras un corte de energía.
+ *
+ * Al abrir un diario existente se busca el primer registro inválido del último
+ * segmento (escritura interrumpida) y se continúa desde ahí.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class TaxJournal implements Closeable {
+
+    /** Bytes por registro. */
+    public static final int RECORD_SIZE = 40;
+
+    /** Registros por segmento por defecto (40 MiB por segmento). */
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 20;
+
+    private static final int MAGIC = 0x54415831;
+    private static final String PREFIX = "tax-journal-";
+    private static final String SUFFIX = ".seg";
+    private static final byte[] EMPTY_RECORD = new byte[RECORD_SIZE];
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int syncEvery;
+
+    private final Object appendLock = new Object();
+    private MappedByteBuffer segment;
+    private int segmentCapacity;
+    private long segmentFirstSequence;
+    private int writeIndex;
+    private long nextSequence;
+    private boolean closed;
+
+    private final Object syncLock = new Object();
+    private volatile long durableCount;
+
+    private TaxJournal(Path directory, int recordsPerSegment, int syncEvery) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.syncEvery = syncEvery;
+    }
+
+    /**
+     * Abre o crea un diario con la configuración por defecto y sin sincronización automática.
+     *
+     * @param directory El directorio de los segmentos; se crea si no existe.
+     * @return El diario, listo para anexar después del último registro válido.
+     * @throws IOException Si el directorio o los segmentos no se pueden abrir.
+     */
+    public static TaxJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_RECORDS_PER_SEGMENT, 0);
+    }
+
+    /**
+     * Abre o crea un diario.
+     *
+     * @param directory         El directorio de los segmentos; se crea si no existe.
+     * @param recordsPerSegment Registros por segmento nuevo.
+     * @param syncEvery         Sincronizar automáticamente cada tantos registros; 0 para
+     *                          sincronizar solo con {@link #sync(long)}.
+     * @return El diario, listo para anexar después del último registro válido.
+     * @throws IOException              Si el directorio o los segmentos no se pueden abrir.
+     * @throws IllegalArgumentException Si la configuración no es válida.
+     */
+    public static TaxJournal open(Path directory, int recordsPerSegment, int syncEvery) throws IOException {
+        if (recordsPerSegment <= 0 || recordsPerSegment > Integer.MAX_VALUE / RECORD_SIZE || syncEvery < 0) {
+            throw new IllegalArgumentException("Configuración de diario inválida.");
+        }
+        Files.createDirectories(directory);
+        forceDirectory(directory);
+        TaxJournal journal = new TaxJournal(directory, recordsPerSegment, syncEvery);
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            journal.startSegment(0);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            journal.segmentFirstSequence = firstSequence(last);
+            journal.segment = map(last, FileChannel.MapMode.READ_WRITE, Files.size(last));
+            journal.segmentCapacity = journal.segment.capacity() / RECORD_SIZE;
+            journal.writeIndex = validRecords(journal.segment, journal.segmentFirstSequence);
+            clearTail(journal.segment, journal.writeIndex);
+            journal.nextSequence = journal.segmentFirstSequence + journal.writeIndex;
+        }
+        journal.durableCount = journal.nextSequence;
+        return journal;
+    }
+
+    /**
+     * Anexa un registro calculado.
+     *
+     * @param amount    El monto base.
+     * @param taxRate   El porcentaje de impuesto aplicado.
+     * @param taxAmount El impuesto calculado.
+     * @param total     El total con impuesto.
+     * @return El número de secuencia del registro, empezando en 0.
+     * @throws IOException           Si no se puede crear un segmento nuevo o sincronizar.
+     * @throws IllegalStateException Si el diario está cerrado.
+     */
+    public long append(double amount, double taxRate, double taxAmount, double total) throws IOException {
+        long sequence;
+        synchronized (appendLock) {
+            if (closed) {
+                throw new IllegalStateException("El diario está cerrado.");
+            }
+            if (writeIndex == segmentCapacity) {
+                forceSegment();
+                startSegment(nextSequence);
+            }
+            sequence = nextSequence;
+            writeRecord(segment, writeIndex * RECORD_SIZE, sequence, amount, taxRate, taxAmount, total);
+            writeIndex++;
+            nextSequence++;
+        }
+        if (syncEvery > 0 && (sequence + 1) % syncEvery == 0) {
+            sync(sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * Garantiza que el registro {@code sequence} y todos los anteriores estén en disco.
+     *
+     * Si otro hilo ya sincronizó hasta ese registro, retorna de inmediato; en caso
+     * contrario una sola escritura a disco cubre todo lo anexado hasta ahora.
+     *
+     * @param sequence El número de secuencia que debe quedar durable.
+     * @throws IOException Si la sincronización falla.
+     */
+    public void sync(long sequence) throws IOException {
+        if (durableCount > sequence) {
+            return;
+        }
+        MappedByteBuffer buffer;
+        long firstSequence;
+        long appended;
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            buffer = segment;
+            firstSequence = segmentFirstSequence;
+            appended = nextSequence;
+        }
+        synchronized (syncLock) {
+            if (durableCount > sequence || durableCount >= appended) {
+                // Otro hilo ya sincronizó, o el segmento se cerró y se sincronizó al rotar.
+                return;
+            }
+            int from = (int) (Math.max(durableCount, firstSequence) - firstSequence);
+            int to = (int) (appended - firstSequence);
+            buffer.force(from * RECORD_SIZE, (to - from) * RECORD_SIZE);
+            durableCount = Math.max(durableCount, appended);
+        }
+    }
+
+    /**
+     * @return El número de registros del diario, que también es la próxima secuencia.
+     */
+    public long size() {
+        synchronized (appendLock) {
+            return nextSequence;
+        }
+    }
+
+    /**
+     * Sincroniza los registros pendientes y cierra el diario.
+     *
+     * @throws IOException Si la sincronización falla.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            forceSegment();
+            closed = true;
+            segment = null;
+        }
+    }
+
+    /**
+     * Recorre en orden todos los registros válidos de un diario.
+     *
+     * @param directory El directorio de los segmentos.
+     * @param visitor   Recibe cada registro; no se asigna memoria por registro.
+     * @return El número de registros recorridos.
+     * @throws IOException Si los segmentos no se pueden leer.
+     */
+    public static long replay(Path directory, RecordVisitor visitor) throws IOException {
+        long count = 0;
+        for (Path path : listSegments(directory)) {
+            long firstSequence = firstSequence(path);
+            MappedByteBuffer buffer = map(path, FileChannel.MapMode.READ_ONLY, Files.size(path));
+            int records = validRecords(buffer, firstSequence);
+            for (int i = 0; i < records; i++) {
+                int offset = i * RECORD_SIZE;
+                visitor.visit(firstSequence + i,
+                    buffer.getDouble(offset + 8), buffer.getDouble(offset + 16),
+                    buffer.getDouble(offset + 24), buffer.getDouble(offset + 32));
+            }
+            count += records;
+            if (records < buffer.capacity() / RECORD_SIZE) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Receptor de registros durante {@link #replay(Path, RecordVisitor)}.
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+
+        /**
+         * @param sequence  El número de secuencia del registro.
+         * @param amount    El monto base.
+         * @param taxRate   El porcentaje de impuesto aplicado.
+         * @param taxAmount El impuesto calculado.
+         * @param total     El total con impuesto.
+         */
+        void visit(long sequence, double amount, double taxRate, double taxAmount, double total);
+    }
+
+    /** Solo se llama con {@code appendLock} tomado. */
+    private void forceSegment() {
+        synchronized (syncLock) {
+            if (durableCount < nextSequence) {
+                int from = (int) (Math.max(durableCount, segmentFirstSequence) - segmentFirstSequence);
+                segment.force(from * RECORD_SIZE, (writeIndex - from) * RECORD_SIZE);
+                durableCount = nextSequence;
+            }
+        }
+    }
+
+    /** Solo se llama con {@code appendLock} tomado o durante la apertura. */
+    private void startSegment(long firstSequence) throws IOException {
+        Path path = directory.resolve(String.format("%s%019d%s", PREFIX, firstSequence, SUFFIX));
+        segment = map(path, FileChannel.MapMode.READ_WRITE, (long) recordsPerSegment * RECORD_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            // El tamaño del archivo es metadato: force(int, int) del buffer no lo cubre.
+            channel.force(true);
+        }
+        forceDirectory(directory);
+        segmentCapacity = recordsPerSegment;
+        segmentFirstSequence = firstSequence;
+        writeIndex = 0;
+        nextSequence = firstSequence;
+    }
+
+    /**
+     * Sincroniza las entradas de un directorio. En POSIX se abre el directorio y se
+     * fuerza; en plataformas que no permiten abrir directorios no hay nada que hacer.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // La plataforma no permite abrir directorios (Windows, por ejemplo).
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, FileChannel.MapMode mode, long size) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+            ? new StandardOpenOption[] {StandardOpenOption.READ}
+            : new StandardOpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            MappedByteBuffer buffer = channel.map(mode, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    private static void writeRecord(MappedByteBuffer buffer, int offset, long sequence,
+                                    double amount, double taxRate, double taxAmount, double total) {
+        buffer.putDouble(offset + 8, amount);
+        buffer.putDouble(offset + 16, taxRate);
+        buffer.putDouble(offset + 24, taxAmount);
+        buffer.putDouble(offset + 32, total);
+        buffer.putInt(offset + 4, checksum(sequence, amount, taxRate, taxAmount, total));
+        buffer.putInt(offset, MAGIC);
+    }
+
+    /**
+     * @return El número de registros válidos consecutivos desde el inicio del segmento.
+     */
+    private static int validRecords(MappedByteBuffer buffer, long firstSequence) {
+        int capacity = buffer.capacity() / RECORD_SIZE;
+        for (int i = 0; i < capacity; i++) {
+            int offset = i * RECORD_SIZE;
+            if (buffer.getInt(offset) != MAGIC
+                    || buffer.getInt(offset + 4) != checksum(firstSequence + i,
+                        buffer.getDouble(offset + 8), buffer.getDouble(offset + 16),
+                        buffer.getDouble(offset + 24), buffer.getDouble(offset + 32))) {
+                return i;
+            }
+        }
+        return capacity;
+    }
+
+    /**
+     * Borra los registros posteriores al último válido. Las páginas de un segmento
+     * proyectado pueden llegar a disco en cualquier orden, así que tras una caída puede
+     * haber registros completos después del primero inválido; si no se borraran,
+     * reaparecerían al reproducir en cuanto se anexara sobre el hueco.
+     */
+    private static void clearTail(MappedByteBuffer buffer, int fromRecord) {
+        int capacity = buffer.capacity() / RECORD_SIZE;
+        int firstDirty = -1;
+        int lastDirty = -1;
+        for (int i = fromRecord; i < capacity; i++) {
+            int offset = i * RECORD_SIZE;
+            for (int word = 0; word < RECORD_SIZE; word += Long.BYTES) {
+                if (buffer.getLong(offset + word) != 0) {
+                    buffer.put(offset, EMPTY_RECORD);
+                    firstDirty = firstDirty < 0 ? i : firstDirty;
+                    lastDirty = i;
+                    break;
+                }
+            }
+        }
+        if (firstDirty >= 0) {
+            buffer.force(firstDirty * RECORD_SIZE, (lastDirty - firstDirty + 1) * RECORD_SIZE);
+        }
+    }
+
+    private static int checksum(long sequence, double amount, double taxRate, double taxAmount, double total) {
+        long h = sequence * 0x9E3779B97F4A7C15L;
+        h = (h ^ Double.doubleToRawLongBits(amount)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ Double.doubleToRawLongBits(taxRate)) * 0x94D049BB133111EBL;
+        h = (h ^ Double.doubleToRawLongBits(taxAmount)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ Double.doubleToRawLongBits(total)) * 0x94D049BB133111EBL;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().forEach(segments::add);
+        }
+        return segments;
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
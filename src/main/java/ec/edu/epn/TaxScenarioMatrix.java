@@ -0,0 +1,297 @@
+package ec.edu.epn;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evalúa muchas tasas candidatas sobre un mismo conjunto de montos en una sola pasada.
+ *
+ * Los montos se recorren por bloques de {@value #TILE_SIZE} elementos que caben en la
+ * caché L1; cada bloque se lee una vez de memoria y se aplica a todas las tasas antes
+ * de pasar al siguiente, en lugar de releer todo el conjunto por cada tasa. Los
+ * bloques se reparten entre hilos con fork/join, y los agregados parciales se
+ * combinan siempre en el mismo orden, por lo que el resultado no depende del
+ * número de hilos.
+ *
+ * Como en {@link TaxCalculator}, total = monto + monto × (tasa / 100); los montos
+ * negativos se rechazan sin abortar la evaluación.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class TaxScenarioMatrix {
+
+    /** Montos por bloque de caché. */
+    public static final int TILE_SIZE = 2048;
+
+    private static final double[] SINGLE_BUCKET = {0};
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un evaluador que usa el pool común.
+     */
+    public TaxScenarioMatrix() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un evaluador que usa el pool indicado.
+     *
+     * @param pool El pool donde se procesan los bloques de montos.
+     */
+    public TaxScenarioMatrix(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Calcula la matriz completa de totales con impuesto.
+     *
+     * @param amounts  Columna de montos base.
+     * @param taxRates Tasas candidatas. Deben ser mayores o iguales a cero.
+     * @param totals   Salida en orden por escenario: {@code totals[s * amounts.length + i]} es el
+     *                 total del monto {@code i} con la tasa {@code s}, o {@link Double#NaN} si el
+     *                 monto es negativo. Longitud mínima {@code taxRates.length * amounts.length}.
+     * @throws IllegalArgumentException Si alguna tasa es negativa o la salida es demasiado corta.
+     */
+    public void computeTotals(double[] amounts, double[] taxRates, double[] totals) {
+        double[] factors = factors(taxRates);
+        if ((long) amounts.length * factors.length > totals.length) {
+            throw new IllegalArgumentException("El arreglo de salida es demasiado corto.");
+        }
+        pool.invoke(new TotalsTask(amounts, factors, totals, 0, tileCount(amounts.length)));
+    }
+
+    /**
+     * Calcula por escenario la suma, el mínimo, el máximo y la suma por tramo de monto
+     * de los totales con impuesto, sin materializar la matriz completa.
+     *
+     * @param amounts          Columna de montos base.
+     * @param taxRates         Tasas candidatas. Deben ser mayores o iguales a cero.
+     * @param bucketThresholds Límite inferior de cada tramo de monto, estrictamente creciente y
+     *                         comenzando en 0; el tramo {@code b} cubre
+     *                         {@code [bucketThresholds[b], bucketThresholds[b + 1])}. Si es null
+     *                         se usa un único tramo.
+     * @return Los agregados de todos los escenarios.
+     * @throws IllegalArgumentException Si alguna tasa es negativa o los tramos no son válidos.
+     */
+    public ScenarioAggregates aggregate(double[] amounts, double[] taxRates, double[] bucketThresholds) {
+        double[] factors = factors(taxRates);
+        double[] thresholds = bucketThresholds == null ? SINGLE_BUCKET : bucketThresholds;
+        if (thresholds.length == 0 || thresholds[0] != 0) {
+            throw new IllegalArgumentException("El primer tramo debe comenzar en 0.");
+        }
+        for (int b = 1; b < thresholds.length; b++) {
+            if (!(thresholds[b] > thresholds[b - 1])) {
+                throw new IllegalArgumentException("Los tramos deben ser estrictamente crecientes.");
+            }
+        }
+
+        Partial result = pool.invoke(new AggregateTask(amounts, factors, thresholds, 0, tileCount(amounts.length)));
+        int scenarios = factors.length;
+        int buckets = thresholds.length;
+        double[] totals = new double[scenarios];
+        double[] bucketTotals = new double[scenarios * buckets];
+        for (int s = 0; s < scenarios; s++) {
+            totals[s] = result.totals[s] + result.totalCompensations[s];
+        }
+        for (int i = 0; i < bucketTotals.length; i++) {
+            bucketTotals[i] = result.bucketTotals[i] + result.bucketCompensations[i];
+        }
+        return new ScenarioAggregates(scenarios, buckets, result.valid, result.rejected,
+            totals, result.minTotals, result.maxTotals, bucketTotals);
+    }
+
+    private static double[] factors(double[] taxRates) {
+        double[] factors = new double[taxRates.length];
+        for (int s = 0; s < taxRates.length; s++) {
+            if (!(taxRates[s] >= 0)) {
+                throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+            }
+            factors[s] = taxRates[s] / 100;
+        }
+        return factors;
+    }
+
+    private static int tileCount(int rows) {
+        return (rows + TILE_SIZE - 1) / TILE_SIZE;
+    }
+
+    private static final class TotalsTask extends RecursiveAction {
+
+        private final double[] amounts;
+        private final double[] factors;
+        private final double[] totals;
+        private final int fromTile;
+        private final int toTile;
+
+        TotalsTask(double[] amounts, double[] factors, double[] totals, int fromTile, int toTile) {
+            this.amounts = amounts;
+            this.factors = factors;
+            this.totals = totals;
+            this.fromTile = fromTile;
+            this.toTile = toTile;
+        }
+
+        @Override
+        protected void compute() {
+            if (toTile - fromTile > 1) {
+                int middle = (fromTile + toTile) >>> 1;
+                invokeAll(new TotalsTask(amounts, factors, totals, fromTile, middle),
+                    new TotalsTask(amounts, factors, totals, middle, toTile));
+                return;
+            }
+            int rows = amounts.length;
+            int from = fromTile * TILE_SIZE;
+            int to = Math.min(rows, from + TILE_SIZE);
+            for (int s = 0; s < factors.length; s++) {
+                double factor = factors[s];
+                int row = s * rows;
+                for (int i = from; i < to; i++) {
+                    double amount = amounts[i];
+                    totals[row + i] = amount < 0 ? Double.NaN : amount + amount * factor;
+                }
+            }
+        }
+    }
+
+    private static final class AggregateTask extends RecursiveTask<Partial> {
+
+        private final double[] amounts;
+        private final double[] factors;
+        private final double[] thresholds;
+        private final int fromTile;
+        private final int toTile;
+
+        AggregateTask(double[] amounts, double[] factors, double[] thresholds, int fromTile, int toTile) {
+            this.amounts = amounts;
+            this.factors = factors;
+            this.thresholds = thresholds;
+            this.fromTile = fromTile;
+            this.toTile = toTile;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (toTile - fromTile > 1) {
+                int middle = (fromTile + toTile) >>> 1;
+                AggregateTask right = new AggregateTask(amounts, factors, thresholds, middle, toTile);
+                right.fork();
+                Partial left = new AggregateTask(amounts, factors, thresholds, fromTile, middle).compute();
+                left.merge(right.join());
+                return left;
+            }
+            Partial partial = new Partial(factors.length, thresholds.length);
+            if (fromTile == toTile) {
+                return partial;
+            }
+            int from = fromTile * TILE_SIZE;
+            int to = Math.min(amounts.length, from + TILE_SIZE);
+
+            // El tramo de cada monto no depende de la tasa: se calcula una sola vez por bloque.
+            int[] tileBuckets = new int[to - from];
+            for (int i = from; i < to; i++) {
+                double amount = amounts[i];
+                if (amount < 0) {
+                    tileBuckets[i - from] = -1;
+                    partial.rejected++;
+                } else {
+                    tileBuckets[i - from] = bucketIndex(amount);
+                    partial.valid++;
+                }
+            }
+
+            int buckets = thresholds.length;
+            for (int s = 0; s < factors.length; s++) {
+                double factor = factors[s];
+                double sum = 0;
+                double compensation = 0;
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                int bucketBase = s * buckets;
+                for (int i = from; i < to; i++) {
+                    int bucket = tileBuckets[i - from];
+                    if (bucket < 0) {
+                        continue;
+                    }
+                    double amount = amounts[i];
+                    double total = amount + amount * factor;
+                    double next = sum + total;
+                    compensation += CompensatedSum.roundingError(sum, total, next);
+                    sum = next;
+                    min = Math.min(min, total);
+                    max = Math.max(max, total);
+                    partial.addToBucket(bucketBase + bucket, total);
+                }
+                partial.totals[s] = sum;
+                partial.totalCompensations[s] = compensation;
+                partial.minTotals[s] = min;
+                partial.maxTotals[s] = max;
+            }
+            return partial;
+        }
+
+        private int bucketIndex(double amount) {
+            int base = 0;
+            int length = thresholds.length;
+            while (length > 1) {
+                int half = length >>> 1;
+                base = thresholds[base + half] <= amount ? base + half : base;
+                length -= half;
+            }
+            return base;
+        }
+    }
+
+    /**
+     * Agregados parciales de un rango de bloques, con suma compensada de Neumaier.
+     */
+    private static final class Partial {
+
+        final double[] totals;
+        final double[] totalCompensations;
+        final double[] minTotals;
+        final double[] maxTotals;
+        final double[] bucketTotals;
+        final double[] bucketCompensations;
+        long valid;
+        long rejected;
+
+        Partial(int scenarios, int buckets) {
+            totals = new double[scenarios];
+            totalCompensations = new double[scenarios];
+            minTotals = new double[scenarios];
+            maxTotals = new double[scenarios];
+            Arrays.fill(minTotals, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxTotals, Double.NEGATIVE_INFINITY);
+            bucketTotals = new double[scenarios * buckets];
+            bucketCompensations = new double[scenarios * buckets];
+        }
+
+        void addToBucket(int index, double value) {
+            double sum = bucketTotals[index];
+            double next = sum + value;
+            bucketCompensations[index] += CompensatedSum.roundingError(sum, value, next);
+            bucketTotals[index] = next;
+        }
+
+        void merge(Partial other) {
+            for (int s = 0; s < totals.length; s++) {
+                double sum = totals[s];
+                double value = other.totals[s];
+                double next = sum + value;
+                totalCompensations[s] += CompensatedSum.roundingError(sum, value, next) + other.totalCompensations[s];
+                totals[s] = next;
+                minTotals[s] = Math.min(minTotals[s], other.minTotals[s]);
+                maxTotals[s] = Math.max(maxTotals[s], other.maxTotals[s]);
+            }
+            for (int i = 0; i < bucketTotals.length; i++) {
+                addToBucket(i, other.bucketTotals[i]);
+                bucketCompensations[i] += other.bucketCompensations[i];
+            }
+            valid += other.valid;
+            rejected += other.rejected;
+        }
+    }
+}
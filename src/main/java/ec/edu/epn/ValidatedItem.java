@@ -0,0 +1,43 @@
+package ec.edu.epn;
+
+/**
+ * Resultado inmutable de validar un elemento en un {@link ValidationProcessor}.
+ *
+ * @param <T> El tipo del elemento validado.
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public final class ValidatedItem<T> {
+
+    private final T value;
+    private final boolean valid;
+    private final String message;
+
+    ValidatedItem(T value, boolean valid, String message) {
+        this.value = value;
+        this.valid = valid;
+        this.message = message;
+    }
+
+    /**
+     * @return El elemento validado.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return true si el elemento pasó la validación.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return El mensaje de la {@link IllegalArgumentException} o del
+     *         {@link ValidationStatus} con que el validador rechazó el elemento, o
+     *         null si no dio ninguno.
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,429 @@
+package ec.edu.epn;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Etapa reactiva que valida elementos fuera de los hilos que los publican.
+ *
+ * Los elementos recibidos se agrupan en lotes que se validan en un {@link Executor}.
+ * Si no hay ningún lote en ejecución, lo acumulado se envía de inmediato, así que
+ * con poca carga cada elemento se valida sin esperar; durante una ráfaga los
+ * elementos se acumulan hasta {@code batchSize} mientras los lotes anteriores se
+ * procesan. Los resultados se emiten en el orden de llegada, aunque los lotes
+ * terminen en otro orden.
+ *
+ * La memoria está acotada: al publicador solo se le piden {@code bufferCapacity}
+ * elementos por adelantado, y se le piden más a medida que el suscriptor consume
+ * resultados. Si el suscriptor no pide, el publicador deja de recibir demanda.
+ *
+ * Un validador que lanza {@link IllegalArgumentException} rechaza el elemento con
+ * ese mensaje; cualquier otra excepción termina el flujo con {@code onError} y
+ * cancela la suscripción al publicador. Los validadores creados con
+ * {@link #forStatusCheck(Function, Executor, int, int)} informan el rechazo con un
+ * {@link ValidationStatus} y no pagan el costo de lanzar. Admite un único suscriptor.
+ *
+ * @param <T> El tipo de los elementos validados.
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class ValidationProcessor<T> implements Flow.Processor<T, ValidatedItem<T>> {
+
+    private final Predicate<? super T> validator;
+    private final Function<? super T, ValidationStatus> statusCheck;
+    private final Executor executor;
+    private final int batchSize;
+    private final int bufferCapacity;
+    private final int replenishThreshold;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<Batch<T>> batches = new ArrayDeque<>();
+    private Batch<T> pending;
+    private int running;
+    private boolean done;
+    private Throwable upstreamError;
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super ValidatedItem<T>> downstream;
+    private volatile boolean cancelled;
+    private volatile Throwable requestError;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // Solo los usa el hilo que ejecuta drain().
+    private int emittedSinceReplenish;
+    private boolean terminated;
+
+    /**
+     * Crea una etapa de validación.
+     *
+     * @param validator      El criterio de validación; se ejecuta en el executor.
+     * @param executor       El executor donde se validan los lotes.
+     * @param batchSize      El máximo de elementos por lote.
+     * @param bufferCapacity El máximo de elementos pedidos al publicador y aún no
+     *                       entregados al suscriptor.
+     * @throws IllegalArgumentException Si algún argumento es null, el tamaño de lote
+     *                                  no es positivo o la capacidad es menor que el lote.
+     */
+    public ValidationProcessor(Predicate<? super T> validator, Executor executor, int batchSize, int bufferCapacity) {
+        this(validator, null, executor, batchSize, bufferCapacity);
+    }
+
+    private ValidationProcessor(Predicate<? super T> validator, Function<? super T, ValidationStatus> statusCheck,
+                                Executor executor, int batchSize, int bufferCapacity) {
+        if ((validator == null && statusCheck == null) || executor == null) {
+            throw new IllegalArgumentException("El validador y el executor no pueden ser null.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser positivo.");
+        }
+        if (bufferCapacity < batchSize) {
+            throw new IllegalArgumentException("La capacidad no puede ser menor que el tamaño de lote.");
+        }
+        this.validator = validator;
+        this.statusCheck = statusCheck;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.bufferCapacity = bufferCapacity;
+        this.replenishThreshold = Math.max(1, bufferCapacity / 2);
+    }
+
+    /**
+     * Crea una etapa que valida emails con {@link EmailValidator#isValidEmail(String)}.
+     *
+     * @see #ValidationProcessor(Predicate, Executor, int, int)
+     */
+    public static ValidationProcessor<String> forEmails(EmailValidator validator, Executor executor,
+                                                        int batchSize, int bufferCapacity) {
+        if (validator == null) {
+            throw new IllegalArgumentException("El validador y el executor no pueden ser null.");
+        }
+        return new ValidationProcessor<>(validator::isValidEmail, executor, batchSize, bufferCapacity);
+    }
+
+    /**
+     * Crea una etapa que valida cadenas con {@link StringValidator#checkNotEmpty(String)};
+     * las cadenas rechazadas llevan el mensaje del estado.
+     *
+     * @see #forStatusCheck(Function, Executor, int, int)
+     */
+    public static ValidationProcessor<String> forNonEmptyStrings(StringValidator validator, Executor executor,
+                                                                 int batchSize, int bufferCapacity) {
+        if (validator == null) {
+            throw new IllegalArgumentException("El validador y el executor no pueden ser null.");
+        }
+        return forStatusCheck(validator::checkNotEmpty, executor, batchSize, bufferCapacity);
+    }
+
+    /**
+     * Crea una etapa cuyo validador devuelve un {@link ValidationStatus} en lugar de
+     * lanzar; los elementos rechazados llevan {@link ValidationStatus#getMessage()}.
+     * El validador no debe devolver null.
+     *
+     * @see #ValidationProcessor(Predicate, Executor, int, int)
+     */
+    public static <T> ValidationProcessor<T> forStatusCheck(Function<? super T, ValidationStatus> statusCheck,
+                                                            Executor executor, int batchSize, int bufferCapacity) {
+        if (statusCheck == null) {
+            throw new IllegalArgumentException("El validador y el executor no pueden ser null.");
+        }
+        return new ValidationProcessor<>(null, statusCheck, executor, batchSize, bufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ValidatedItem<T>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("El suscriptor no puede ser null.");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("La etapa de validación admite un único suscriptor."));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(bufferCapacity);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (item == null) {
+            throw new NullPointerException("El elemento no puede ser null.");
+        }
+        Batch<T> ready = null;
+        synchronized (lock) {
+            if (done || cancelled) {
+                return;
+            }
+            if (pending == null) {
+                pending = new Batch<>();
+                batches.add(pending);
+            }
+            pending.add(item);
+            if (pending.size == batchSize || running == 0) {
+                ready = takePending();
+            }
+        }
+        if (ready != null) {
+            submit(ready);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        terminate(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    private void terminate(Throwable error) {
+        Batch<T> ready;
+        synchronized (lock) {
+            if (done) {
+                return;
+            }
+            done = true;
+            upstreamError = error;
+            ready = takePending();
+        }
+        if (ready != null) {
+            submit(ready);
+        }
+        drain();
+    }
+
+    /**
+     * Cierra el lote en construcción; se llama con el candado.
+     */
+    private Batch<T> takePending() {
+        Batch<T> ready = pending;
+        if (ready != null) {
+            pending = null;
+            running++;
+        }
+        return ready;
+    }
+
+    private void submit(Batch<T> batch) {
+        try {
+            executor.execute(() -> validateBatch(batch));
+        } catch (RejectedExecutionException e) {
+            synchronized (lock) {
+                running--;
+            }
+            batch.failure = e;
+            batch.completed = true;
+            drain();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void validateBatch(Batch<T> batch) {
+        batch.results = (ValidatedItem<T>[]) new ValidatedItem[batch.size];
+        for (int i = 0; i < batch.size && !cancelled; i++) {
+            T item = batch.items[i];
+            try {
+                if (statusCheck != null) {
+                    ValidationStatus status = statusCheck.apply(item);
+                    batch.results[i] = new ValidatedItem<>(item, status.isValid(), status.getMessage());
+                } else {
+                    batch.results[i] = new ValidatedItem<>(item, validator.test(item), null);
+                }
+            } catch (IllegalArgumentException e) {
+                batch.results[i] = new ValidatedItem<>(item, false, e.getMessage());
+            } catch (RuntimeException | Error e) {
+                batch.failure = e;
+                break;
+            }
+        }
+        batch.completed = true;
+
+        Batch<T> next;
+        synchronized (lock) {
+            running--;
+            next = running == 0 ? takePending() : null;
+        }
+        if (next != null) {
+            submit(next);
+        }
+        drain();
+    }
+
+    /**
+     * Entrega los resultados listos en orden mientras haya demanda. Un solo hilo a la
+     * vez ejecuta el ciclo; los demás solo registran que hay trabajo pendiente.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super ValidatedItem<T>> subscriber = downstream;
+            if (cancelled) {
+                cancelUpstream();
+            } else if (subscriber != null && !terminated) {
+                emit(subscriber);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Flow.Subscriber<? super ValidatedItem<T>> subscriber) {
+        Throwable invalidRequest = requestError;
+        if (invalidRequest != null) {
+            fail(subscriber, invalidRequest);
+            return;
+        }
+        long demand = requested.get();
+        long emitted = 0;
+        while (!cancelled) {
+            Batch<T> batch;
+            boolean finished;
+            Throwable error;
+            synchronized (lock) {
+                batch = batches.peek();
+                finished = done && batch == null;
+                error = upstreamError;
+            }
+            if (batch == null) {
+                if (finished) {
+                    terminated = true;
+                    if (error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                }
+                break;
+            }
+            if (!batch.completed) {
+                break;
+            }
+            if (batch.failure != null) {
+                fail(subscriber, batch.failure);
+                return;
+            }
+            if (batch.emitted == batch.size) {
+                synchronized (lock) {
+                    batches.poll();
+                }
+                continue;
+            }
+            if (emitted == demand) {
+                break;
+            }
+            ValidatedItem<T> result = batch.results[batch.emitted];
+            batch.items[batch.emitted] = null;
+            batch.results[batch.emitted++] = null;
+            subscriber.onNext(result);
+            emitted++;
+            if (++emittedSinceReplenish == replenishThreshold) {
+                Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.request(emittedSinceReplenish);
+                }
+                emittedSinceReplenish = 0;
+            }
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+    }
+
+    private void fail(Flow.Subscriber<? super ValidatedItem<T>> subscriber, Throwable error) {
+        terminated = true;
+        cancelled = true;
+        cancelUpstream();
+        subscriber.onError(error);
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            upstream = null;
+            subscription.cancel();
+        }
+        synchronized (lock) {
+            batches.clear();
+            pending = null;
+        }
+    }
+
+    /**
+     * Elementos de un lote y sus resultados. El arreglo de elementos crece según se
+     * llena, para que los lotes de un solo elemento sean baratos con poca carga. El
+     * hilo que valida el lote publica los resultados al escribir {@code completed}.
+     */
+    private static final class Batch<T> {
+        private static final int INITIAL_CAPACITY = 8;
+
+        @SuppressWarnings("unchecked")
+        T[] items = (T[]) new Object[INITIAL_CAPACITY];
+        ValidatedItem<T>[] results;
+        int size;
+        int emitted;
+        Throwable failure;
+        volatile boolean completed;
+
+        void add(T item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("La demanda debe ser positiva: " + n + ".");
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, next));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+}
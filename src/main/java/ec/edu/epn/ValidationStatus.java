@@ -0,0 +1,43 @@
+package ec.edu.epn;
+
+/**
+ * Resultado de una validación que no lanza excepciones.
+ *
+ * Cada constante lleva su mensaje ya construido, así que informar un rechazo cuesta
+ * lo mismo que informar un éxito: no se captura ninguna traza ni se crea ningún
+ * objeto. Los mensajes coinciden con los de las {@link IllegalArgumentException}
+ * que lanzan los métodos de validación tradicionales.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public enum ValidationStatus {
+
+    /** La entrada pasó la validación. */
+    VALID(null),
+    /** La entrada es null. */
+    NULL_INPUT("Input cannot be null."),
+    /** La entrada está vacía o solo contiene espacios. */
+    EMPTY_INPUT("Input cannot be empty."),
+    /** La entrada no se lee igual en ambos sentidos. */
+    NOT_PALINDROME("Input is not a palindrome.");
+
+    private final String message;
+
+    ValidationStatus(String message) {
+        this.message = message;
+    }
+
+    /**
+     * @return true solo para {@link #VALID}.
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    /**
+     * @return El mensaje del rechazo, o null para {@link #VALID}.
+     */
+    public String getMessage() {
+        return message;
+    }
+}
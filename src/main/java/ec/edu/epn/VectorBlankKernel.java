@@ -0,0 +1,49 @@
+package ec.edu.epn;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleo SIMD que marca los caracteres no blancos de bloques de 64 elementos para
+ * {@link StringColumnValidator}.
+ *
+ * Solo debe invocarse cuando {@link VectorSupport#AVAILABLE} es verdadero. Un
+ * elemento es blanco si, sin signo, es menor o igual que {@code ' '}, igual que en
+ * {@link String#trim()}; los bytes de secuencias UTF-8 multibyte nunca lo son.
+ */
+final class VectorBlankKernel {
+
+    private static final VectorSpecies<Byte> BYTES = VectorEmailKernel.SPECIES;
+    // Mismo límite de 64 carriles que VectorEmailKernel.SPECIES, para caracteres.
+    private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED.length() <= Long.SIZE
+        ? ShortVector.SPECIES_PREFERRED : ShortVector.SPECIES_512;
+
+    private VectorBlankKernel() {
+    }
+
+    /**
+     * @return Un bit por byte de {@code data[base, base + 64)}, encendido si el byte no es blanco.
+     */
+    static long nonBlankBits(byte[] data, int base) {
+        long bits = 0;
+        for (int offset = 0; offset < Long.SIZE; offset += BYTES.length()) {
+            ByteVector block = ByteVector.fromArray(BYTES, data, base + offset);
+            bits |= block.compare(VectorOperators.UNSIGNED_GT, (byte) ' ').toLong() << offset;
+        }
+        return bits;
+    }
+
+    /**
+     * @return Un bit por carácter de {@code data[base, base + 64)}, encendido si el carácter no es blanco.
+     */
+    static long nonBlankBits(char[] data, int base) {
+        long bits = 0;
+        for (int offset = 0; offset < Long.SIZE; offset += CHARS.length()) {
+            ShortVector block = ShortVector.fromCharArray(CHARS, data, base + offset);
+            bits |= block.compare(VectorOperators.UNSIGNED_GT, (short) ' ').toLong() << offset;
+        }
+        return bits;
+    }
+}
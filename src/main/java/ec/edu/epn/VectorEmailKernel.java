@@ -0,0 +1,46 @@
+package ec.edu.epn;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleo SIMD que clasifica bloques de 64 bytes para {@link EmailBatchScanner}.
+ *
+ * Solo debe invocarse cuando {@link VectorSupport#AVAILABLE} es verdadero. Cada
+ * comparación evalúa un vector completo de bytes (32 con AVX2, 64 con AVX-512, y
+ * nunca más de 64) y su máscara se empaqueta en un {@code long} con un bit por byte.
+ */
+final class VectorEmailKernel {
+
+    /**
+     * Especie de bytes para máscaras empaquetadas con {@code toLong()}, que admite como
+     * máximo 64 carriles; con vectores más anchos que 512 bits se usan vectores de 512.
+     * La comparten los núcleos que clasifican bloques de 64 bytes.
+     */
+    static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() <= Long.SIZE
+        ? ByteVector.SPECIES_PREFERRED : ByteVector.SPECIES_512;
+
+    private VectorEmailKernel() {
+    }
+
+    /**
+     * Calcula los mapas de bits de {@code '@'}, {@code '.'} y {@code '\n'} de
+     * {@code data[base, base + 64)}; el bit {@code i} corresponde a {@code data[base + i]}.
+     *
+     * @param words Salida: {@code words[0]} arrobas, {@code words[1]} puntos, {@code words[2]} saltos de línea.
+     */
+    static void classifyBlock(byte[] data, int base, long[] words) {
+        long at = 0;
+        long dot = 0;
+        long newline = 0;
+        for (int offset = 0; offset < Long.SIZE; offset += SPECIES.length()) {
+            ByteVector block = ByteVector.fromArray(SPECIES, data, base + offset);
+            at |= block.eq((byte) '@').toLong() << offset;
+            dot |= block.eq((byte) '.').toLong() << offset;
+            newline |= block.eq((byte) '\n').toLong() << offset;
+        }
+        words[0] = at;
+        words[1] = dot;
+        words[2] = newline;
+    }
+}
@@ -0,0 +1,17 @@
+package ec.edu.epn;
+
+/**
+ * Detecta si el módulo incubado {@code jdk.incubator.vector} está disponible
+ * en tiempo de ejecución.
+ *
+ * Las clases que dependen de la Vector API solo deben cargarse cuando
+ * {@link #AVAILABLE} es verdadero; en caso contrario se usa la ruta escalar.
+ */
+final class VectorSupport {
+
+    /** Verdadero si la JVM se inició con {@code --add-modules jdk.incubator.vector}. */
+    static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private VectorSupport() {
+    }
+}
@@ -0,0 +1,91 @@
+package ec.edu.epn;
+
+/**
+ * Motor de cálculo de impuestos por lotes vectorizado con la Vector API.
+ *
+ * Ofrece la misma semántica que los métodos por lotes de {@link TaxCalculator}:
+ * las filas con monto o tasa negativa se escriben como {@link Double#NaN} y se
+ * marcan en la máscara de rechazos, sin lanzar excepción. Si la JVM no se
+ * inició con {@code --add-modules jdk.incubator.vector}, se usa la ruta escalar.
+ *
+ * @author Laboratorio de Pruebas Unitarias
+ */
+public class VectorTaxEngine {
+
+    private final boolean vectorized;
+
+    /**
+     * Crea un motor que usa SIMD cuando el módulo incubado está disponible.
+     */
+    public VectorTaxEngine() {
+        this(VectorSupport.AVAILABLE);
+    }
+
+    VectorTaxEngine(boolean vectorized) {
+        if (vectorized && !VectorSupport.AVAILABLE) {
+            throw new IllegalStateException("El módulo jdk.incubator.vector no está disponible.");
+        }
+        this.vectorized = vectorized;
+    }
+
+    /**
+     * Indica si este motor ejecuta la ruta SIMD.
+     *
+     * @return true si se usa la Vector API, false si se usa la ruta escalar.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Calcula el impuesto y el total de una columna de montos con una única tasa.
+     *
+     * @param amounts      Columna de montos base.
+     * @param taxRate      El porcentaje de impuesto. Debe ser mayor o igual a cero.
+     * @param totals       Salida: total con impuesto por fila.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si la tasa es negativa o las salidas son demasiado cortas.
+     * @see TaxCalculator#calculateTotalsWithTax(double[], double, double[], double[], long[])
+     */
+    public int calculateTotalsWithTax(double[] amounts, double taxRate,
+                                      double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        if (taxRate < 0) {
+            throw new IllegalArgumentException("La tasa de impuesto no puede ser negativa.");
+        }
+        int rows = amounts.length;
+        TaxCalculator.checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        double factor = taxRate / 100;
+        if (vectorized) {
+            return VectorTaxKernel.applyFlatRate(amounts, rows, factor, totals, taxAmounts, rejectedMask);
+        }
+        return TaxCalculator.applyFlatRate(amounts, 0, rows, factor, totals, 0, taxAmounts, 0, rejectedMask);
+    }
+
+    /**
+     * Calcula el impuesto y el total de una columna de montos con una columna de tasas.
+     *
+     * @param amounts      Columna de montos base.
+     * @param taxRates     Columna de porcentajes de impuesto, de la misma longitud que {@code amounts}.
+     * @param totals       Salida: total con impuesto por fila.
+     * @param taxAmounts   Salida opcional (puede ser null): impuesto por fila.
+     * @param rejectedMask Salida opcional (puede ser null): máscara de filas rechazadas.
+     * @return El número de filas rechazadas.
+     * @throws IllegalArgumentException Si las columnas no tienen la misma longitud
+     *                                  o las salidas son demasiado cortas.
+     * @see TaxCalculator#calculateTotalsWithTax(double[], double[], double[], double[], long[])
+     */
+    public int calculateTotalsWithTax(double[] amounts, double[] taxRates,
+                                      double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        int rows = amounts.length;
+        if (taxRates.length != rows) {
+            throw new IllegalArgumentException("Las columnas de montos y tasas deben tener la misma longitud.");
+        }
+        TaxCalculator.checkOutputs(rows, totals, taxAmounts, rejectedMask);
+        if (vectorized) {
+            return VectorTaxKernel.applyRateColumn(amounts, taxRates, rows, totals, taxAmounts, rejectedMask);
+        }
+        return TaxCalculator.applyRateColumn(amounts, 0, rows, taxRates, 0, totals, 0, taxAmounts, 0, rejectedMask);
+    }
+}
@@ -0,0 +1,116 @@
+package ec.edu.epn;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleos SIMD para el cálculo de impuestos por lotes.
+ *
+ * Solo debe invocarse cuando {@link VectorSupport#AVAILABLE} es verdadero.
+ * Los resultados son idénticos bit a bit a los de la ruta escalar de
+ * {@link TaxCalculator}, ya que cada carril evalúa la misma expresión
+ * {@code amount * (taxRate / 100)}.
+ */
+final class VectorTaxKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorTaxKernel() {
+    }
+
+    static int applyFlatRate(double[] amounts, int rows, double factor,
+                             double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        int rejected = 0;
+        int bound = SPECIES.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector amount = DoubleVector.fromArray(SPECIES, amounts, i);
+            VectorMask<Double> negative = amount.lt(0.0);
+            DoubleVector taxAmount = amount.mul(factor);
+            DoubleVector total = amount.add(taxAmount);
+            if (negative.anyTrue()) {
+                taxAmount = taxAmount.blend(Double.NaN, negative);
+                total = total.blend(Double.NaN, negative);
+                rejected += markRejected(negative, i, rejectedMask);
+            }
+            total.intoArray(totals, i);
+            if (taxAmounts != null) {
+                taxAmount.intoArray(taxAmounts, i);
+            }
+        }
+        for (; i < rows; i++) {
+            double amount = amounts[i];
+            if (amount < 0) {
+                rejected += rejectScalar(i, totals, taxAmounts, rejectedMask);
+                continue;
+            }
+            double taxAmount = amount * factor;
+            totals[i] = amount + taxAmount;
+            if (taxAmounts != null) {
+                taxAmounts[i] = taxAmount;
+            }
+        }
+        return rejected;
+    }
+
+    static int applyRateColumn(double[] amounts, double[] taxRates, int rows,
+                               double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        int rejected = 0;
+        int bound = SPECIES.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector amount = DoubleVector.fromArray(SPECIES, amounts, i);
+            DoubleVector taxRate = DoubleVector.fromArray(SPECIES, taxRates, i);
+            VectorMask<Double> negative = amount.lt(0.0).or(taxRate.lt(0.0));
+            DoubleVector taxAmount = amount.mul(taxRate.div(100.0));
+            DoubleVector total = amount.add(taxAmount);
+            if (negative.anyTrue()) {
+                taxAmount = taxAmount.blend(Double.NaN, negative);
+                total = total.blend(Double.NaN, negative);
+                rejected += markRejected(negative, i, rejectedMask);
+            }
+            total.intoArray(totals, i);
+            if (taxAmounts != null) {
+                taxAmount.intoArray(taxAmounts, i);
+            }
+        }
+        for (; i < rows; i++) {
+            double amount = amounts[i];
+            double taxRate = taxRates[i];
+            if (amount < 0 || taxRate < 0) {
+                rejected += rejectScalar(i, totals, taxAmounts, rejectedMask);
+                continue;
+            }
+            double taxAmount = amount * (taxRate / 100);
+            totals[i] = amount + taxAmount;
+            if (taxAmounts != null) {
+                taxAmounts[i] = taxAmount;
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * El número de carriles (1, 2, 4 u 8) divide a 64 y {@code row} es múltiplo
+     * de él, por lo que los bits de la máscara caben en una sola palabra.
+     */
+    private static int markRejected(VectorMask<Double> negative, int row, long[] rejectedMask) {
+        long bits = negative.toLong();
+        if (rejectedMask != null) {
+            rejectedMask[row >>> 6] |= bits << (row & 63);
+        }
+        return Long.bitCount(bits);
+    }
+
+    private static int rejectScalar(int row, double[] totals, double[] taxAmounts, long[] rejectedMask) {
+        totals[row] = Double.NaN;
+        if (taxAmounts != null) {
+            taxAmounts[row] = Double.NaN;
+        }
+        if (rejectedMask != null) {
+            rejectedMask[row >>> 6] |= 1L << row;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,143 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para BulkEmailValidator.
+ *
+ * Compara cada resultado con una lectura línea por línea que usa EmailValidator
+ * sobre Strings, con fragmentos pequeños para forzar límites entre fragmentos.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class BulkEmailValidatorTest {
+
+    private static final String CONTENT = "usuario@dominio.com\n"
+        + "  con.espacios@dominio.com  \r\n"
+        + "\n"
+        + "   \n"
+        + "sin-arroba.com\n"
+        + "\"juan perez\"@empresa.ec\n"
+        + "nombre..apellido@dominio.com\n"
+        + "usuário@dominio.com\n"
+        + "a@b\n"
+        + "x@" + "d".repeat(70) + ".com\n"
+        + "ultima@linea.org";
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest(name = "estricto={0}, fragmentos de {1} bytes")
+    @CsvSource({"false, 1", "false, 17", "false, 1048576", "true, 1", "true, 17", "true, 1048576"})
+    @DisplayName("Debería clasificar cada línea igual que EmailValidator")
+    void shouldMatchLineByLineValidation(boolean strict, int chunkSize) throws IOException {
+        Path input = tempDir.resolve("emails.txt");
+        Files.writeString(input, CONTENT, StandardCharsets.UTF_8);
+        Path validOutput = tempDir.resolve("validos.txt");
+        Path invalidOutput = tempDir.resolve("invalidos.txt");
+
+        EmailValidationSummary summary = new BulkEmailValidator(strict, chunkSize, ForkJoinPool.commonPool())
+            .validate(input, validOutput, invalidOutput);
+
+        EmailValidator validator = new EmailValidator();
+        List<String> expectedValid = new ArrayList<>();
+        List<String> expectedInvalid = new ArrayList<>();
+        for (String line : CONTENT.split("\n", -1)) {
+            line = line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+            boolean valid = strict ? validator.isValidEmailStrict(line) : validator.isValidEmail(line);
+            (valid ? expectedValid : expectedInvalid).add(line);
+        }
+
+        assertAll(
+            () -> assertEquals(11, summary.getLineCount()),
+            () -> assertEquals(expectedValid.size(), summary.getValidCount()),
+            () -> assertEquals(expectedInvalid.size(), summary.getInvalidCount()),
+            () -> assertEquals(expectedValid, Files.readAllLines(validOutput, StandardCharsets.UTF_8)),
+            () -> assertEquals(expectedInvalid, Files.readAllLines(invalidOutput, StandardCharsets.UTF_8))
+        );
+        try (var files = Files.list(tempDir)) {
+            assertEquals(3, files.count(), "No deberían quedar archivos parciales");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería contar sin escribir salidas")
+    void shouldCountWithoutOutputs() throws IOException {
+        Path input = tempDir.resolve("emails.txt");
+        Files.writeString(input, "a@b.com\nmalo\nc@d.org\n");
+
+        EmailValidationSummary summary = new BulkEmailValidator().validate(input);
+
+        assertEquals(3, summary.getLineCount());
+        assertEquals(2, summary.getValidCount());
+        assertEquals(1, summary.getInvalidCount());
+    }
+
+    @Test
+    @DisplayName("Debería escribir líneas más grandes que el buffer de salida")
+    void shouldWriteLinesLargerThanOutputBuffer() throws IOException {
+        String longLine = "x".repeat(200_000) + "@dominio.com";
+        Path input = tempDir.resolve("emails.txt");
+        Files.writeString(input, "a@b.com\n" + longLine + "\nc@d.org\n");
+        Path validOutput = tempDir.resolve("validos.txt");
+
+        EmailValidationSummary summary = new BulkEmailValidator(false, 1 << 20, ForkJoinPool.commonPool())
+            .validate(input, validOutput, null);
+
+        assertEquals(3, summary.getValidCount());
+        assertEquals(List.of("a@b.com", longLine, "c@d.org"), Files.readAllLines(validOutput));
+    }
+
+    @Test
+    @DisplayName("Debería aceptar archivos vacíos")
+    void shouldHandleEmptyFile() throws IOException {
+        Path input = Files.createFile(tempDir.resolve("vacio.txt"));
+        Path validOutput = tempDir.resolve("validos.txt");
+
+        EmailValidationSummary summary = new BulkEmailValidator().validate(input, validOutput, null);
+
+        assertEquals(0, summary.getLineCount());
+        assertEquals(0, Files.size(validOutput));
+    }
+
+    @Test
+    @DisplayName("Debería eliminar los archivos parciales de ambas salidas si falla la concatenación")
+    void shouldDeletePartsWhenConcatenationFails() throws IOException {
+        Path input = tempDir.resolve("emails.txt");
+        Files.writeString(input, CONTENT);
+        // Un directorio como destino hace fallar la primera concatenación; los parciales
+        // de la otra salida tampoco deben quedar en disco.
+        Path validOutput = Files.createDirectory(tempDir.resolve("validos.txt"));
+        Path invalidOutput = tempDir.resolve("invalidos.txt");
+
+        BulkEmailValidator validator = new BulkEmailValidator(false, 16, ForkJoinPool.commonPool());
+
+        assertThrows(IOException.class, () -> validator.validate(input, validOutput, invalidOutput));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(input), files.filter(Files::isRegularFile).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un tamaño de fragmento no positivo")
+    void shouldRejectNonPositiveChunkSize() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> new BulkEmailValidator(true, 0, ForkJoinPool.commonPool()));
+        assertEquals("El tamaño de fragmento debe ser positivo.", exception.getMessage());
+    }
+}
@@ -0,0 +1,82 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para DeterministicSummation.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class DeterministicSummationTest {
+
+    private static final double[] VALUES = mixedMagnitudes(300_001);
+
+    @ParameterizedTest(name = "Paralelismo {0}")
+    @ValueSource(ints = {1, 2, 3, 8})
+    @DisplayName("Debería dar el mismo resultado bit a bit con cualquier número de hilos")
+    void shouldBeBitIdenticalAcrossParallelism(int parallelism) {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            double reference = new DeterministicSummation(single).sum(VALUES);
+            double result = new DeterministicSummation(pool).sum(VALUES);
+            assertEquals(Double.doubleToRawLongBits(reference), Double.doubleToRawLongBits(result));
+        } finally {
+            single.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería aproximar la suma exacta mejor que una suma simple")
+    void shouldBeAccurate() {
+        BigDecimal exact = BigDecimal.ZERO;
+        double naive = 0;
+        for (double value : VALUES) {
+            exact = exact.add(new BigDecimal(value));
+            naive += value;
+        }
+
+        double result = new DeterministicSummation().sum(VALUES);
+
+        double error = Math.abs(exact.subtract(new BigDecimal(result)).doubleValue());
+        double naiveError = Math.abs(exact.subtract(new BigDecimal(naive)).doubleValue());
+        assertTrue(error <= Math.ulp(exact.doubleValue()), "error=" + error);
+        assertTrue(error <= naiveError);
+    }
+
+    @Test
+    @DisplayName("Debería sumar rangos y validar sus límites")
+    void shouldSumRanges() {
+        double[] values = {1.0, 2.0, 3.0, 4.0};
+        DeterministicSummation summation = new DeterministicSummation();
+        assertAll(
+            () -> assertEquals(5.0, summation.sum(values, 1, 3)),
+            () -> assertEquals(0.0, summation.sum(new double[0])),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> summation.sum(values, 2, 5))
+        );
+    }
+
+    /**
+     * Montos de impuestos de magnitudes muy distintas, con signos mezclados, para que
+     * el orden de suma importe en una suma simple.
+     */
+    private static double[] mixedMagnitudes(int length) {
+        Random random = new Random(13);
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            double magnitude = Math.pow(10, random.nextInt(16) - 4);
+            values[i] = (random.nextBoolean() ? 1 : -1) * random.nextDouble() * magnitude;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,141 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para DomainBlocklist.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class DomainBlocklistTest {
+
+    private static final String LIST = "# dominios desechables\n"
+        + "mailinator.com\n"
+        + "  Guerrillamail.COM  \r\n"
+        + "*.temp-mail.org\n"
+        + "\n"
+        + ".spam.example.\n"
+        + "mailinator.com\n"
+        + "   # comentario con sangría\n";
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+        "mailinator.com, true",
+        "MAILINATOR.com, true",
+        "eu.mailinator.com, true",
+        "a.b.mailinator.com, true",
+        "notmailinator.com, false",
+        "mailinator.co, false",
+        "mailinator.com.ec, false",
+        "guerrillamail.com, true",
+        "temp-mail.org, true",
+        "x.temp-mail.org, true",
+        "spam.example, true",
+        "example, false",
+        "com, false",
+        "epn.edu.ec, false",
+        "dominio-ñ.mailinator.com, true"
+    })
+    @DisplayName("Debería bloquear los dominios de la lista y sus subdominios")
+    void shouldBlockListedDomainsAndSubdomains(String domain, boolean expected) throws IOException {
+        DomainBlocklist blocklist = DomainBlocklist.build(write(LIST));
+
+        assertEquals(4, blocklist.size());
+        assertEquals(expected, blocklist.isBlocked(domain));
+        assertEquals(expected, blocklist.isBlocked("usuario@" + domain, 8, domain.length() + 8));
+    }
+
+    @Test
+    @DisplayName("Debería coincidir con un conjunto de referencia tras guardar y proyectar el índice")
+    void shouldMatchReferenceSetAfterSaveAndLoad() throws IOException {
+        Random random = new Random(3);
+        Set<String> listed = new HashSet<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            String domain = randomDomain(random);
+            listed.add(domain);
+            text.append(domain).append('\n');
+        }
+        DomainBlocklist built = DomainBlocklist.build(write(text.toString()));
+        Path index = tempDir.resolve("bloqueados.idx");
+        built.save(index);
+        DomainBlocklist loaded = DomainBlocklist.load(index);
+
+        assertEquals(listed.size(), loaded.size());
+        for (String domain : listed) {
+            assertTrue(loaded.isBlocked(domain), domain);
+            assertTrue(loaded.isBlocked("sub." + domain), domain);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            String domain = randomDomain(random);
+            assertEquals(isListed(listed, domain), built.isBlocked(domain), domain);
+            assertEquals(isListed(listed, domain), loaded.isBlocked(domain), domain);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería aceptar una lista vacía")
+    void shouldHandleEmptyList() throws IOException {
+        DomainBlocklist blocklist = DomainBlocklist.build(write("# nada\n"));
+
+        assertEquals(0, blocklist.size());
+        assertFalse(blocklist.isBlocked("mailinator.com"));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar dominios no ASCII y archivos que no son índices")
+    void shouldRejectInvalidInput() throws IOException {
+        Path unicode = write("correo.ec\ndominio-ñ.ec\n");
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> DomainBlocklist.build(unicode));
+        assertEquals("Dominio no ASCII en la línea 2.", exception.getMessage());
+
+        Path notAnIndex = write("mailinator.com\n");
+        assertThrows(IOException.class, () -> DomainBlocklist.load(notAnIndex));
+    }
+
+    private Path write(String contents) throws IOException {
+        return Files.writeString(Files.createTempFile(tempDir, "dominios", ".txt"), contents, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isListed(Set<String> listed, String domain) {
+        for (int i = domain.length() - 1; i >= 0; i--) {
+            if ((i == 0 || domain.charAt(i - 1) == '.') && listed.contains(domain.substring(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String randomDomain(Random random) {
+        StringBuilder domain = new StringBuilder();
+        int labels = 1 + random.nextInt(3);
+        for (int l = 0; l < labels; l++) {
+            if (l > 0) {
+                domain.append('.');
+            }
+            int length = 1 + random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                domain.append((char) ('a' + random.nextInt(4)));
+            }
+        }
+        return domain.toString();
+    }
+}
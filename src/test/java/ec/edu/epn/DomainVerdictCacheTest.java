@@ -0,0 +1,175 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para DomainVerdictCache.
+ *
+ * Usa un reloj manual para la caducidad y un único segmento cuando la prueba
+ * depende del orden de desalojo.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class DomainVerdictCacheTest {
+
+    @Test
+    @DisplayName("Debería guardar veredictos sin distinguir mayúsculas y contar aciertos")
+    void shouldStoreVerdictsCaseInsensitively() {
+        DomainVerdictCache cache = new DomainVerdictCache(1 << 20);
+
+        assertNull(cache.getIfPresent("epn.edu.ec"));
+        cache.put("EPN.edu.ec", true);
+        cache.put("mal..dominio", false);
+
+        assertAll(
+            () -> assertEquals(Boolean.TRUE, cache.getIfPresent("epn.edu.ec")),
+            () -> assertEquals(Boolean.TRUE, cache.getIfPresent("Epn.Edu.EC")),
+            () -> assertEquals(Boolean.FALSE, cache.getIfPresent("mal..dominio")),
+            () -> assertEquals(Boolean.TRUE, cache.getIfPresent("usuario@epn.edu.ec", 8, 18)),
+            () -> assertEquals(4, cache.getHitCount()),
+            () -> assertEquals(1, cache.getMissCount()),
+            () -> assertEquals(2, cache.size()),
+            () -> assertEquals(2L * DomainVerdictCache.ENTRY_OVERHEAD + 10 + 12, cache.weightedSize())
+        );
+    }
+
+    @Test
+    @DisplayName("Debería reemplazar el veredicto de un dominio existente")
+    void shouldReplaceExistingVerdict() {
+        DomainVerdictCache cache = new DomainVerdictCache(1 << 20);
+        cache.put("dominio.com", true);
+        cache.put("DOMINIO.com", false);
+
+        assertEquals(Boolean.FALSE, cache.getIfPresent("dominio.com"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Debería descartar las entradas caducadas")
+    void shouldExpireEntries() {
+        AtomicLong clock = new AtomicLong();
+        DomainVerdictCache cache = new DomainVerdictCache(1 << 20, Duration.ofSeconds(10).toNanos(), 4, clock::get);
+        cache.put("dominio.com", true);
+
+        clock.set(Duration.ofSeconds(9).toNanos());
+        assertEquals(Boolean.TRUE, cache.getIfPresent("dominio.com"));
+
+        clock.set(Duration.ofSeconds(10).toNanos());
+        assertNull(cache.getIfPresent("dominio.com"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Debería respetar el tamaño máximo en bytes")
+    void shouldRespectMaximumBytes() {
+        long maximumBytes = 100L * (DomainVerdictCache.ENTRY_OVERHEAD + 16);
+        DomainVerdictCache cache = new DomainVerdictCache(maximumBytes, 0, 1, System::nanoTime);
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(String.format("dominio%08d", i), true);
+            assertTrue(cache.weightedSize() <= maximumBytes);
+        }
+
+        assertTrue(cache.size() >= 90, "La caché debería estar casi llena: " + cache.size());
+        assertEquals(10_000 - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Debería conservar los dominios frecuentes durante un barrido de dominios únicos")
+    void shouldKeepFrequentDomainsDuringScan() {
+        long maximumBytes = 100L * (DomainVerdictCache.ENTRY_OVERHEAD + 16);
+        DomainVerdictCache cache = new DomainVerdictCache(maximumBytes, 0, 1, System::nanoTime);
+        List<String> popular = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            popular.add(String.format("popular%08d", i));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (String domain : popular) {
+                if (cache.getIfPresent(domain) == null) {
+                    cache.put(domain, true);
+                }
+            }
+        }
+
+        // Entre dos accesos a un mismo dominio popular pasan 100 dominios únicos, más que
+        // la capacidad de la caché: una LRU simple los perdería todos.
+        int popularMisses = 0;
+        for (int i = 0; i < 5_000; i++) {
+            cache.put(String.format("unico%010d", i), false);
+            if (i % 2 != 0) {
+                continue;
+            }
+            String domain = popular.get(i / 2 % popular.size());
+            if (cache.getIfPresent(domain) == null) {
+                popularMisses++;
+                cache.put(domain, true);
+            }
+        }
+
+        assertEquals(0, popularMisses);
+        assertTrue(cache.getEvictionCount() >= 5_000 - 100);
+    }
+
+    @Test
+    @DisplayName("Debería soportar acceso concurrente desde varios hilos")
+    void shouldSupportConcurrentAccess() throws InterruptedException {
+        long maximumBytes = 1_000L * (DomainVerdictCache.ENTRY_OVERHEAD + 16);
+        DomainVerdictCache cache = new DomainVerdictCache(maximumBytes);
+        int threads = 8;
+        int operations = 20_000;
+        List<Thread> workers = new ArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < operations; i++) {
+                        String domain = "d" + random.nextInt(5_000) + ".com";
+                        boolean expected = domain.hashCode() % 2 == 0;
+                        Boolean verdict = cache.getIfPresent(domain);
+                        if (verdict == null) {
+                            cache.put(domain, expected);
+                        } else {
+                            assertEquals(expected, verdict);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals((long) threads * operations, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.weightedSize() <= maximumBytes);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar configuraciones inválidas")
+    void shouldRejectInvalidConfiguration() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new DomainVerdictCache(0)),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> new DomainVerdictCache(1024, Duration.ZERO)),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> new DomainVerdictCache(1024, 0, 3, System::nanoTime))
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package ec.edu.epn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compara la validación de un email a la vez con {@link EmailBatchScanner} en sus
+ * rutas escalar y SIMD, sobre registros con límites y sobre líneas.
+ *
+ * Ejecución:
+ * <pre>
+ * mvn test-compile
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes ec.edu.epn.EmailBatchBenchmark
+ * </pre>
+ */
+public class EmailBatchBenchmark {
+
+    private static final int RECORDS = 1 << 14;
+
+    public static void main(String[] args) {
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        int[] offsets = new int[RECORDS + 1];
+        for (int i = 0; i < RECORDS; i++) {
+            String email = i % 5 == 0 ? "sin-arroba-" + i + ".com" : "usuario.apellido" + i + "@dominio" + (i % 97) + ".com";
+            packed.writeBytes(email.getBytes(StandardCharsets.US_ASCII));
+            packed.write('\n');
+            offsets[i + 1] = packed.size();
+        }
+        byte[] data = packed.toByteArray();
+        long[] mask = new long[(RECORDS + 63) / 64];
+        int[] lineOffsets = new int[RECORDS + 1];
+
+        EmailValidator validator = new EmailValidator();
+        EmailBatchScanner scalar = new EmailBatchScanner(false);
+        EmailBatchScanner vector = new EmailBatchScanner();
+        System.out.println("Vector API disponible: " + vector.isVectorized());
+
+        MicroBenchmark.run("un email a la vez (isValidEmailUtf8)", RECORDS, () -> {
+            long valid = 0;
+            for (int i = 0; i < RECORDS; i++) {
+                if (validator.isValidEmailUtf8(data, offsets[i], offsets[i + 1] - offsets[i])) {
+                    valid++;
+                }
+            }
+            return valid;
+        });
+        double scalarOffsets = MicroBenchmark.run("lote escalar, límites", RECORDS,
+            () -> scalar.validate(data, offsets, RECORDS, mask));
+        double vectorOffsets = MicroBenchmark.run("lote SIMD, límites", RECORDS,
+            () -> vector.validate(data, offsets, RECORDS, mask));
+        double scalarLines = MicroBenchmark.run("lote escalar, líneas", RECORDS,
+            () -> scalar.validateLines(data, 0, data.length, lineOffsets, mask));
+        double vectorLines = MicroBenchmark.run("lote SIMD, líneas", RECORDS,
+            () -> vector.validateLines(data, 0, data.length, lineOffsets, mask));
+
+        System.out.printf("Aceleración límites: %.2fx, líneas: %.2fx%n",
+            scalarOffsets / vectorOffsets, scalarLines / vectorLines);
+    }
+}
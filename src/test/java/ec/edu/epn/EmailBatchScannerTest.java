@@ -0,0 +1,151 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Clase de pruebas unitarias para EmailBatchScanner.
+ *
+ * Compara la ruta escalar y la ruta SIMD con la validación de un email a la vez,
+ * con registros que cruzan los bloques de 64 bytes.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class EmailBatchScannerTest {
+
+    private final EmailValidator emailValidator = new EmailValidator();
+
+    @Test
+    @DisplayName("Debería usar SIMD cuando el módulo incubado está disponible")
+    void shouldBeVectorizedWhenModuleIsPresent() {
+        assertEquals(VectorSupport.AVAILABLE, new EmailBatchScanner().isVectorized());
+    }
+
+    @ParameterizedTest(name = "SIMD={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Debería validar registros con límites explícitos")
+    void shouldValidateRecordsWithOffsets(boolean vectorized) {
+        List<String> records = randomRecords(500, 7);
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        int[] offsets = new int[records.size() + 1];
+        for (int i = 0; i < records.size(); i++) {
+            packed.writeBytes(records.get(i).getBytes(StandardCharsets.UTF_8));
+            offsets[i + 1] = packed.size();
+        }
+        byte[] data = packed.toByteArray();
+
+        long[] mask = new long[(records.size() + 63) / 64];
+        mask[0] = -1L;
+        int invalid = scanner(vectorized).validate(data, offsets, records.size(), mask);
+
+        assertExpected(records, mask, invalid);
+    }
+
+    @ParameterizedTest(name = "SIMD={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Debería separar y validar líneas en una sola pasada")
+    void shouldValidateLines(boolean vectorized) {
+        List<String> records = randomRecords(300, 11);
+        byte[] data = (String.join("\n", records)).getBytes(StandardCharsets.UTF_8);
+        int[] offsets = new int[records.size() + 1];
+        long[] mask = new long[(records.size() + 63) / 64];
+
+        int lines = scanner(vectorized).validateLines(data, 0, data.length, offsets, mask);
+
+        assertEquals(records.size(), lines);
+        int invalid = 0;
+        for (long word : mask) {
+            invalid += Long.bitCount(word);
+        }
+        assertExpected(records, mask, invalid);
+        int position = 0;
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(position, offsets[i]);
+            position += records.get(i).getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        assertEquals(data.length, offsets[records.size()]);
+    }
+
+    @ParameterizedTest(name = "SIMD={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Debería reanudar cuando el arreglo de límites se llena")
+    void shouldResumeWhenOffsetsAreFull(boolean vectorized) {
+        byte[] data = "a@b.c\nmalo\n\nx@y.z\n".getBytes(StandardCharsets.US_ASCII);
+        EmailBatchScanner scanner = scanner(vectorized);
+        int[] offsets = new int[3];
+        long[] mask = new long[1];
+
+        assertEquals(2, scanner.validateLines(data, 0, data.length, offsets, mask));
+        assertArrayEquals(new int[]{0, 6, 11}, offsets);
+        assertEquals(0b10L, mask[0]);
+
+        assertEquals(2, scanner.validateLines(data, offsets[2], data.length, offsets, mask));
+        assertArrayEquals(new int[]{11, 12, 18}, offsets);
+        assertEquals(0b01L, mask[0]);
+
+        assertEquals(0, scanner.validateLines(data, offsets[2], data.length, offsets, mask));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar salidas demasiado cortas")
+    void shouldRejectShortOutputs() {
+        EmailBatchScanner scanner = new EmailBatchScanner();
+        byte[] data = new byte[10];
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> scanner.validate(data, new int[2], 2, new long[1])),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> scanner.validate(data, new int[66], 65, new long[1])),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> scanner.validateLines(data, 0, 10, new int[1], new long[1])),
+            () -> assertThrows(IndexOutOfBoundsException.class,
+                () -> scanner.validate(data, new int[]{0, 11}, 1, new long[1]))
+        );
+    }
+
+    private void assertExpected(List<String> records, long[] mask, int invalid) {
+        int expectedInvalid = 0;
+        for (int i = 0; i < records.size(); i++) {
+            boolean expectedValid = emailValidator.isValidEmail(records.get(i));
+            if (!expectedValid) {
+                expectedInvalid++;
+            }
+            assertEquals(!expectedValid, (mask[i >>> 6] & (1L << i)) != 0, "registro " + i + ": " + records.get(i));
+        }
+        assertEquals(expectedInvalid, invalid);
+    }
+
+    private static EmailBatchScanner scanner(boolean vectorized) {
+        assumeTrue(!vectorized || VectorSupport.AVAILABLE,
+            "jdk.incubator.vector no disponible");
+        return new EmailBatchScanner(vectorized);
+    }
+
+    private static List<String> randomRecords(int count, long seed) {
+        Random random = new Random(seed);
+        String alphabet = "abcxyz0123456789-_ñ@.";
+        List<String> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = random.nextInt(i % 10 == 0 ? 150 : 30);
+            StringBuilder record = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                // Pocos '@' y '.' para que haya registros válidos e inválidos.
+                char c = alphabet.charAt(random.nextInt(random.nextInt(8) == 0 ? alphabet.length() : alphabet.length() - 2));
+                record.append(c);
+            }
+            records.add(record.toString());
+        }
+        return records;
+    }
+}
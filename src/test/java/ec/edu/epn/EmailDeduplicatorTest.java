@@ -0,0 +1,220 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Clase de pruebas unitarias para EmailDeduplicator.
+ *
+ * Compara cada resultado con un recorrido secuencial que usa un LinkedHashSet de
+ * Strings, con fragmentos pequeños y presupuestos que fuerzan el volcado a disco.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class EmailDeduplicatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Pruebas para canonicalize")
+    class CanonicalizeTests {
+
+        @ParameterizedTest(name = "''{0}'' -> ''{1}''")
+        @CsvSource({
+            "'  Usuario@Dominio.COM  ', Usuario@dominio.com",
+            "'Juan.Perez+ventas@GMail.com', juanperez@gmail.com",
+            "'j.u.a.n@googlemail.com', juan@gmail.com",
+            "'Ana.Maria+lista@Outlook.com', ana.maria@outlook.com",
+            "'soporte+x@HOTMAIL.COM', soporte@hotmail.com",
+            "'a.b+c@empresa.ec', a.b+c@empresa.ec",
+            "'\"a@b\"@EJEMPLO.org', \"a@b\"@ejemplo.org",
+            "'sin-arroba.com', sin-arroba.com",
+            "'usuário@Dominio.ec', usuário@dominio.ec"
+        })
+        @DisplayName("Debería normalizar espacios, dominio y reglas de proveedor")
+        void shouldCanonicalize(String email, String expected) {
+            assertEquals(expected, EmailDeduplicator.canonicalize(email));
+        }
+
+        @Test
+        @DisplayName("Debería retornar vacío para una dirección en blanco")
+        void shouldReturnEmptyForBlank() {
+            assertEquals("", EmailDeduplicator.canonicalize(" \t\r "));
+        }
+
+        @Test
+        @DisplayName("Debería lanzar IllegalArgumentException para null")
+        void shouldThrowForNull() {
+            assertThrows(IllegalArgumentException.class, () -> EmailDeduplicator.canonicalize(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruebas para deduplicate")
+    class DeduplicateTests {
+
+        @ParameterizedTest(name = "fragmentos de {0} bytes, presupuesto de {1} bytes")
+        @CsvSource({"1, 1073741824", "37, 1073741824", "1048576, 1073741824", "37, 0", "4096, 2400"})
+        @DisplayName("Debería conservar la primera aparición de cada dirección en orden")
+        void shouldMatchSequentialDeduplication(int chunkSize, long budget) throws IOException {
+            List<String> lines = randomLines(5000, 3);
+            Path input = tempDir.resolve("emails.txt");
+            Files.write(input, lines, StandardCharsets.UTF_8);
+            Path output = tempDir.resolve("unicos.txt");
+
+            EmailDeduplicationSummary summary = new EmailDeduplicator(budget, chunkSize, ForkJoinPool.commonPool())
+                .deduplicate(input, output);
+
+            Set<String> expected = new LinkedHashSet<>();
+            List<String> addresses = new ArrayList<>();
+            for (String line : lines) {
+                String canonical = EmailDeduplicator.canonicalize(line);
+                if (!canonical.isEmpty()) {
+                    addresses.add(canonical);
+                    expected.add(canonical);
+                }
+            }
+            assertAll(
+                () -> assertEquals(new ArrayList<>(expected), Files.readAllLines(output, StandardCharsets.UTF_8)),
+                () -> assertEquals(addresses.size(), summary.getAddressCount()),
+                () -> assertEquals(expected.size(), summary.getUniqueCount()),
+                () -> assertEquals(addresses.size() - expected.size(), summary.getDuplicateCount()),
+                () -> assertEquals(budget < 1 << 20, summary.getSpilledPartitionCount() > 0)
+            );
+        }
+
+        @Test
+        @DisplayName("Debería borrar los archivos temporales de las particiones")
+        void shouldDeleteSpillFiles() throws IOException {
+            Path input = tempDir.resolve("emails.txt");
+            Files.write(input, randomLines(1000, 5), StandardCharsets.UTF_8);
+            Path output = tempDir.resolve("unicos.txt");
+
+            new EmailDeduplicator(0, 64, ForkJoinPool.commonPool(), tempDir).deduplicate(input, output);
+
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(Set.of(input, output), Set.copyOf(files.toList()));
+            }
+        }
+
+        @Test
+        @DisplayName("Debería volcar particiones aunque el directorio de entrada no admita escritura")
+        void shouldSpillOutsideReadOnlyInputDirectory() throws IOException {
+            Path inputDirectory = Files.createDirectory(tempDir.resolve("entrada"));
+            Path spillDirectory = Files.createDirectory(tempDir.resolve("volcado"));
+            Path input = inputDirectory.resolve("emails.txt");
+            List<String> lines = randomLines(1000, 5);
+            Files.write(input, lines, StandardCharsets.UTF_8);
+            long addresses = lines.stream().filter(line -> !line.isBlank()).count();
+            assumeTrue(inputDirectory.toFile().setWritable(false, false));
+            try {
+                // El superusuario escribe aunque falten permisos; la prueba no aplica.
+                assumeFalse(Files.isWritable(inputDirectory));
+
+                EmailDeduplicationSummary summary =
+                    new EmailDeduplicator(0, 64, ForkJoinPool.commonPool(), spillDirectory).deduplicate(input);
+
+                assertAll(
+                    () -> assertEquals(addresses, summary.getAddressCount()),
+                    () -> assertTrue(summary.getSpilledPartitionCount() > 0)
+                );
+                try (Stream<Path> files = Files.list(spillDirectory)) {
+                    assertEquals(0, files.count());
+                }
+            } finally {
+                inputDirectory.toFile().setWritable(true, false);
+            }
+        }
+
+        @Test
+        @DisplayName("Debería contar sin escribir salida")
+        void shouldCountWithoutOutput() throws IOException {
+            Path input = tempDir.resolve("emails.txt");
+            Files.writeString(input, "a@b.com\nA@B.COM\n\n  a@b.com\r\nx.y@gmail.com\nxy@gmail.com",
+                StandardCharsets.UTF_8);
+
+            EmailDeduplicationSummary summary = new EmailDeduplicator().deduplicate(input);
+
+            assertAll(
+                () -> assertEquals(5, summary.getAddressCount()),
+                () -> assertEquals(3, summary.getUniqueCount()),
+                () -> assertEquals(2, summary.getDuplicateCount()),
+                () -> assertEquals(0, summary.getSpilledPartitionCount())
+            );
+        }
+
+        @Test
+        @DisplayName("Debería procesar un archivo vacío")
+        void shouldHandleEmptyFile() throws IOException {
+            Path input = Files.createFile(tempDir.resolve("vacio.txt"));
+            Path output = tempDir.resolve("unicos.txt");
+
+            EmailDeduplicationSummary summary = new EmailDeduplicator().deduplicate(input, output);
+
+            assertAll(
+                () -> assertEquals(0, summary.getAddressCount()),
+                () -> assertEquals(0, Files.size(output))
+            );
+        }
+
+        @Test
+        @DisplayName("Debería rechazar una configuración inválida")
+        void shouldRejectInvalidConfiguration() {
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> new EmailDeduplicator(-1, 1024, ForkJoinPool.commonPool())),
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> new EmailDeduplicator(1024, 0, ForkJoinPool.commonPool())),
+                () -> assertThrows(IllegalArgumentException.class,
+                    () -> new EmailDeduplicator(1024, 1024, ForkJoinPool.commonPool(), null))
+            );
+        }
+    }
+
+    private static List<String> randomLines(int count, long seed) {
+        Random random = new Random(seed);
+        String[] domains = {"Gmail.com", "googlemail.com", "outlook.com", "empresa.ec", "EPN.edu.ec"};
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(20) == 0) {
+                lines.add(random.nextBoolean() ? "" : "   ");
+                continue;
+            }
+            // Pocas partes locales distintas para que haya muchos duplicados.
+            StringBuilder line = new StringBuilder();
+            line.append(random.nextBoolean() ? " " : "");
+            line.append("user").append(random.nextInt(400));
+            if (random.nextInt(4) == 0) {
+                line.insert(line.length() - 1, '.');
+            }
+            if (random.nextInt(4) == 0) {
+                line.append('+').append(random.nextInt(3));
+            }
+            line.append('@').append(domains[random.nextInt(domains.length)]);
+            line.append(random.nextInt(5) == 0 ? "\r" : "");
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
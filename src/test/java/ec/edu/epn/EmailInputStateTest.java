@@ -0,0 +1,92 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para EmailInputState.
+ *
+ * Compara el veredicto incremental con EmailValidator.isValidEmail sobre el texto
+ * completo después de cada edición.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class EmailInputStateTest {
+
+    private final EmailValidator emailValidator = new EmailValidator();
+
+    @ParameterizedTest(name = "''{0}''")
+    @ValueSource(strings = {"usuario@dominio.com", "  a@b.c  ", "sin-arroba.com", "usuario@dominio", "   ", ".@"})
+    @DisplayName("Debería coincidir con isValidEmail al escribir carácter por carácter")
+    void shouldMatchValidatorWhileTyping(String email) {
+        EmailInputState state = new EmailInputState();
+        for (int i = 0; i < email.length(); i++) {
+            state.append(email.charAt(i));
+            assertEquals(emailValidator.isValidEmail(email.substring(0, i + 1)), state.isValid());
+        }
+        assertEquals(email.length(), state.length());
+    }
+
+    @Test
+    @DisplayName("Debería coincidir con isValidEmail en ediciones aleatorias")
+    void shouldMatchValidatorUnderRandomEdits() {
+        Random random = new Random(42);
+        String alphabet = "ab @.";
+        EmailInputState state = new EmailInputState();
+        StringBuilder text = new StringBuilder();
+        for (int step = 0; step < 10_000; step++) {
+            if (text.length() > 0 && random.nextInt(3) == 0) {
+                int position = random.nextInt(text.length());
+                char removed = text.charAt(position);
+                text.deleteCharAt(position);
+                state.backspace(removed);
+            } else {
+                char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                text.append(c);
+                state.append(c);
+            }
+            assertEquals(emailValidator.isValidEmail(text.toString()), state.isValid(), text.toString());
+            assertEquals(text.length(), state.length());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería agregar texto pegado y reiniciarse")
+    void shouldAppendPastedTextAndReset() {
+        EmailInputState state = new EmailInputState().append("usuario@dominio.com");
+
+        assertTrue(state.isValid());
+        state.reset();
+        assertAll(
+            () -> assertFalse(state.isValid()),
+            () -> assertEquals(0, state.length())
+        );
+    }
+
+    @Test
+    @DisplayName("Debería dejar de ser válido al borrar el único punto")
+    void shouldBecomeInvalidAfterRemovingDot() {
+        EmailInputState state = new EmailInputState().append("a@b.c");
+
+        state.backspace('c').backspace('.');
+
+        assertFalse(state.isValid());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar IllegalStateException al borrar un carácter que no existe")
+    void shouldRejectImpossibleBackspace() {
+        assertAll(
+            () -> assertThrows(IllegalStateException.class, () -> new EmailInputState().backspace('a')),
+            () -> assertThrows(IllegalStateException.class, () -> new EmailInputState().append("ab").backspace('@')),
+            () -> assertThrows(IllegalStateException.class, () -> new EmailInputState().append("@.").backspace('x')),
+            () -> assertThrows(IllegalArgumentException.class, () -> new EmailInputState().append(null))
+        );
+    }
+}
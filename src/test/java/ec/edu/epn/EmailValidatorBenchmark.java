@@ -0,0 +1,73 @@
+package ec.edu.epn;
+
+/**
+ * Compara {@link EmailValidator#isValidEmail(String)} y
+ * {@link EmailValidator#isValidEmailStrict(String)} con la implementación
+ * original de cuatro pasos (trim + dos contains).
+ *
+ * Ejecución:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes ec.edu.epn.EmailValidatorBenchmark
+ * </pre>
+ */
+public class EmailValidatorBenchmark {
+
+    private static final int INPUTS = 4096;
+
+    public static void main(String[] args) {
+        String[] emails = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            switch (i % 4) {
+                case 0 -> emails[i] = "  usuario" + i + "@dominio" + (i % 97) + ".com  ";
+                case 1 -> emails[i] = "nombre.apellido" + i + "@empresa.ec";
+                case 2 -> emails[i] = "sin-arroba-" + i + ".com";
+                default -> emails[i] = "          ";
+            }
+        }
+        EmailValidator validator = new EmailValidator();
+
+        double legacy = MicroBenchmark.run("original (trim + contains)", INPUTS, () -> {
+            long valid = 0;
+            for (String email : emails) {
+                if (legacyIsValidEmail(email)) {
+                    valid++;
+                }
+            }
+            return valid;
+        });
+        double singlePass = MicroBenchmark.run("una sola pasada", INPUTS, () -> {
+            long valid = 0;
+            for (String email : emails) {
+                if (validator.isValidEmail(email)) {
+                    valid++;
+                }
+            }
+            return valid;
+        });
+        double strict = MicroBenchmark.run("estricto (tabla de transiciones)", INPUTS, () -> {
+            long valid = 0;
+            for (String email : emails) {
+                if (validator.isValidEmailStrict(email)) {
+                    valid++;
+                }
+            }
+            return valid;
+        });
+        System.out.printf("Aceleración: %.2fx, estricto vs original: %.2fx%n",
+            legacy / singlePass, legacy / strict);
+    }
+
+    private static boolean legacyIsValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        if (email.trim().isEmpty()) {
+            return false;
+        }
+        if (!email.contains("@")) {
+            return false;
+        }
+        return email.contains(".");
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -12,6 +13,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -476,6 +482,222 @@ class EmailValidatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests de equivalencia del escáner de una sola pasada")
+    class SinglePassScannerTests {
+
+        @ParameterizedTest(name = "\"{0}\"")
+        @ValueSource(strings = {"", " ", "@", ".", "@.", ".@", " @ . ", "a@b", "a.b",
+            "\t@\n.", "user@domain.com", "..@@", "a\u00a0@.", "@@@@@@@@@@."})
+        @DisplayName("Debería coincidir con la validación original por pasos")
+        void shouldMatchStepwiseValidation(String email) {
+            boolean expected = !email.trim().isEmpty() && email.contains("@") && email.contains(".");
+            assertEquals(expected, emailValidator.isValidEmail(email));
+            assertEquals(!email.trim().isEmpty(), emailValidator.isNotEmpty(email));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para el método isValidEmailStrict()")
+    class IsValidEmailStrictTests {
+
+        @ParameterizedTest(name = "Email estricto válido: {0}")
+        @ValueSource(strings = {
+            "usuario@dominio.com",
+            "nombre.apellido@empresa.com.ec",
+            "user+tag@sub.domain.org",
+            "a@b.co",
+            "x!#$%&'*/=?^_`{|}~-@example.com",
+            "\"juan perez\"@dominio.com",
+            "\"a@b\\\"c\"@dominio.com",
+            "usuario@mi-dominio.com",
+            "usuario@123.456.com"
+        })
+        @DisplayName("Debería aceptar direcciones que cumplen la gramática")
+        void shouldAcceptValidAddresses(String email) {
+            assertTrue(emailValidator.isValidEmailStrict(email));
+            assertTrue(emailValidator.isValidEmail(email));
+        }
+
+        @ParameterizedTest(name = "Email estricto inválido: \"{0}\"")
+        @ValueSource(strings = {
+            "",
+            "   ",
+            "@.",
+            "usuario@dominio",
+            " usuario@dominio.com",
+            "usuario@dominio.com ",
+            ".usuario@dominio.com",
+            "usuario.@dominio.com",
+            "nombre..apellido@dominio.com",
+            "usuario@@dominio.com",
+            "usuario@dominio..com",
+            "usuario@.dominio.com",
+            "usuario@dominio.com.",
+            "usuario@-dominio.com",
+            "usuario@dominio-.com",
+            "usuario@dominio.com-",
+            "usuario@dom_inio.com",
+            "juan perez@dominio.com",
+            "\"sin cierre@dominio.com",
+            "\"cierre\"x@dominio.com",
+            "usuario@[127.0.0.1]",
+            "usuário@dominio.com",
+            "usuario@dominio.com\n"
+        })
+        @DisplayName("Debería rechazar direcciones fuera de la gramática")
+        void shouldRejectInvalidAddresses(String email) {
+            assertFalse(emailValidator.isValidEmailStrict(email));
+        }
+
+        @Test
+        @DisplayName("Debería retornar false para null")
+        void shouldReturnFalseForNull() {
+            assertFalse(emailValidator.isValidEmailStrict(null));
+        }
+
+        @Test
+        @DisplayName("Debería aplicar los límites de longitud de RFC 5321")
+        void shouldEnforceLengthLimits() {
+            String local64 = "a".repeat(64);
+            String label63 = "b".repeat(63);
+            assertAll(
+                () -> assertTrue(emailValidator.isValidEmailStrict(local64 + "@dominio.com")),
+                () -> assertFalse(emailValidator.isValidEmailStrict(local64 + "a@dominio.com")),
+                () -> assertTrue(emailValidator.isValidEmailStrict("u@" + label63 + ".com")),
+                () -> assertFalse(emailValidator.isValidEmailStrict("u@" + label63 + "b.com")),
+                () -> assertTrue(emailValidator.isValidEmailStrict("u@dominio." + label63)),
+                () -> assertFalse(emailValidator.isValidEmailStrict("u@dominio." + label63 + "b"))
+            );
+
+            // 64 + 1 + 63 + 1 + 63 + 1 + 61 = 254 caracteres.
+            String maximal = local64 + "@" + label63 + "." + label63 + "." + "c".repeat(61);
+            assertEquals(254, maximal.length());
+            assertTrue(emailValidator.isValidEmailStrict(maximal));
+            assertFalse(emailValidator.isValidEmailStrict(maximal + "c"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests de validación estricta con caché de dominios")
+    class DomainCacheTests {
+
+        @Test
+        @DisplayName("Debería dar el mismo resultado con y sin caché")
+        void shouldMatchUncachedValidation() {
+            DomainVerdictCache cache = new DomainVerdictCache(1 << 20);
+            EmailValidator cached = new EmailValidator(cache);
+            String[] emails = {"usuario@dominio.com", "otro@DOMINIO.com", "a.b@dominio.com",
+                "malo..local@dominio.com", "x@dominio", "y@dominio", "\"q@q\"@dominio.com",
+                "z@-malo.com", "sin-arroba", "a".repeat(65) + "@dominio.com",
+                "u@" + "b".repeat(63) + "." + "c".repeat(63) + "." + "d".repeat(63) + "." + "e".repeat(60)};
+
+            for (int round = 0; round < 2; round++) {
+                for (String email : emails) {
+                    assertEquals(emailValidator.isValidEmailStrict(email), cached.isValidEmailStrict(email), email);
+                    assertEquals(emailValidator.isValidEmailStrict(email),
+                        cached.isValidEmailStrict(new StringBuilder(email)), email);
+                }
+            }
+            assertTrue(cache.getHitCount() > 0);
+            assertEquals(Boolean.TRUE, cache.getIfPresent("dominio.com"));
+            assertEquals(Boolean.FALSE, cache.getIfPresent("dominio"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests de validación estricta con lista de bloqueo")
+    class BlocklistTests {
+
+        @TempDir
+        Path tempDir;
+
+        @ParameterizedTest(name = "Con caché: {0}")
+        @ValueSource(booleans = {false, true})
+        @DisplayName("Debería rechazar los dominios bloqueados en todas las variantes")
+        void shouldRejectBlockedDomains(boolean withCache) throws IOException {
+            Path list = Files.writeString(tempDir.resolve("bloqueados.txt"), "mailinator.com\n");
+            DomainVerdictCache cache = withCache ? new DomainVerdictCache(1 << 20) : null;
+            EmailValidator validator = new EmailValidator(cache, DomainBlocklist.build(list));
+
+            for (int round = 0; round < 2; round++) {
+                for (String email : new String[]{"usuario@mailinator.com", "u@EU.Mailinator.com"}) {
+                    byte[] bytes = email.getBytes(StandardCharsets.US_ASCII);
+                    assertAll(email,
+                        () -> assertTrue(emailValidator.isValidEmailStrict(email)),
+                        () -> assertFalse(validator.isValidEmailStrict(email)),
+                        () -> assertFalse(validator.isValidEmailStrict(new StringBuilder(email))),
+                        () -> assertFalse(validator.isValidEmailStrictUtf8(bytes, 0, bytes.length)),
+                        () -> assertFalse(validator.isValidEmailStrictUtf8(ByteBuffer.wrap(bytes)))
+                    );
+                }
+                byte[] allowed = "usuario@notmailinator.com".getBytes(StandardCharsets.US_ASCII);
+                assertTrue(validator.isValidEmailStrict("usuario@notmailinator.com"));
+                assertTrue(validator.isValidEmailStrictUtf8(allowed, 0, allowed.length));
+                assertFalse(validator.isValidEmailStrict("usuario@mailinator"));
+                assertTrue(validator.isValidEmail("usuario@mailinator.com"), "La validación básica no usa la lista");
+            }
+            if (withCache) {
+                assertTrue(cache.getHitCount() > 0);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para las variantes sobre CharSequence y bytes UTF-8")
+    class InPlaceValidationTests {
+
+        @ParameterizedTest(name = "\"{0}\"")
+        @ValueSource(strings = {"", "   ", "usuario@dominio.com", "sin-arroba.com", "a@b",
+            "\"juan perez\"@empresa.ec", "usuário@dominio.com", "ñandú@correo.ec", "日本@例え.jp",
+            "x@" + "d" + ".co", " usuario@dominio.com"})
+        @DisplayName("Debería coincidir con la validación sobre String")
+        void shouldMatchStringValidation(String email) {
+            boolean loose = emailValidator.isValidEmail(email);
+            boolean strict = emailValidator.isValidEmailStrict(email);
+            byte[] utf8 = email.getBytes(StandardCharsets.UTF_8);
+            byte[] padded = new byte[utf8.length + 4];
+            System.arraycopy(utf8, 0, padded, 2, utf8.length);
+            ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length + 4);
+            direct.position(2);
+            direct.put(utf8).flip().position(2);
+            CharSequence builder = new StringBuilder(email);
+
+            assertAll(
+                () -> assertEquals(loose, emailValidator.isValidEmail(builder)),
+                () -> assertEquals(loose, emailValidator.isValidEmailUtf8(padded, 2, utf8.length)),
+                () -> assertEquals(loose, emailValidator.isValidEmailUtf8(ByteBuffer.wrap(padded, 2, utf8.length))),
+                () -> assertEquals(loose, emailValidator.isValidEmailUtf8(direct)),
+                () -> assertEquals(strict, emailValidator.isValidEmailStrict(builder)),
+                () -> assertEquals(strict, emailValidator.isValidEmailStrictUtf8(padded, 2, utf8.length)),
+                () -> assertEquals(strict, emailValidator.isValidEmailStrictUtf8(ByteBuffer.wrap(padded, 2, utf8.length))),
+                () -> assertEquals(strict, emailValidator.isValidEmailStrictUtf8(direct)),
+                () -> assertEquals(2, direct.position(), "La posición del buffer no debe cambiar")
+            );
+        }
+
+        @Test
+        @DisplayName("Debería retornar false para entradas null")
+        void shouldReturnFalseForNull() {
+            assertAll(
+                () -> assertFalse(emailValidator.isValidEmail((CharSequence) null)),
+                () -> assertFalse(emailValidator.isValidEmailUtf8(null, 0, 0)),
+                () -> assertFalse(emailValidator.isValidEmailUtf8((ByteBuffer) null)),
+                () -> assertFalse(emailValidator.isValidEmailStrict((CharSequence) null)),
+                () -> assertFalse(emailValidator.isValidEmailStrictUtf8(null, 0, 0)),
+                () -> assertFalse(emailValidator.isValidEmailStrictUtf8((ByteBuffer) null))
+            );
+        }
+
+        @Test
+        @DisplayName("Debería rechazar rangos fuera del arreglo")
+        void shouldRejectOutOfBoundsRange() {
+            byte[] bytes = "a@b.com".getBytes(StandardCharsets.US_ASCII);
+            assertThrows(IndexOutOfBoundsException.class, () -> emailValidator.isValidEmailUtf8(bytes, 3, 5));
+            assertThrows(IndexOutOfBoundsException.class, () -> emailValidator.isValidEmailStrictUtf8(bytes, -1, 2));
+        }
+    }
+
     @Nested
     @DisplayName("Tests para el método isNotNull()")
     class IsNotNullTests {
@@ -0,0 +1,98 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para FixedPointTaxCalculator.
+ *
+ * Los casos de redondeo se eligen para caer exactamente en la mitad de un
+ * centavo, donde HALF_EVEN y HALF_UP difieren.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class FixedPointTaxCalculatorTest {
+
+    @ParameterizedTest(name = "{0} centavos al {1} pb → impuesto {2} (HALF_EVEN), {3} (HALF_UP)")
+    @CsvSource({
+        // monto, puntosBásicos, impuestoHalfEven, impuestoHalfUp
+        "10000, 1200, 1200, 1200",   // $100 al 12%: exacto
+        "1005,  1000, 100,  101",    // 100.5 centavos: empate hacia par
+        "1015,  1000, 102,  102",    // 101.5 centavos: empate, el par es 102
+        "2999,  1200, 360,  360",    // 359.88 centavos
+        "0,     1200, 0,    0",      // Monto cero
+        "12345, 0,    0,    0"       // Sin impuesto
+    })
+    @DisplayName("Debería redondear el impuesto según el modo configurado")
+    void shouldRoundTaxAmount(long amount, int basisPoints, long halfEvenTax, long halfUpTax) {
+        assertAll(
+            () -> assertEquals(halfEvenTax,
+                new FixedPointTaxCalculator(RoundingMode.HALF_EVEN).calculateTaxAmount(amount, basisPoints)),
+            () -> assertEquals(halfUpTax,
+                new FixedPointTaxCalculator(RoundingMode.HALF_UP).calculateTaxAmount(amount, basisPoints)),
+            () -> assertEquals(amount + halfEvenTax,
+                new FixedPointTaxCalculator().calculateTotalWithTax(amount, basisPoints))
+        );
+    }
+
+    @ParameterizedTest(name = "Modo {0}")
+    @EnumSource(value = RoundingMode.class, names = {"HALF_EVEN", "HALF_UP"})
+    @DisplayName("Debería coincidir con BigDecimal en todos los montos de 0 a 100000 centavos")
+    void shouldMatchBigDecimal(RoundingMode mode) {
+        FixedPointTaxCalculator calculator = new FixedPointTaxCalculator(mode);
+        for (long amount = 0; amount <= 100_000; amount += 7) {
+            long expected = BigDecimal.valueOf(amount * 1250)
+                .divide(BigDecimal.valueOf(10_000), 0, mode)
+                .longValueExact();
+            assertEquals(expected, calculator.calculateTaxAmount(amount, 1250), "monto=" + amount);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción para modos de redondeo no soportados")
+    void shouldRejectUnsupportedRoundingMode() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedPointTaxCalculator(RoundingMode.FLOOR));
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción para montos negativos o desbordamiento")
+    void shouldThrowForNegativeOrOverflow() {
+        FixedPointTaxCalculator calculator = new FixedPointTaxCalculator();
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> calculator.calculateTaxAmount(-1, 100)),
+            () -> assertThrows(IllegalArgumentException.class, () -> calculator.calculateTaxAmount(1, -100)),
+            () -> assertThrows(ArithmeticException.class,
+                () -> calculator.calculateTaxAmount(Long.MAX_VALUE / 100, 10_000)),
+            () -> assertThrows(ArithmeticException.class,
+                () -> calculator.calculateTotalWithTax(Long.MAX_VALUE - 1, 10_000))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería marcar filas negativas y desbordadas en el lote sin lanzar excepción")
+    void shouldRejectInvalidRowsInBatch() {
+        FixedPointTaxCalculator calculator = new FixedPointTaxCalculator(RoundingMode.HALF_UP);
+        long[] amounts = {1005, -1, Long.MAX_VALUE / 2, 10000};
+        int[] rates = {1000, 1000, 10_000, 1200};
+        long[] totals = new long[4];
+        long[] taxes = new long[4];
+        long[] rejected = new long[1];
+
+        int rejectedCount = calculator.calculateTotalsWithTax(amounts, rates, totals, taxes, rejected);
+
+        assertAll(
+            () -> assertEquals(2, rejectedCount),
+            () -> assertEquals(0b0110L, rejected[0]),
+            () -> assertArrayEquals(new long[] {1106, 0, 0, 11200}, totals),
+            () -> assertArrayEquals(new long[] {101, 0, 0, 1200}, taxes)
+        );
+    }
+}
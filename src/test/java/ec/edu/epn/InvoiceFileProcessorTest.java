@@ -0,0 +1,135 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para InvoiceFileProcessor.
+ *
+ * Usa fragmentos muy pequeños para forzar que los registros caigan cerca de los
+ * límites entre fragmentos y que se procesen en paralelo.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class InvoiceFileProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest(name = "Fragmentos de {0} bytes")
+    @ValueSource(ints = {1, 16, 100, 1 << 20})
+    @DisplayName("Debería resumir y escribir los totales en el orden de entrada")
+    void shouldSummarizeAndWriteTotals(int chunkSize) throws IOException {
+        Path input = tempDir.resolve("facturas.csv");
+        Files.writeString(input, "100.00,12\n"
+            + "  29.99 , 12.0\r\n"
+            + "\n"
+            + "-5,10\n"
+            + "monto,tasa\n"
+            + "1e3,15,campo extra\n"
+            + "200,");
+        Path output = tempDir.resolve("totales.bin");
+
+        InvoiceSummary summary = new InvoiceFileProcessor((byte) ',', chunkSize, ForkJoinPool.commonPool())
+            .process(input, output);
+
+        TaxCalculator calculator = new TaxCalculator();
+        double[] totals = readDoubles(output);
+        assertAll(
+            () -> assertEquals(6, summary.getRecordCount()),
+            () -> assertEquals(3, summary.getRejectedCount()),
+            () -> assertEquals(1129.99, summary.getAmountTotal(), 1e-9),
+            () -> assertEquals(12 + 29.99 * 0.12 + 150, summary.getTaxTotal(), 1e-9),
+            () -> assertEquals(6, totals.length),
+            () -> assertEquals(calculator.calculateTotalWithTax(100, 12), totals[0]),
+            () -> assertEquals(calculator.calculateTotalWithTax(29.99, 12), totals[1]),
+            () -> assertTrue(Double.isNaN(totals[2])),
+            () -> assertTrue(Double.isNaN(totals[3])),
+            () -> assertEquals(1150.0, totals[4]),
+            () -> assertTrue(Double.isNaN(totals[5]))
+        );
+        try (var files = Files.list(tempDir)) {
+            assertEquals(2, files.count(), "No deberían quedar archivos parciales");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería eliminar los archivos parciales si falla la concatenación")
+    void shouldDeletePartsWhenConcatenationFails() throws IOException {
+        Path input = tempDir.resolve("facturas.csv");
+        Files.writeString(input, "100,12\n200,12\n300,12\n400,12\n500,12\n");
+        // Un directorio como destino hace fallar la concatenación después de escribir los parciales.
+        Path output = Files.createDirectory(tempDir.resolve("totales.bin"));
+
+        InvoiceFileProcessor processor = new InvoiceFileProcessor((byte) ',', 8, ForkJoinPool.commonPool());
+
+        assertThrows(IOException.class, () -> processor.process(input, output));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(input), files.filter(Files::isRegularFile).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería aceptar columnas alineadas con espacios")
+    void shouldParseSpaceAlignedColumns() throws IOException {
+        Path input = tempDir.resolve("facturas.txt");
+        Files.writeString(input, "    100.00     10.00\n      50.00      0.00\n");
+
+        InvoiceSummary summary = new InvoiceFileProcessor((byte) ' ', 1 << 20, ForkJoinPool.commonPool())
+            .process(input);
+
+        assertEquals(0, summary.getRejectedCount());
+        assertEquals(160.0, summary.getGrandTotal(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Debería leer números igual que Double.parseDouble")
+    void shouldParseLikeDoubleParseDouble() {
+        Random random = new Random(9);
+        String[] fixed = {"0", "-0.0", "007.50", ".5", "5.", "1e22", "1E-5", "123456789012345678",
+            "0.000000000000000000000001", "9007199254740993", "+3.25"};
+        for (String text : fixed) {
+            assertParsed(text);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertParsed(String.format(Locale.ROOT, "%.4f", random.nextDouble() * 1_000_000));
+            assertParsed(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+        }
+        for (String text : new String[] {"", "-", ".", "1.2.3", "1e", "abc", "1,5"}) {
+            assertTrue(Double.isNaN(parse(text)), "Debería rechazar: " + text);
+        }
+    }
+
+    private static void assertParsed(String text) {
+        assertEquals(Double.parseDouble(text), parse(text), text);
+    }
+
+    private static double parse(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        return AsciiDecimalParser.parse(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    private static double[] readDoubles(Path file) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        double[] values = new double[bytes.remaining() / Double.BYTES];
+        bytes.asDoubleBuffer().get(values);
+        return values;
+    }
+}
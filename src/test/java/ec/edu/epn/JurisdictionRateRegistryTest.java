@@ -0,0 +1,119 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para JurisdictionRateRegistry.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class JurisdictionRateRegistryTest {
+
+    private JurisdictionRateRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new JurisdictionRateRegistry();
+        registry.putRates(new long[] {593, 34, 49}, new double[] {12.0, 21.0, 19.0});
+    }
+
+    @Test
+    @DisplayName("Debería resolver tasas y multiplicadores registrados")
+    void shouldResolveRegisteredRates() {
+        assertAll(
+            () -> assertEquals(3, registry.size()),
+            () -> assertEquals(12.0, registry.getRate(593)),
+            () -> assertEquals(1.21, registry.getMultiplier(34), 1e-12),
+            () -> assertEquals(119.0, registry.calculateTotalWithTax(49, 100.0), 1e-9),
+            () -> assertEquals(-1.0, registry.getRateOrDefault(1, -1.0)),
+            () -> assertFalse(registry.contains(1))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción para jurisdicciones desconocidas y montos negativos")
+    void shouldThrowForUnknownJurisdiction() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> registry.getRate(7)),
+            () -> assertThrows(IllegalArgumentException.class, () -> registry.calculateTotalWithTax(593, -1.0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> registry.putRate(7, -5.0))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería reemplazar, eliminar y versionar actualizaciones")
+    void shouldUpdateRates() {
+        long version = registry.getVersion();
+
+        registry.putRate(593, 15.0);
+        registry.putRate(1L << 40, 5.0);
+        assertTrue(registry.removeRate(34));
+        assertFalse(registry.removeRate(34));
+
+        assertAll(
+            () -> assertEquals(15.0, registry.getRate(593)),
+            () -> assertEquals(5.0, registry.getRate(1L << 40)),
+            () -> assertFalse(registry.contains(34)),
+            () -> assertEquals(3, registry.size()),
+            () -> assertEquals(version + 3, registry.getVersion())
+        );
+
+        registry.replaceAll(new long[] {1, 2}, new double[] {1.0, 2.0});
+        assertEquals(2, registry.size());
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.replaceAll(new long[] {1, 1}, new double[] {1.0, 2.0}));
+        assertEquals(2.0, registry.getRate(2));
+    }
+
+    @Test
+    @DisplayName("Debería resolver un lote marcando jurisdicciones desconocidas")
+    void shouldLookupRatesInBatch() {
+        double[] rates = new double[4];
+        long[] mask = new long[1];
+
+        int rejected = registry.lookupRates(new long[] {34, 8, 593, 49}, rates, mask);
+
+        assertAll(
+            () -> assertEquals(1, rejected),
+            () -> assertEquals(0b0010L, mask[0]),
+            () -> assertEquals(21.0, rates[0]),
+            () -> assertTrue(Double.isNaN(rates[1])),
+            () -> assertEquals(19.0, rates[3])
+        );
+    }
+
+    @Test
+    @DisplayName("Los lectores deberían ver actualizaciones atómicas sin bloquear")
+    void readersShouldSeeAtomicUpdates() throws InterruptedException {
+        registry.replaceAll(new long[] {1, 2}, new double[] {10.0, 10.0});
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                double first = registry.getRate(1);
+                double multiplier = registry.getMultiplier(1);
+                if (first != 10.0 && first != 20.0 || multiplier != 1.1 && multiplier != 1.2) {
+                    failure.set("Estado intermedio observado: " + first + ", " + multiplier);
+                }
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < 2_000; i++) {
+            double rate = i % 2 == 0 ? 20.0 : 10.0;
+            registry.putRates(new long[] {1, 2}, new double[] {rate, rate});
+        }
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(registry.getRate(1), registry.getRate(2));
+    }
+}
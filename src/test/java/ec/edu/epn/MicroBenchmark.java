@@ -0,0 +1,57 @@
+package ec.edu.epn;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+/**
+ * Arnés mínimo de micro-benchmarks para los programas {@code *Benchmark} de
+ * este directorio. No es un test: surefire no lo ejecuta.
+ *
+ * Mide tiempo por operación y bytes asignados por operación en el hilo actual,
+ * tras una fase de calentamiento para que el JIT compile el código medido.
+ */
+final class MicroBenchmark {
+
+    private static final ThreadMXBean THREADS =
+        (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Evita que el JIT elimine resultados no usados. */
+    static volatile long sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Ejecuta {@code body} repetidamente e imprime ns/op y bytes/op.
+     *
+     * @param name             Nombre a mostrar.
+     * @param operationsPerRun Número de operaciones lógicas que realiza cada invocación de {@code body}.
+     * @param body             El código medido; su resultado se acumula en {@link #sink}.
+     * @return Los nanosegundos por operación medidos.
+     */
+    static double run(String name, long operationsPerRun, LongSupplier body) {
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            sink += body.getAsLong();
+        }
+
+        int runs = 0;
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long end = start + 3_000_000_000L;
+        long now;
+        do {
+            sink += body.getAsLong();
+            runs++;
+            now = System.nanoTime();
+        } while (now < end);
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        double operations = (double) runs * operationsPerRun;
+        double nanosPerOp = (now - start) / operations;
+        System.out.printf("%-40s %10.3f ns/op %10.3f B/op%n", name, nanosPerOp, allocated / operations);
+        return nanosPerOp;
+    }
+}
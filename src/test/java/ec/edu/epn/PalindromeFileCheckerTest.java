@@ -0,0 +1,156 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para PalindromeFileChecker.
+ *
+ * Compara los modos secuencial y paralelo con StringValidator.isPalindrome, con
+ * ventanas muy pequeñas para forzar que los code points crucen los límites.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class PalindromeFileCheckerTest {
+
+    private static final String ALPHABET = "aAbÑñ€😀𐐀𐐨";
+
+    private final StringValidator stringValidator = new StringValidator();
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest(name = "ventana de {0} bytes, {1} hilos")
+    @CsvSource({"4096, 1", "4096, 3", "65536, 2", "1048576, 4"})
+    @DisplayName("Debería coincidir con StringValidator.isPalindrome")
+    void shouldMatchStringValidator(int windowSize, int threads) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            PalindromeFileChecker checker = new PalindromeFileChecker(windowSize, pool);
+            Random random = new Random(windowSize);
+            for (int i = 0; i < 40; i++) {
+                // Hasta unos 30 KB, para cruzar varias ventanas de 4 KiB.
+                String text = randomText(random, 1 + random.nextInt(i % 4 == 0 ? 20 : 6000));
+                Path file = tempDir.resolve("texto.txt");
+                Files.writeString(file, text, StandardCharsets.UTF_8);
+
+                boolean expected = stringValidator.isPalindrome(text);
+                assertEquals(expected, checker.isPalindrome(file), text);
+                assertEquals(expected, checker.isPalindromeParallel(file), text);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest(name = "''{0}''")
+    @ValueSource(strings = {"reconocer", "Anita lava la tina", "a", " \tx\n", "€ab  b A€"})
+    @DisplayName("Debería reconocer palíndromos con espacios asimétricos")
+    void shouldAcceptPalindromes(String text) throws IOException {
+        Path file = tempDir.resolve("texto.txt");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        PalindromeFileChecker checker = new PalindromeFileChecker(4096, ForkJoinPool.commonPool());
+
+        assertAll(
+            () -> assertTrue(checker.isPalindrome(file)),
+            () -> assertTrue(checker.isPalindromeParallel(file))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería detectar una diferencia en el centro de un archivo grande")
+    void shouldDetectMismatchInLargeFile() throws IOException {
+        StringBuilder half = new StringBuilder();
+        Random random = new Random(1);
+        while (half.length() < 200_000) {
+            half.append(ALPHABET.charAt(random.nextInt(6))).append(random.nextInt(10) == 0 ? " " : "");
+        }
+        String palindrome = half + "x" + new StringBuilder(half).reverse();
+        String broken = half + "xy" + new StringBuilder(half).reverse();
+        Path good = tempDir.resolve("bueno.txt");
+        Path bad = tempDir.resolve("malo.txt");
+        Files.writeString(good, palindrome, StandardCharsets.UTF_8);
+        Files.writeString(bad, broken, StandardCharsets.UTF_8);
+        PalindromeFileChecker checker = new PalindromeFileChecker(4096, ForkJoinPool.commonPool());
+
+        assertAll(
+            () -> assertTrue(checker.isPalindrome(good)),
+            () -> assertTrue(checker.isPalindromeParallel(good)),
+            () -> assertFalse(checker.isPalindrome(bad)),
+            () -> assertFalse(checker.isPalindromeParallel(bad))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería lanzar IllegalArgumentException para un archivo en blanco")
+    void shouldRejectBlankFile() throws IOException {
+        Path empty = Files.createFile(tempDir.resolve("vacio.txt"));
+        Path blank = Files.writeString(tempDir.resolve("blanco.txt"), " \n\t\r\n");
+        PalindromeFileChecker checker = new PalindromeFileChecker();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> checker.isPalindrome(empty)),
+            () -> assertThrows(IllegalArgumentException.class, () -> checker.isPalindromeParallel(empty)),
+            () -> assertThrows(IllegalArgumentException.class, () -> checker.isPalindrome(blank)),
+            () -> assertThrows(IllegalArgumentException.class, () -> checker.isPalindromeParallel(blank))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería lanzar MalformedInputException para UTF-8 inválido")
+    void shouldRejectMalformedUtf8() throws IOException {
+        Path file = Files.write(tempDir.resolve("invalido.txt"), new byte[]{'a', (byte) 0xC3, 'b', 'a'});
+        PalindromeFileChecker checker = new PalindromeFileChecker(4096, ForkJoinPool.commonPool());
+
+        assertThrows(MalformedInputException.class, () -> checker.isPalindrome(file));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una ventana menor que 4096 bytes")
+    void shouldRejectTinyWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new PalindromeFileChecker(4095, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Genera un palíndromo o un texto al azar, con espacios en posiciones al azar.
+     */
+    private static String randomText(Random random, int length) {
+        StringBuilder half = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int c = random.nextInt(ALPHABET.length());
+            if (Character.isLowSurrogate(ALPHABET.charAt(c))) {
+                c--;
+            }
+            half.appendCodePoint(ALPHABET.codePointAt(c));
+        }
+        String text;
+        if (random.nextBoolean()) {
+            StringBuilder mirror = new StringBuilder(half).reverse();
+            text = half + (random.nextBoolean() ? "b" : "") + mirror;
+        } else {
+            text = half.toString();
+        }
+        StringBuilder spaced = new StringBuilder();
+        text.codePoints().forEach(cp -> {
+            spaced.appendCodePoint(cp);
+            if (random.nextInt(5) == 0) {
+                spaced.append(" \t\n\r".charAt(random.nextInt(4)));
+            }
+        });
+        return spaced.toString();
+    }
+}
@@ -0,0 +1,168 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para PalindromeIndex.
+ *
+ * Compara cada consulta con StringValidator.isPalindrome sobre la subcadena y con
+ * una búsqueda exhaustiva del palíndromo más largo.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class PalindromeIndexTest {
+
+    private static final String ALPHABET = "aAbB \tñÑ";
+    private static final String EMOJI = "😀";
+
+    private final StringValidator stringValidator = new StringValidator();
+
+    @ParameterizedTest(name = "semilla {0}, longitud {1}")
+    @CsvSource({"1, 12", "2, 40", "3, 97", "4, 150"})
+    @DisplayName("Debería coincidir con StringValidator en todas las subcadenas")
+    void shouldMatchStringValidatorOnEverySubstring(long seed, int length) {
+        String text = randomText(new Random(seed), length);
+        PalindromeIndex index = new PalindromeIndex(text);
+
+        for (int begin = 0; begin <= text.length(); begin++) {
+            for (int end = begin; end <= text.length(); end++) {
+                if (splitsPair(text, begin) || splitsPair(text, end)) {
+                    continue;
+                }
+                String substring = text.substring(begin, end);
+                boolean expected = substring.isBlank() || stringValidator.isPalindrome(substring);
+                assertEquals(expected, index.isPalindrome(begin, end), "'" + substring + "'");
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "semilla {0}, longitud {1}")
+    @CsvSource({"5, 30", "6, 80", "7, 300"})
+    @DisplayName("Debería encontrar el palíndromo más largo de cada rango")
+    void shouldFindLongestPalindromeInRange(long seed, int length) {
+        Random random = new Random(seed);
+        String text = randomText(random, length);
+        PalindromeIndex index = new PalindromeIndex(text);
+
+        for (int query = 0; query < 500; query++) {
+            int begin = random.nextInt(text.length() + 1);
+            int end = begin + random.nextInt(text.length() - begin + 1);
+            if (splitsPair(text, begin) || splitsPair(text, end)) {
+                continue;
+            }
+            assertEquals(bruteForceLongest(text.substring(begin, end)), index.longestPalindromeLength(begin, end),
+                "[" + begin + ", " + end + ")");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería responder consultas por lotes con una máscara de bits")
+    void shouldAnswerBatchQueries() {
+        String text = "Anita lava la tina, reconocer y Hola";
+        PalindromeIndex index = new PalindromeIndex(text);
+        int queries = 130;
+        int[] begins = new int[queries];
+        int[] ends = new int[queries];
+        Random random = new Random(8);
+        for (int i = 0; i < queries; i++) {
+            begins[i] = random.nextInt(text.length());
+            ends[i] = begins[i] + random.nextInt(text.length() - begins[i] + 1);
+        }
+        long[] mask = new long[3];
+        int[] lengths = new int[queries];
+
+        int palindromes = index.isPalindrome(begins, ends, mask);
+        index.longestPalindromeLengths(begins, ends, lengths);
+
+        int expected = 0;
+        for (int i = 0; i < queries; i++) {
+            boolean palindrome = index.isPalindrome(begins[i], ends[i]);
+            expected += palindrome ? 1 : 0;
+            assertEquals(palindrome, (mask[i >>> 6] & (1L << i)) != 0);
+            assertEquals(index.longestPalindromeLength(begins[i], ends[i]), lengths[i]);
+        }
+        assertEquals(expected, palindromes);
+    }
+
+    @Test
+    @DisplayName("Debería normalizar espacios y mayúsculas como StringValidator")
+    void shouldNormalizeLikeStringValidator() {
+        PalindromeIndex index = new PalindromeIndex("xx Anita lava la tina yy");
+
+        assertAll(
+            () -> assertTrue(index.isPalindrome(3, 21)),
+            () -> assertFalse(index.isPalindrome(0, 21)),
+            () -> assertEquals(19, index.normalizedLength()),
+            () -> assertEquals(15, index.longestPalindromeLength(0, 24)),
+            () -> assertTrue(index.isPalindrome(2, 3)),
+            () -> assertEquals(0, index.longestPalindromeLength(2, 3))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería rechazar rangos inválidos")
+    void shouldRejectInvalidRanges() {
+        PalindromeIndex index = new PalindromeIndex("a" + EMOJI + "a");
+
+        assertAll(
+            () -> assertTrue(index.isPalindrome(0, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.isPalindrome(-1, 2)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.isPalindrome(3, 2)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.isPalindrome(0, 5)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.isPalindrome(0, 2)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.longestPalindromeLength(2, 4)),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> index.isPalindrome(new int[2], new int[2], new long[0])),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> index.longestPalindromeLengths(new int[2], new int[1], new int[2])),
+            () -> assertThrows(IllegalArgumentException.class, () -> new PalindromeIndex(null))
+        );
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            if (random.nextInt(12) == 0) {
+                text.append(EMOJI);
+            } else {
+                // Alfabeto pequeño para que abunden los palíndromos.
+                text.append(ALPHABET.charAt(random.nextInt(random.nextBoolean() ? 2 : ALPHABET.length())));
+            }
+        }
+        return text.toString();
+    }
+
+    private static boolean splitsPair(String text, int index) {
+        return index > 0 && index < text.length()
+            && Character.isLowSurrogate(text.charAt(index)) && Character.isHighSurrogate(text.charAt(index - 1));
+    }
+
+    private static int bruteForceLongest(String substring) {
+        int[] normalized = substring.codePoints()
+            .filter(codePoint -> !Character.isBmpCodePoint(codePoint) || !StringValidator.isRegexWhitespace((char) codePoint))
+            .map(Character::toLowerCase)
+            .toArray();
+        int longest = 0;
+        for (int from = 0; from < normalized.length; from++) {
+            for (int to = from + longest + 1; to <= normalized.length; to++) {
+                int i = from;
+                int j = to - 1;
+                while (i < j && normalized[i] == normalized[j]) {
+                    i++;
+                    j--;
+                }
+                if (i >= j) {
+                    longest = to - from;
+                }
+            }
+        }
+        return longest;
+    }
+}
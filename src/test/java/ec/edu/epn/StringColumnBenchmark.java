@@ -0,0 +1,58 @@
+package ec.edu.epn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compara la validación de una celda a la vez con
+ * {@link StringValidator#validateNotEmpty(String)} frente a
+ * {@link StringColumnValidator} en sus rutas escalar y SIMD.
+ *
+ * Ejecución:
+ * <pre>
+ * mvn test-compile
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes ec.edu.epn.StringColumnBenchmark
+ * </pre>
+ */
+public class StringColumnBenchmark {
+
+    private static final int CELLS = 1 << 16;
+
+    public static void main(String[] args) {
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        int[] offsets = new int[CELLS + 1];
+        for (int i = 0; i < CELLS; i++) {
+            // Un 10 % de celdas vacías o blancas y el resto con espacios alrededor.
+            String cell = switch (i % 10) {
+                case 0 -> i % 20 == 0 ? "" : "        ";
+                case 1 -> "   Quito " + i + "   ";
+                default -> "valor-" + i;
+            };
+            packed.writeBytes(cell.getBytes(StandardCharsets.UTF_8));
+            offsets[i + 1] = packed.size();
+        }
+        byte[] data = packed.toByteArray();
+        long[] failures = new long[(CELLS + 63) / 64];
+
+        StringValidator validator = new StringValidator();
+        StringColumnValidator scalar = new StringColumnValidator();
+        StringColumnValidator vector = new StringColumnValidator(VectorSupport.AVAILABLE, ForkJoinPool.commonPool());
+        System.out.println("Vector API disponible: " + vector.isVectorized());
+
+        MicroBenchmark.run("una celda a la vez (String + excepción)", CELLS, () -> {
+            long failed = 0;
+            for (int i = 0; i < CELLS; i++) {
+                try {
+                    validator.validateNotEmpty(new String(data, offsets[i], offsets[i + 1] - offsets[i],
+                        StandardCharsets.UTF_8).trim());
+                } catch (IllegalArgumentException e) {
+                    failed++;
+                }
+            }
+            return failed;
+        });
+        MicroBenchmark.run("columna escalar", CELLS, () -> scalar.validateNotEmpty(data, offsets, CELLS, null, failures));
+        MicroBenchmark.run("columna SIMD", CELLS, () -> vector.validateNotEmpty(data, offsets, CELLS, null, failures));
+    }
+}
@@ -0,0 +1,154 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Clase de pruebas unitarias para StringColumnValidator.
+ *
+ * Compara la ruta escalar y la ruta SIMD, en bytes UTF-8 y en caracteres, con
+ * StringValidator.checkNotEmpty celda por celda, incluyendo celdas blancas que
+ * cruzan bloques de 64 elementos y columnas que se reparten entre varias tareas.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class StringColumnValidatorTest {
+
+    private final StringValidator stringValidator = new StringValidator();
+    private final ForkJoinPool pool = new ForkJoinPool(3);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Debería usar la ruta escalar salvo que se pida SIMD")
+    void shouldBeScalarByDefault() {
+        assertAll(
+            () -> assertFalse(new StringColumnValidator().isVectorized()),
+            () -> assertFalse(new StringColumnValidator(pool).isVectorized())
+        );
+    }
+
+    @ParameterizedTest(name = "SIMD={0}, celdas={1}")
+    @CsvSource({"false, 0", "false, 1000", "false, 40000", "true, 1", "true, 1000", "true, 40000"})
+    @DisplayName("Debería coincidir con checkNotEmpty en bytes UTF-8 y en caracteres")
+    void shouldMatchCheckNotEmpty(boolean vectorized, int count) {
+        List<String> cells = randomCells(count, count + 17L);
+        long[] nullMask = new long[(count + 63) / 64];
+        for (int i = 0; i < count; i++) {
+            if (cells.get(i) == null) {
+                nullMask[i >>> 6] |= 1L << i;
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StringBuilder chars = new StringBuilder();
+        int[] byteOffsets = new int[count + 1];
+        int[] charOffsets = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            if (cells.get(i) != null) {
+                bytes.writeBytes(cells.get(i).getBytes(StandardCharsets.UTF_8));
+                chars.append(cells.get(i));
+            }
+            byteOffsets[i + 1] = bytes.size();
+            charOffsets[i + 1] = chars.length();
+        }
+        StringColumnValidator validator = validator(vectorized);
+        long[] byteFailures = new long[nullMask.length];
+        long[] charFailures = new long[nullMask.length];
+
+        int byteFailed = validator.validateNotEmpty(bytes.toByteArray(), byteOffsets, count, nullMask, byteFailures);
+        int charFailed = validator.validateNotEmpty(chars.toString().toCharArray(), charOffsets, count,
+            nullMask, charFailures);
+
+        int expectedFailed = 0;
+        for (int i = 0; i < count; i++) {
+            boolean expected = !stringValidator.checkNotEmpty(cells.get(i)).isValid();
+            expectedFailed += expected ? 1 : 0;
+            assertEquals(expected, (byteFailures[i >>> 6] & (1L << i)) != 0, "celda " + i + ": '" + cells.get(i) + "'");
+            assertEquals(expected, (charFailures[i >>> 6] & (1L << i)) != 0, "celda " + i + ": '" + cells.get(i) + "'");
+        }
+        assertEquals(expectedFailed, byteFailed);
+        assertEquals(expectedFailed, charFailed);
+    }
+
+    @ParameterizedTest(name = "SIMD={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Debería ignorar los bits de la máscara de nulos más allá de count")
+    void shouldIgnoreNullBitsPastCount(boolean vectorized) {
+        byte[] data = "abc".getBytes(StandardCharsets.US_ASCII);
+        long[] nullMask = {-1L << 2};
+        long[] failures = {-1L};
+
+        int failed = validator(vectorized).validateNotEmpty(data, new int[] {0, 1, 3}, 2, nullMask, failures);
+
+        assertAll(
+            () -> assertEquals(0, failed),
+            () -> assertEquals(0L, failures[0])
+        );
+    }
+
+    @Test
+    @DisplayName("Debería rechazar argumentos inválidos")
+    void shouldRejectInvalidArguments() {
+        StringColumnValidator validator = new StringColumnValidator(pool);
+        byte[] data = new byte[4];
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> validator.validateNotEmpty(data, new int[2], 2, null, new long[1])),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> validator.validateNotEmpty(data, new int[3], 2, null, new long[0])),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> validator.validateNotEmpty(new char[4], new int[66], 65, new long[1], new long[2])),
+            () -> assertThrows(IndexOutOfBoundsException.class,
+                () -> validator.validateNotEmpty(data, new int[] {0, 5}, 1, null, new long[1])),
+            () -> assertThrows(IndexOutOfBoundsException.class,
+                () -> validator.validateNotEmpty(data, new int[] {3, 2}, 1, null, new long[1]))
+        );
+    }
+
+    private StringColumnValidator validator(boolean vectorized) {
+        assumeTrue(!vectorized || VectorSupport.AVAILABLE, "jdk.incubator.vector no disponible");
+        return new StringColumnValidator(vectorized, pool);
+    }
+
+    private static List<String> randomCells(int count, long seed) {
+        Random random = new Random(seed);
+        String visible = "abñ€ x";
+        String blank = " \t\n\r\u000B\u0001";
+        List<String> cells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int kind = random.nextInt(10);
+            if (kind == 0) {
+                cells.add(null);
+                continue;
+            }
+            // Celdas largas de vez en cuando para cruzar varios bloques de 64.
+            int length = random.nextInt(i % 25 == 0 ? 200 : 12);
+            StringBuilder cell = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                cell.append(blank.charAt(random.nextInt(blank.length())));
+            }
+            if (kind > 4 && length > 0) {
+                cell.setCharAt(random.nextInt(length), visible.charAt(random.nextInt(visible.length())));
+            }
+            cells.add(cell.toString());
+        }
+        return cells;
+    }
+}
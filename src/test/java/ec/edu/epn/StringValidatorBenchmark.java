@@ -0,0 +1,84 @@
+package ec.edu.epn;
+
+/**
+ * Compara {@link StringValidator#isPalindrome(String)} con la implementación
+ * original (replaceAll + toLowerCase + StringBuilder.reverse), y el rechazo de
+ * campos vacíos con excepción frente a {@link StringValidator#checkNotEmpty(String)}.
+ *
+ * Ejecución:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes ec.edu.epn.StringValidatorBenchmark
+ * </pre>
+ */
+public class StringValidatorBenchmark {
+
+    private static final int INPUTS = 4096;
+
+    public static void main(String[] args) {
+        String[] inputs = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            switch (i % 4) {
+                case 0 -> inputs[i] = "Anita lava la tina";
+                case 1 -> inputs[i] = "A man a plan a canal Panama " + i;
+                case 2 -> inputs[i] = "reconocer";
+                default -> inputs[i] = "Dábale arroz a la zorra el abad";
+            }
+        }
+        StringValidator validator = new StringValidator();
+
+        double legacy = MicroBenchmark.run("original (regex + reverse)", INPUTS, () -> {
+            long palindromes = 0;
+            for (String input : inputs) {
+                if (legacyIsPalindrome(input)) {
+                    palindromes++;
+                }
+            }
+            return palindromes;
+        });
+        double twoPointer = MicroBenchmark.run("dos índices sobre code points", INPUTS, () -> {
+            long palindromes = 0;
+            for (String input : inputs) {
+                if (validator.isPalindrome(input)) {
+                    palindromes++;
+                }
+            }
+            return palindromes;
+        });
+        System.out.printf("Aceleración: %.2fx%n", legacy / twoPointer);
+
+        // Un 10 % de campos vacíos, como en la importación de datos.
+        String[] fields = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            fields[i] = i % 10 == 0 ? "   " : inputs[i];
+        }
+        double throwing = MicroBenchmark.run("validateNotEmpty (excepción)", INPUTS, () -> {
+            long rejected = 0;
+            for (String field : fields) {
+                try {
+                    validator.validateNotEmpty(field);
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                }
+            }
+            return rejected;
+        });
+        double status = MicroBenchmark.run("checkNotEmpty (estado)", INPUTS, () -> {
+            long rejected = 0;
+            for (String field : fields) {
+                if (!validator.checkNotEmpty(field).isValid()) {
+                    rejected++;
+                }
+            }
+            return rejected;
+        });
+        System.out.printf("Aceleración: %.2fx%n", throwing / status);
+    }
+
+    private static boolean legacyIsPalindrome(String input) {
+        new StringValidator().validateNotEmpty(input);
+        String cleaned = input.replaceAll("\\s+", "").toLowerCase();
+        String reversed = new StringBuilder(cleaned).reverse().toString();
+        return cleaned.equals(reversed);
+    }
+}
@@ -9,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 /**
@@ -52,6 +54,103 @@ class StringValidatorTest {
             .collect(Collectors.toList());
     }
 
+    @TestFactory
+    Collection<DynamicTest> dynamicUnicodePalindromeTests() {
+
+        List<TestData> testDataList = Arrays.asList(
+            new TestData("Anita lava la tina", true),
+            new TestData("a\tb\n\u000Bb\f\ra", true),
+            new TestData("a\u00A0a", true),
+            new TestData("\uD83D\uDE00x\uD83D\uDE00", true),
+            new TestData("\uD83D\uDE00\uD83D\uDE01", false),
+            new TestData("\uD801\uDC00\uD801\uDC28", true),
+            new TestData("Ñandú dnañ", true),
+            new TestData("ÑAñ", true),
+            new TestData("\u03A3a\u03C3", true),
+            new TestData("\u03A3\u03C3", true),
+            new TestData("\u0130i", true),
+            new TestData("\uD800 \uDC00", true)
+        );
+
+        return testDataList.stream()
+            .map(data -> DynamicTest.dynamicTest("isPalindrome('" + data.input + "') == " + data.expected, () -> {
+                assertEquals(data.expected, legacyIsPalindrome(data.input));
+                assertEquals(data.expected, stringValidator.isPalindrome(data.input));
+            }))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void testIsPalindromeMatchesOriginalImplementation() {
+        Random random = new Random(7);
+        String alphabet = "aAbB \t\u00D1\u00F1\u03A3\u03C3\u03C2\u0130i\uD801\uDC00\uD801\uDC28\uD800";
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder half = new StringBuilder();
+            int length = 1 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                half.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            // Half of the inputs are palindromes by construction.
+            String input = random.nextBoolean()
+                ? half.toString() + new StringBuilder(half).reverse()
+                : half.toString();
+            if (input.trim().isEmpty()) {
+                continue;
+            }
+            assertEquals(legacyIsPalindrome(input), stringValidator.isPalindrome(input), input);
+        }
+    }
+
+    @Test
+    void testIsPalindromeWithTurkishLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertEquals(legacyIsPalindrome("Ii"), stringValidator.isPalindrome("Ii"));
+            assertFalse(stringValidator.isPalindrome("Ii"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void testIsPalindromeRejectsBlankInput() {
+        assertThrows(IllegalArgumentException.class, () -> stringValidator.isPalindrome(null));
+        assertThrows(IllegalArgumentException.class, () -> stringValidator.isPalindrome(" \t "));
+    }
+
+    @Test
+    void testCheckNotEmptyReturnsStatusWithoutThrowing() {
+        assertEquals(ValidationStatus.VALID, stringValidator.checkNotEmpty("hello"));
+        assertEquals(ValidationStatus.NULL_INPUT, stringValidator.checkNotEmpty(null));
+        assertEquals(ValidationStatus.EMPTY_INPUT, stringValidator.checkNotEmpty(""));
+        assertEquals(ValidationStatus.EMPTY_INPUT, stringValidator.checkNotEmpty(" \t\n"));
+
+        // The throwing wrapper keeps the status messages.
+        for (String input : new String[] {null, "", "   "}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> stringValidator.validateNotEmpty(input));
+            assertEquals(stringValidator.checkNotEmpty(input).getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    void testCheckPalindromeMatchesIsPalindrome() {
+        assertEquals(ValidationStatus.VALID, stringValidator.checkPalindrome("Anita lava la tina"));
+        assertEquals(ValidationStatus.NOT_PALINDROME, stringValidator.checkPalindrome("Hola"));
+        assertEquals(ValidationStatus.NULL_INPUT, stringValidator.checkPalindrome(null));
+        assertEquals(ValidationStatus.EMPTY_INPUT, stringValidator.checkPalindrome(" \t "));
+        assertTrue(ValidationStatus.VALID.isValid());
+        assertNull(ValidationStatus.VALID.getMessage());
+        assertFalse(ValidationStatus.NOT_PALINDROME.isValid());
+    }
+
+    private static boolean legacyIsPalindrome(String input) {
+        String cleaned = input.replaceAll("\\s+", "").toLowerCase();
+        String reversed = new StringBuilder(cleaned).reverse().toString();
+        return cleaned.equals(reversed);
+    }
+
     static class TestData {
         String input;
         boolean expected;
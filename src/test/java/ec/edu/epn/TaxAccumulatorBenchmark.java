@@ -0,0 +1,91 @@
+package ec.edu.epn;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Mide cómo escala {@link TaxAccumulator} con el número de hilos escritores,
+ * frente a {@link DoubleAdder} como referencia sin compensación.
+ *
+ * Cada hilo realiza el mismo número de sumas; con escalado lineal el rendimiento
+ * total (sumas por segundo) crece en proporción al número de hilos hasta agotar
+ * los núcleos disponibles. Conviene ejecutarlo en una máquina con al menos
+ * 32 núcleos para observar el rango completo.
+ *
+ * Ejecución:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes ec.edu.epn.TaxAccumulatorBenchmark
+ * </pre>
+ */
+public class TaxAccumulatorBenchmark {
+
+    private static final int CATEGORIES = 4;
+    private static final int ADDITIONS_PER_THREAD = 5_000_000;
+    private static final int MAX_THREADS = 32;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Procesadores disponibles: " + Runtime.getRuntime().availableProcessors());
+
+        // Calentamiento para que el JIT compile ambas rutas antes de medir.
+        measure(MAX_THREADS, new TaxAccumulator(CATEGORIES)::add);
+        DoubleAdder[] warmup = newAdders();
+        measure(MAX_THREADS, (category, value) -> warmup[category].add(value));
+
+        double baseline = 0;
+        for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+            TaxAccumulator accumulator = new TaxAccumulator(CATEGORIES);
+            double accumulatorRate = measure(threads, accumulator::add);
+            DoubleAdder[] adders = newAdders();
+            double adderRate = measure(threads, (category, value) -> adders[category].add(value));
+            if (threads == 1) {
+                baseline = accumulatorRate;
+            }
+            System.out.printf("%2d hilos: TaxAccumulator %8.1f M/s (%5.2fx)   DoubleAdder %8.1f M/s%n",
+                threads, accumulatorRate / 1e6, accumulatorRate / baseline, adderRate / 1e6);
+        }
+    }
+
+    /**
+     * Ejecuta {@code threads} escritores simultáneos y devuelve las sumas por segundo.
+     */
+    private static double measure(int threads, Sink sink) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int category = t % CATEGORIES;
+            writers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < ADDITIONS_PER_THREAD; i++) {
+                    sink.add(category, 0.01 * (i & 1023));
+                }
+            });
+            writers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return (double) threads * ADDITIONS_PER_THREAD / (elapsed / 1e9);
+    }
+
+    private static DoubleAdder[] newAdders() {
+        DoubleAdder[] adders = new DoubleAdder[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            adders[i] = new DoubleAdder();
+        }
+        return adders;
+    }
+
+    @FunctionalInterface
+    private interface Sink {
+        void add(int category, double value);
+    }
+}
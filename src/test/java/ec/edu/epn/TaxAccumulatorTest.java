@@ -0,0 +1,113 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para TaxAccumulator.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class TaxAccumulatorTest {
+
+    @Test
+    @DisplayName("Debería compensar errores de redondeo que una suma simple pierde")
+    void shouldCompensateRoundingErrors() {
+        TaxAccumulator accumulator = new TaxAccumulator(1, 1);
+
+        accumulator.add(0, 1.0);
+        accumulator.add(0, 1e100);
+        accumulator.add(0, 1.0);
+        accumulator.add(0, -1e100);
+
+        assertEquals(2.0, accumulator.sum(0));
+        assertEquals(4, accumulator.count(0));
+    }
+
+    @Test
+    @DisplayName("Debería acumular por categoría desde muchos hilos sin perder sumas")
+    void shouldAccumulateFromManyThreads() throws InterruptedException {
+        int threads = 32;
+        int additions = 20_000;
+        TaxAccumulator accumulator = new TaxAccumulator(3);
+        TaxCalculator calculator = new TaxCalculator();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int category = t % 3;
+            Thread writer = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < additions; i++) {
+                    accumulator.add(category, calculator.calculateTaxAmount(1.0, 10.0));
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                double current = accumulator.sum(0);
+                if (!(current >= 0 && current <= 11 * additions * 0.1 + 1e-9)) {
+                    consistent.set(false);
+                }
+            }
+        });
+        reader.start();
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        reader.join();
+
+        double[] totals = new double[3];
+        accumulator.snapshot(totals);
+        assertAll(
+            () -> assertTrue(consistent.get(), "Las lecturas concurrentes deberían ver sumas parciales válidas"),
+            () -> assertEquals(11L * additions, accumulator.count(0)),
+            () -> assertEquals(10L * additions, accumulator.count(2)),
+            () -> assertEquals(11 * additions * 0.1, totals[0], 1e-9),
+            () -> assertEquals(11 * additions * 0.1, totals[1], 1e-9),
+            () -> assertEquals(10 * additions * 0.1, totals[2], 1e-9)
+        );
+    }
+
+    @Test
+    @DisplayName("Debería rechazar categorías inexistentes y configuraciones inválidas")
+    void shouldRejectInvalidCategories() {
+        TaxAccumulator accumulator = new TaxAccumulator(2);
+        assertAll(
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> accumulator.add(2, 1.0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> accumulator.sum(-1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new TaxAccumulator(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> accumulator.snapshot(new double[1]))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería limitar el número de celdas sin desbordar con valores enormes")
+    void shouldCapHugeStripeCounts() {
+        TaxAccumulator accumulator = new TaxAccumulator(1, Integer.MAX_VALUE);
+
+        accumulator.add(0, 1.5);
+
+        assertEquals(1.5, accumulator.sum(0));
+        assertEquals(1, accumulator.count(0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
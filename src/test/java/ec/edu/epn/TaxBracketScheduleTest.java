@@ -0,0 +1,116 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para TaxBracketSchedule.
+ *
+ * Tabla usada: 0% hasta 10000, 10% hasta 20000, 20% hasta 50000 y 30% en adelante.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class TaxBracketScheduleTest {
+
+    private static final double[] THRESHOLDS = {0, 10_000, 20_000, 50_000};
+    private static final double[] RATES = {0, 10, 20, 30};
+
+    private TaxBracketSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new TaxBracketSchedule(THRESHOLDS, RATES);
+    }
+
+    @ParameterizedTest(name = "Impuesto de ${0} = ${1}")
+    @CsvSource({
+        "0,       0",
+        "5000,    0",
+        "10000,   0",
+        "15000,   500",
+        "20000,   1000",
+        "35000,   4000",
+        "50000,   7000",
+        "100000,  22000"
+    })
+    @DisplayName("Debería acumular el impuesto de cada tramo")
+    void shouldCalculateProgressiveTax(double amount, double expectedTax) {
+        assertAll(
+            () -> assertEquals(expectedTax, schedule.calculateTaxAmount(amount), 0.0001),
+            () -> assertEquals(amount + expectedTax, schedule.calculateTotalWithTax(amount), 0.0001)
+        );
+    }
+
+    @Test
+    @DisplayName("Debería coincidir con el recorrido tramo a tramo")
+    void shouldMatchNaiveBracketWalk() {
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            double amount = random.nextDouble() * 120_000;
+            assertEquals(naiveTax(amount), schedule.calculateTaxAmount(amount), 1e-6, "monto=" + amount);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería dar el mismo resultado en modo ordenado y desordenado")
+    void shouldMatchSortedAndUnsortedBatches() {
+        Random random = new Random(5);
+        double[] amounts = new double[1000];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = random.nextDouble() * 120_000;
+        }
+        amounts[17] = -1;
+        double[] sorted = amounts.clone();
+        Arrays.sort(sorted);
+
+        double[] unsortedTotals = new double[amounts.length];
+        double[] sortedTotals = new double[amounts.length];
+        double[] sortedOnUnsortedInput = new double[amounts.length];
+        long[] mask = new long[TaxCalculator.rejectedMaskLength(amounts.length)];
+
+        assertEquals(1, schedule.calculateTotalsWithTax(amounts, unsortedTotals, null, mask));
+        assertEquals(1L << 17, mask[0]);
+        assertEquals(1, schedule.calculateTotalsWithTaxSorted(sorted, sortedTotals, null, null));
+        schedule.calculateTotalsWithTaxSorted(amounts, sortedOnUnsortedInput, null, null);
+
+        assertArrayEquals(unsortedTotals, sortedOnUnsortedInput);
+        for (int i = 1; i < sorted.length; i++) {
+            assertEquals(sorted[i] + schedule.calculateTaxAmount(sorted[i]), sortedTotals[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tablas y montos inválidos")
+    void shouldRejectInvalidInput() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> new TaxBracketSchedule(new double[] {}, new double[] {})),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> new TaxBracketSchedule(new double[] {100}, new double[] {10})),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> new TaxBracketSchedule(new double[] {0, 50, 50}, new double[] {0, 1, 2})),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> new TaxBracketSchedule(new double[] {0, 50}, new double[] {0, -1})),
+            () -> assertThrows(IllegalArgumentException.class, () -> schedule.calculateTaxAmount(-0.01))
+        );
+    }
+
+    private static double naiveTax(double amount) {
+        double tax = 0;
+        for (int i = 0; i < THRESHOLDS.length; i++) {
+            double upper = i + 1 < THRESHOLDS.length ? THRESHOLDS[i + 1] : Double.POSITIVE_INFINITY;
+            if (amount > THRESHOLDS[i]) {
+                tax += (Math.min(amount, upper) - THRESHOLDS[i]) * RATES[i] / 100;
+            }
+        }
+        return tax;
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -334,4 +337,96 @@ class TaxCalculatorTest {
             org.junit.jupiter.params.provider.Arguments.of(100.0, 0.0, 0.0)
         );
     }
+
+    // ==========================================
+    // TESTS DE LA API POR LOTES
+    // ==========================================
+
+    /**
+     * El cálculo por lotes debe coincidir exactamente con el cálculo fila a fila.
+     */
+    @Test
+    @DisplayName("Debería calcular un lote con tasa única igual que fila a fila")
+    void shouldCalculateBatchWithFlatRate() {
+        double[] amounts = {100.0, 29.99, 0.0, 1499.99};
+        double[] totals = new double[amounts.length];
+        double[] taxes = new double[amounts.length];
+        long[] rejected = new long[TaxCalculator.rejectedMaskLength(amounts.length)];
+
+        int rejectedCount = taxCalculator.calculateTotalsWithTax(amounts, 12.0, totals, taxes, rejected);
+
+        assertEquals(0, rejectedCount);
+        assertEquals(0L, rejected[0]);
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals(taxCalculator.calculateTotalWithTax(amounts[i], 12.0), totals[i]);
+            assertEquals(taxCalculator.calculateTaxAmount(amounts[i], 12.0), taxes[i]);
+        }
+    }
+
+    /**
+     * Las filas inválidas se reportan en la máscara sin abortar el lote.
+     */
+    @Test
+    @DisplayName("Debería marcar filas negativas sin lanzar excepción")
+    void shouldReportNegativeRowsInMask() {
+        double[] amounts = new double[70];
+        double[] rates = new double[70];
+        Arrays.fill(amounts, 100.0);
+        Arrays.fill(rates, 10.0);
+        amounts[1] = -5.0;
+        rates[65] = -1.0;
+        double[] totals = new double[70];
+        long[] rejected = new long[TaxCalculator.rejectedMaskLength(70)];
+
+        int rejectedCount = taxCalculator.calculateTotalsWithTax(amounts, rates, totals, null, rejected);
+
+        int[] indices = new int[rejectedCount];
+        assertAll(
+            () -> assertEquals(2, rejectedCount),
+            () -> assertEquals(2, TaxCalculator.rejectedIndices(rejected, 70, indices)),
+            () -> assertArrayEquals(new int[] {1, 65}, indices),
+            () -> assertTrue(Double.isNaN(totals[1])),
+            () -> assertTrue(Double.isNaN(totals[65])),
+            () -> assertEquals(110.0, totals[0], 0.001)
+        );
+    }
+
+    /**
+     * Una tasa única negativa invalida todo el lote.
+     */
+    @Test
+    @DisplayName("Debería lanzar excepción si la tasa única del lote es negativa")
+    void shouldThrowForNegativeBatchRate() {
+        double[] amounts = {100.0};
+        assertThrows(IllegalArgumentException.class,
+            () -> taxCalculator.calculateTotalsWithTax(amounts, -1.0, new double[1], null, null));
+    }
+
+    /**
+     * Los buffers directos y de arreglo deben producir los mismos resultados.
+     */
+    @ParameterizedTest(name = "Buffers directos: {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Debería calcular lotes sobre DoubleBuffer")
+    void shouldCalculateBatchOverBuffers(boolean direct) {
+        double[] values = {-1.0, 100.0, 200.0};
+        DoubleBuffer amounts = direct
+            ? ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer().put(values).flip()
+            : DoubleBuffer.wrap(values);
+        DoubleBuffer rates = DoubleBuffer.wrap(new double[] {10.0, 10.0, 15.0});
+        DoubleBuffer totals = direct
+            ? ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer()
+            : DoubleBuffer.allocate(values.length);
+        long[] rejected = new long[1];
+
+        int rejectedCount = taxCalculator.calculateTotalsWithTax(amounts, rates, totals, null, rejected);
+
+        assertAll(
+            () -> assertEquals(1, rejectedCount),
+            () -> assertEquals(1L, rejected[0]),
+            () -> assertEquals(0, totals.position()),
+            () -> assertEquals(110.0, totals.get(1), 0.001),
+            () -> assertEquals(230.0, totals.get(2), 0.001)
+        );
+    }
 }
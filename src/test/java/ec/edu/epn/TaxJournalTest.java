@@ -0,0 +1,128 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para TaxJournal.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class TaxJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final TaxCalculator taxCalculator = new TaxCalculator();
+
+    @Test
+    @DisplayName("Debería anexar, rotar segmentos y reconstruir agregados al reproducir")
+    void shouldAppendRollAndReplay() throws IOException {
+        try (TaxJournal journal = TaxJournal.open(tempDir, 8, 3)) {
+            for (int i = 0; i < 20; i++) {
+                assertEquals(i, appendCalculated(journal, 100.0 + i, 12.0));
+            }
+            assertEquals(20, journal.size());
+        }
+        assertEquals(3, segmentFiles().size());
+
+        List<Long> sequences = new ArrayList<>();
+        CompensatedSum taxes = new CompensatedSum();
+        long replayed = TaxJournal.replay(tempDir, (sequence, amount, rate, tax, total) -> {
+            sequences.add(sequence);
+            taxes.add(tax);
+            assertEquals(taxCalculator.calculateTotalWithTax(amount, rate), total);
+        });
+
+        double expectedTaxes = 0;
+        for (int i = 0; i < 20; i++) {
+            expectedTaxes += taxCalculator.calculateTaxAmount(100.0 + i, 12.0);
+        }
+        assertEquals(20, replayed);
+        assertEquals(19L, sequences.get(19));
+        assertEquals(expectedTaxes, taxes.sum(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Debería continuar después del último registro válido tras una escritura interrumpida")
+    void shouldRecoverAfterTornWrite() throws IOException {
+        try (TaxJournal journal = TaxJournal.open(tempDir, 16, 0)) {
+            for (int i = 0; i < 5; i++) {
+                appendCalculated(journal, 10.0 * (i + 1), 15.0);
+            }
+            journal.sync(4);
+        }
+        // Simula una escritura a medias del registro 3: el total ya no coincide con la suma de verificación.
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), 3L * TaxJournal.RECORD_SIZE + 33);
+        }
+
+        try (TaxJournal journal = TaxJournal.open(tempDir, 16, 0)) {
+            assertEquals(3, journal.size());
+            assertEquals(3, appendCalculated(journal, 99.0, 15.0));
+        }
+
+        List<Double> amounts = new ArrayList<>();
+        TaxJournal.replay(tempDir, (sequence, amount, rate, tax, total) -> amounts.add(amount));
+        assertEquals(List.of(10.0, 20.0, 30.0, 99.0), amounts);
+    }
+
+    @Test
+    @DisplayName("Debería agrupar sincronizaciones de varios hilos")
+    void shouldGroupCommitFromManyThreads() throws Exception {
+        try (TaxJournal journal = TaxJournal.open(tempDir, 1000, 0)) {
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread writer = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 250; i++) {
+                            journal.sync(appendCalculated(journal, i, 10.0));
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writers.add(writer);
+                writer.start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertEquals(1000, journal.size());
+        }
+        assertEquals(1000, TaxJournal.replay(tempDir, (sequence, amount, rate, tax, total) -> { }));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar anexos después de cerrar")
+    void shouldRejectAppendAfterClose() throws IOException {
+        TaxJournal journal = TaxJournal.open(tempDir, 4, 0);
+        journal.close();
+        assertThrows(IllegalStateException.class, () -> journal.append(1, 1, 1, 1));
+    }
+
+    private long appendCalculated(TaxJournal journal, double amount, double rate) throws IOException {
+        return journal.append(amount, rate,
+            taxCalculator.calculateTaxAmount(amount, rate), taxCalculator.calculateTotalWithTax(amount, rate));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.sorted().toList();
+        }
+    }
+}
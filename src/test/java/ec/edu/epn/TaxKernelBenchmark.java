@@ -0,0 +1,53 @@
+package ec.edu.epn;
+
+import java.util.Random;
+
+/**
+ * Compara la ruta escalar por fila, la ruta escalar por lotes y el motor SIMD.
+ *
+ * Ejecución:
+ * <pre>
+ * mvn test-compile
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes ec.edu.epn.TaxKernelBenchmark
+ * </pre>
+ */
+public class TaxKernelBenchmark {
+
+    private static final int ROWS = 1 << 16;
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        double[] amounts = new double[ROWS];
+        double[] rates = new double[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            amounts[i] = random.nextDouble() * 1000;
+            rates[i] = random.nextInt(30);
+        }
+        double[] totals = new double[ROWS];
+        double[] taxes = new double[ROWS];
+        long[] mask = new long[TaxCalculator.rejectedMaskLength(ROWS)];
+
+        TaxCalculator calculator = new TaxCalculator();
+        VectorTaxEngine scalar = new VectorTaxEngine(false);
+        VectorTaxEngine vector = new VectorTaxEngine();
+        System.out.println("Vector API disponible: " + vector.isVectorized());
+
+        MicroBenchmark.run("por fila (calculateTotalWithTax)", ROWS, () -> {
+            for (int i = 0; i < ROWS; i++) {
+                totals[i] = calculator.calculateTotalWithTax(amounts[i], rates[i]);
+            }
+            return (long) totals[ROWS - 1];
+        });
+        double scalarFlat = MicroBenchmark.run("lote escalar, tasa única", ROWS,
+            () -> scalar.calculateTotalsWithTax(amounts, 12.0, totals, taxes, mask));
+        double vectorFlat = MicroBenchmark.run("lote SIMD, tasa única", ROWS,
+            () -> vector.calculateTotalsWithTax(amounts, 12.0, totals, taxes, mask));
+        double scalarColumn = MicroBenchmark.run("lote escalar, columna de tasas", ROWS,
+            () -> scalar.calculateTotalsWithTax(amounts, rates, totals, taxes, mask));
+        double vectorColumn = MicroBenchmark.run("lote SIMD, columna de tasas", ROWS,
+            () -> vector.calculateTotalsWithTax(amounts, rates, totals, taxes, mask));
+
+        System.out.printf("Aceleración tasa única: %.2fx, columna de tasas: %.2fx%n",
+            scalarFlat / vectorFlat, scalarColumn / vectorColumn);
+    }
+}
@@ -0,0 +1,128 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para TaxScenarioMatrix.
+ *
+ * Los resultados se comparan contra llamadas individuales a TaxCalculator.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class TaxScenarioMatrixTest {
+
+    private static final double[] RATES = {0.0, 12.0, 15.0, 21.0};
+
+    private TaxCalculator taxCalculator;
+    private double[] amounts;
+
+    @BeforeEach
+    void setUp() {
+        taxCalculator = new TaxCalculator();
+        Random random = new Random(21);
+        amounts = new double[TaxScenarioMatrix.TILE_SIZE * 3 + 17];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = random.nextDouble() * 2000;
+        }
+        amounts[5] = -1.0;
+    }
+
+    @Test
+    @DisplayName("Debería calcular la matriz completa igual que fila a fila")
+    void shouldComputeFullMatrix() {
+        double[] totals = new double[RATES.length * amounts.length];
+
+        new TaxScenarioMatrix().computeTotals(amounts, RATES, totals);
+
+        for (int s = 0; s < RATES.length; s++) {
+            for (int i = 0; i < amounts.length; i++) {
+                double actual = totals[s * amounts.length + i];
+                if (amounts[i] < 0) {
+                    assertTrue(Double.isNaN(actual));
+                } else {
+                    assertEquals(taxCalculator.calculateTotalWithTax(amounts[i], RATES[s]), actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debería agregar suma, mínimo, máximo y tramos por escenario")
+    void shouldAggregateScenarios() {
+        double[] buckets = {0, 500, 1000};
+
+        ScenarioAggregates aggregates = new TaxScenarioMatrix().aggregate(amounts, RATES, buckets);
+
+        assertEquals(amounts.length - 1, aggregates.getValidCount());
+        assertEquals(1, aggregates.getRejectedCount());
+        for (int s = 0; s < RATES.length; s++) {
+            double sum = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            double[] bucketSums = new double[buckets.length];
+            for (double amount : amounts) {
+                if (amount < 0) {
+                    continue;
+                }
+                double total = taxCalculator.calculateTotalWithTax(amount, RATES[s]);
+                sum += total;
+                min = Math.min(min, total);
+                max = Math.max(max, total);
+                bucketSums[amount < 500 ? 0 : amount < 1000 ? 1 : 2] += total;
+            }
+            assertEquals(sum, aggregates.getTotal(s), 1e-6);
+            assertEquals(min, aggregates.getMinTotal(s));
+            assertEquals(max, aggregates.getMaxTotal(s));
+            for (int b = 0; b < buckets.length; b++) {
+                assertEquals(bucketSums[b], aggregates.getBucketTotal(s, b), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tasas negativas, tramos inválidos y salidas cortas")
+    void shouldRejectInvalidInput() {
+        TaxScenarioMatrix matrix = new TaxScenarioMatrix();
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> matrix.aggregate(amounts, new double[] {-1.0}, null)),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> matrix.aggregate(amounts, RATES, new double[] {10, 20})),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> matrix.computeTotals(amounts, RATES, new double[amounts.length]))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería manejar un conjunto de montos vacío")
+    void shouldHandleEmptyAmounts() {
+        ScenarioAggregates aggregates = new TaxScenarioMatrix().aggregate(new double[0], RATES, null);
+
+        assertAll(
+            () -> assertEquals(0, aggregates.getValidCount()),
+            () -> assertEquals(0.0, aggregates.getTotal(1)),
+            () -> assertTrue(Double.isNaN(aggregates.getMinTotal(1)))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería rechazar índices de escenario y de tramo fuera de rango")
+    void shouldRejectOutOfRangeIndexes() {
+        ScenarioAggregates aggregates = new TaxScenarioMatrix().aggregate(amounts, RATES, new double[] {0.0, 100.0});
+        ScenarioAggregates empty = new TaxScenarioMatrix().aggregate(new double[0], RATES, null);
+        int scenarios = RATES.length;
+        assertAll(
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> aggregates.getTotal(scenarios)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> aggregates.getMinTotal(-1)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> empty.getMaxTotal(scenarios)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> aggregates.getBucketTotal(scenarios, 0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> aggregates.getBucketTotal(0, 2))
+        );
+    }
+}
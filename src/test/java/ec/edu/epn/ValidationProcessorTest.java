@@ -0,0 +1,337 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para ValidationProcessor.
+ *
+ * Usa un publicador manual para observar la demanda que llega al origen y un
+ * suscriptor que registra todas las señales que recibe.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class ValidationProcessorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "lotes de {0}, capacidad {1}")
+    @CsvSource({"1, 1", "16, 64", "64, 1000"})
+    @DisplayName("Debería emitir todos los resultados en el orden de llegada")
+    void shouldEmitResultsInOrder(int batchSize, int bufferCapacity) throws InterruptedException {
+        EmailValidator emailValidator = new EmailValidator();
+        ValidationProcessor<String> processor = new ValidationProcessor<>(email -> {
+            // Demoras aleatorias para que los lotes terminen fuera de orden.
+            if (ThreadLocalRandom.current().nextInt(50) == 0) {
+                sleepQuietly(1);
+            }
+            return emailValidator.isValidEmail(email);
+        }, executor, batchSize, bufferCapacity);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+
+        List<String> emails = new ArrayList<>();
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, 32)) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 3000; i++) {
+                String email = i % 3 == 0 ? "usuario" + i + "@dominio.com" : "invalido" + i;
+                emails.add(email);
+                publisher.submit(email);
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertAll(
+            () -> assertNull(subscriber.error),
+            () -> assertTrue(subscriber.completed),
+            () -> assertEquals(emails.size(), subscriber.items.size())
+        );
+        for (int i = 0; i < emails.size(); i++) {
+            ValidatedItem<String> item = subscriber.items.get(i);
+            assertEquals(emails.get(i), item.getValue());
+            assertEquals(emailValidator.isValidEmail(emails.get(i)), item.isValid());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería pedir al origen solo lo que cabe en el buffer")
+    void shouldBoundUpstreamDemand() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.forEmails(new EmailValidator(), executor, 4, 8);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        processor.subscribe(subscriber);
+        ManualSubscription upstream = new ManualSubscription();
+        processor.onSubscribe(upstream);
+
+        assertEquals(8, upstream.requested.get());
+        for (int i = 0; i < 8; i++) {
+            processor.onNext("a" + i + "@b.com");
+        }
+        Thread.sleep(50);
+        assertAll(
+            () -> assertEquals(8, upstream.requested.get()),
+            () -> assertTrue(subscriber.items.isEmpty())
+        );
+
+        subscriber.subscription.request(3);
+        waitFor(() -> subscriber.items.size() == 3);
+        assertEquals(8, upstream.requested.get());
+
+        subscriber.subscription.request(1);
+        waitFor(() -> subscriber.items.size() == 4);
+        assertEquals(12, upstream.requested.get());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar con el mensaje de StringValidator")
+    void shouldCarryStringValidatorMessage() throws InterruptedException {
+        ValidationProcessor<String> processor =
+            ValidationProcessor.forNonEmptyStrings(new StringValidator(), executor, 2, 4);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new ManualSubscription());
+
+        processor.onNext("hola");
+        processor.onNext("   ");
+        processor.onComplete();
+
+        assertTrue(subscriber.await());
+        assertAll(
+            () -> assertTrue(subscriber.items.get(0).isValid()),
+            () -> assertNull(subscriber.items.get(0).getMessage()),
+            () -> assertFalse(subscriber.items.get(1).isValid()),
+            () -> assertEquals("Input cannot be empty.", subscriber.items.get(1).getMessage())
+        );
+    }
+
+    @Test
+    @DisplayName("Debería rechazar con el mensaje del estado de validación")
+    void shouldCarryStatusMessage() throws InterruptedException {
+        StringValidator stringValidator = new StringValidator();
+        ValidationProcessor<String> processor =
+            ValidationProcessor.forStatusCheck(stringValidator::checkPalindrome, executor, 2, 4);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new ManualSubscription());
+
+        processor.onNext("reconocer");
+        processor.onNext("Hola");
+        processor.onNext("");
+        processor.onComplete();
+
+        assertTrue(subscriber.await());
+        assertAll(
+            () -> assertTrue(subscriber.items.get(0).isValid()),
+            () -> assertNull(subscriber.items.get(0).getMessage()),
+            () -> assertEquals(ValidationStatus.NOT_PALINDROME.getMessage(), subscriber.items.get(1).getMessage()),
+            () -> assertEquals(ValidationStatus.EMPTY_INPUT.getMessage(), subscriber.items.get(2).getMessage()),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> ValidationProcessor.forStatusCheck(null, executor, 1, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("Debería entregar los resultados pendientes antes del error del origen")
+    void shouldDelayUpstreamError() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.forEmails(new EmailValidator(), executor, 4, 8);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new ManualSubscription());
+
+        IllegalStateException failure = new IllegalStateException("origen caído");
+        processor.onNext("a@b.com");
+        processor.onNext("malo");
+        processor.onError(failure);
+
+        assertTrue(subscriber.await());
+        assertAll(
+            () -> assertEquals(2, subscriber.items.size()),
+            () -> assertSame(failure, subscriber.error),
+            () -> assertFalse(subscriber.completed)
+        );
+    }
+
+    @Test
+    @DisplayName("Debería terminar con error y cancelar el origen si el validador falla")
+    void shouldFailWhenValidatorThrows() throws InterruptedException {
+        ValidationProcessor<String> processor = new ValidationProcessor<>(input -> {
+            throw new IllegalStateException("fallo interno");
+        }, executor, 4, 8);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        ManualSubscription upstream = new ManualSubscription();
+        processor.onSubscribe(upstream);
+
+        processor.onNext("x");
+
+        assertTrue(subscriber.await());
+        assertAll(
+            () -> assertInstanceOf(IllegalStateException.class, subscriber.error),
+            () -> assertTrue(upstream.cancelled.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Debería señalar error ante una demanda no positiva")
+    void shouldFailOnNonPositiveRequest() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.forEmails(new EmailValidator(), executor, 1, 1);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        processor.subscribe(subscriber);
+        ManualSubscription upstream = new ManualSubscription();
+        processor.onSubscribe(upstream);
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.await());
+        assertAll(
+            () -> assertInstanceOf(IllegalArgumentException.class, subscriber.error),
+            () -> assertTrue(upstream.cancelled.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Debería cancelar el origen cuando el suscriptor cancela")
+    void shouldPropagateCancel() {
+        ValidationProcessor<String> processor = ValidationProcessor.forEmails(new EmailValidator(), executor, 1, 1);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        processor.subscribe(subscriber);
+        ManualSubscription upstream = new ManualSubscription();
+        processor.onSubscribe(upstream);
+
+        subscriber.subscription.cancel();
+
+        assertTrue(upstream.cancelled.get());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un segundo suscriptor")
+    void shouldRejectSecondSubscriber() {
+        ValidationProcessor<String> processor = ValidationProcessor.forEmails(new EmailValidator(), executor, 1, 1);
+        processor.subscribe(new RecordingSubscriber<>(0));
+        RecordingSubscriber<String> second = new RecordingSubscriber<>(0);
+
+        processor.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una configuración inválida")
+    void shouldRejectInvalidConfiguration() {
+        EmailValidator validator = new EmailValidator();
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> ValidationProcessor.forEmails(null, executor, 1, 1)),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> ValidationProcessor.forEmails(validator, null, 1, 1)),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> ValidationProcessor.forEmails(validator, executor, 0, 1)),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> ValidationProcessor.forEmails(validator, executor, 8, 4))
+        );
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "tiempo de espera agotado");
+            Thread.sleep(1);
+        }
+        // Deja pasar señales tardías que romperían la aserción siguiente.
+        Thread.sleep(20);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Suscripción de origen que solo registra la demanda y la cancelación.
+     */
+    private static final class ManualSubscription implements Flow.Subscription {
+        final AtomicLong requested = new AtomicLong();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+    }
+
+    /**
+     * Suscriptor que pide una demanda inicial y registra todas las señales.
+     */
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<ValidatedItem<T>> {
+        final List<ValidatedItem<T>> items = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final long initialRequest;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        boolean await() throws InterruptedException {
+            return terminated.await(10, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(ValidatedItem<T> item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package ec.edu.epn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Clase de pruebas unitarias para VectorTaxEngine.
+ *
+ * Verifica que la ruta SIMD y la ruta escalar produzcan resultados idénticos
+ * bit a bit, incluyendo la cola del lote que no llena un vector completo.
+ *
+ * @author Laboratorio de Pruebas Unitarias - JUnit 5
+ */
+class VectorTaxEngineTest {
+
+    private TaxCalculator taxCalculator;
+
+    @BeforeEach
+    void setUp() {
+        taxCalculator = new TaxCalculator();
+    }
+
+    @Test
+    @DisplayName("Debería usar SIMD cuando el módulo incubado está disponible")
+    void shouldBeVectorizedWhenModuleIsPresent() {
+        assertEquals(VectorSupport.AVAILABLE, new VectorTaxEngine().isVectorized());
+    }
+
+    @ParameterizedTest(name = "Lote de {0} filas con tasa única")
+    @ValueSource(ints = {0, 1, 7, 64, 1000, 1027})
+    @DisplayName("Debería coincidir con la ruta escalar usando tasa única")
+    void shouldMatchScalarPathWithFlatRate(int rows) {
+        assumeTrue(VectorSupport.AVAILABLE, "jdk.incubator.vector no disponible");
+        double[] amounts = randomAmounts(rows, 42);
+        int words = TaxCalculator.rejectedMaskLength(rows);
+
+        double[] expectedTotals = new double[rows];
+        double[] expectedTaxes = new double[rows];
+        long[] expectedMask = new long[words];
+        int expectedRejected = taxCalculator.calculateTotalsWithTax(
+            amounts, 12.0, expectedTotals, expectedTaxes, expectedMask);
+
+        double[] totals = new double[rows];
+        double[] taxes = new double[rows];
+        long[] mask = new long[words];
+        int rejected = new VectorTaxEngine(true).calculateTotalsWithTax(amounts, 12.0, totals, taxes, mask);
+
+        assertAll(
+            () -> assertEquals(expectedRejected, rejected),
+            () -> assertArrayEquals(expectedMask, mask),
+            () -> assertArrayEquals(expectedTotals, totals),
+            () -> assertArrayEquals(expectedTaxes, taxes)
+        );
+    }
+
+    @ParameterizedTest(name = "Lote de {0} filas con columna de tasas")
+    @ValueSource(ints = {0, 3, 64, 1029})
+    @DisplayName("Debería coincidir con la ruta escalar usando columna de tasas")
+    void shouldMatchScalarPathWithRateColumn(int rows) {
+        assumeTrue(VectorSupport.AVAILABLE, "jdk.incubator.vector no disponible");
+        double[] amounts = randomAmounts(rows, 7);
+        double[] rates = randomAmounts(rows, 11);
+        int words = TaxCalculator.rejectedMaskLength(rows);
+
+        double[] expectedTotals = new double[rows];
+        long[] expectedMask = new long[words];
+        int expectedRejected = taxCalculator.calculateTotalsWithTax(
+            amounts, rates, expectedTotals, null, expectedMask);
+
+        double[] totals = new double[rows];
+        long[] mask = new long[words];
+        int rejected = new VectorTaxEngine(true).calculateTotalsWithTax(amounts, rates, totals, null, mask);
+
+        assertAll(
+            () -> assertEquals(expectedRejected, rejected),
+            () -> assertArrayEquals(expectedMask, mask),
+            () -> assertArrayEquals(expectedTotals, totals)
+        );
+    }
+
+    @Test
+    @DisplayName("Debería calcular correctamente con la ruta escalar de respaldo")
+    void shouldCalculateWithScalarFallback() {
+        VectorTaxEngine engine = new VectorTaxEngine(false);
+        double[] totals = new double[3];
+        long[] mask = new long[1];
+
+        int rejected = engine.calculateTotalsWithTax(new double[] {100.0, -1.0, 50.0}, 20.0, totals, null, mask);
+
+        assertAll(
+            () -> assertFalse(engine.isVectorized()),
+            () -> assertEquals(1, rejected),
+            () -> assertEquals(0b10L, mask[0]),
+            () -> assertEquals(120.0, totals[0], 0.001),
+            () -> assertEquals(60.0, totals[2], 0.001)
+        );
+    }
+
+    /**
+     * Genera montos aleatorios con aproximadamente un 5% de valores negativos.
+     */
+    private static double[] randomAmounts(int rows, long seed) {
+        Random random = new Random(seed);
+        double[] amounts = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            double value = random.nextDouble() * 1000;
+            amounts[i] = random.nextInt(20) == 0 ? -value : value;
+        }
+        return amounts;
+    }
+}